@@ -0,0 +1,27 @@
+package com.campus.incident.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "incident.archive")
+public class ArchiveProperties {
+
+    // Run the archival job on its schedule (it can always be triggered manually)
+    private boolean enabled = true;
+
+    // CLOSED / CANCELLED incidents not updated for this many days are archived
+    private int minAgeDays = 365;
+
+    // Incidents moved per transaction
+    private int batchSize = 500;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMinAgeDays() { return minAgeDays; }
+    public void setMinAgeDays(int minAgeDays) { this.minAgeDays = minAgeDays; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+}
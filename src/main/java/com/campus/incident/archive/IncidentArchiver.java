@@ -0,0 +1,121 @@
+package com.campus.incident.archive;
+
+import com.campus.incident.location.LocationIndex;
+import com.campus.incident.repository.IncidentArchiveRepository;
+import com.campus.incident.repository.IncidentReportRepository;
+import com.campus.incident.repository.IncidentViewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Moves CLOSED / CANCELLED incidents older than incident.archive.min-age-days,
+// with their resolution logs and status updates, into the archive tables.
+// Each batch is its own transaction, so a long run never holds locks on the
+// whole backlog and an interrupted run simply resumes on the next batch.
+@Component
+public class IncidentArchiver {
+
+    @Autowired
+    private IncidentArchiveRepository archiveRepository;
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    @Autowired
+    private IncidentViewRepository viewRepository;
+
+    @Autowired
+    private LocationIndex locationIndex;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ArchiveProperties properties;
+
+    private volatile boolean running;
+
+    @Scheduled(cron = "${incident.archive.cron:0 30 2 * * *}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            archive();
+        }
+    }
+
+    public synchronized Map<String, Object> archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getMinAgeDays());
+        int batchSize = Math.max(1, properties.getBatchSize());
+
+        running = true;
+        int batches = 0;
+        int incidents = 0;
+        int logs = 0;
+        int updates = 0;
+        try {
+            while (true) {
+                int[] moved = transactionTemplate.execute(status -> archiveBatch(cutoff, batchSize));
+                if (moved == null || moved[0] == 0) {
+                    break;
+                }
+                batches++;
+                incidents += moved[0];
+                logs += moved[1];
+                updates += moved[2];
+                if (moved[0] < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            running = false;
+        }
+
+        if (incidents > 0) {
+            // Location totals count every incident in the hot table
+            locationIndex.rebuild();
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("cutoff", cutoff);
+        result.put("batches", batches);
+        result.put("incidentsArchived", incidents);
+        result.put("resolutionLogsArchived", logs);
+        result.put("statusUpdatesArchived", updates);
+        return result;
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("hotIncidents", incidentRepository.count());
+        stats.put("archivedIncidents", archiveRepository.count());
+        stats.put("lastArchivedAt", archiveRepository.findLastArchivedAt());
+        stats.put("minAgeDays", properties.getMinAgeDays());
+        stats.put("batchSize", properties.getBatchSize());
+        stats.put("running", running);
+        return stats;
+    }
+
+    private int[] archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> ids = archiveRepository.findArchivableIds(cutoff, Pageable.ofSize(batchSize));
+        if (ids.isEmpty()) {
+            return new int[] {0, 0, 0};
+        }
+
+        // Copy first, then delete children before their incidents
+        LocalDateTime now = LocalDateTime.now();
+        int incidents = archiveRepository.copyIncidents(ids, now);
+        int logs = archiveRepository.copyResolutionLogs(ids);
+        int updates = archiveRepository.copyStatusUpdates(ids);
+        archiveRepository.deleteResolutionLogs(ids);
+        archiveRepository.deleteStatusUpdates(ids);
+        archiveRepository.deleteIncidents(ids);
+        viewRepository.deleteByIds(ids);
+        return new int[] {incidents, logs, updates};
+    }
+}
@@ -0,0 +1,25 @@
+package com.campus.incident.assignment;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "incident.assignment")
+public class AssignmentProperties {
+
+    // Assign new incidents to the least-loaded matching maintenance user on creation
+    private boolean autoAssign = false;
+
+    // Maintenance username -> category names they handle; unlisted staff take any category
+    private Map<String, List<String>> skills = new HashMap<>();
+
+    public boolean isAutoAssign() { return autoAssign; }
+    public void setAutoAssign(boolean autoAssign) { this.autoAssign = autoAssign; }
+
+    public Map<String, List<String>> getSkills() { return skills; }
+    public void setSkills(Map<String, List<String>> skills) { this.skills = skills; }
+}
@@ -0,0 +1,217 @@
+package com.campus.incident.assignment;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.User;
+import com.campus.incident.entity.UserRole;
+import com.campus.incident.repository.IncidentReportRepository;
+import com.campus.incident.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// In-memory view of each active MAINTENANCE user's weighted open workload
+// (sum of priority levels of their ASSIGNED / IN_PROGRESS incidents).
+// Built once from a grouped query, then kept current incrementally by the
+// service layer, so picking an assignee never runs counting queries.
+@Component
+public class WorkloadBalancer {
+
+    static final Set<IncidentStatus> LOAD_STATUSES = EnumSet.of(IncidentStatus.ASSIGNED, IncidentStatus.IN_PROGRESS);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    @Autowired
+    private AssignmentProperties properties;
+
+    private final Map<Long, Worker> workers = new HashMap<>();
+    private final Map<String, WorkloadHeap> specialists = new HashMap<>();
+    private WorkloadHeap generalists = new WorkloadHeap();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<Long, Long> loads = new HashMap<>();
+        for (Object[] row : incidentRepository.sumActiveWorkloadByAssignee()) {
+            loads.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+
+        workers.clear();
+        specialists.clear();
+        generalists = new WorkloadHeap();
+
+        for (User user : userRepository.findByRoleAndIsActive(UserRole.MAINTENANCE, true)) {
+            Worker worker = new Worker(user.getId(), user.getUsername(), loads.getOrDefault(user.getId(), 0L));
+            workers.put(worker.getUserId(), worker);
+
+            List<String> skills = properties.getSkills().get(user.getUsername());
+            if (skills == null || skills.isEmpty()) {
+                generalists.add(worker);
+                worker.heaps.add(generalists);
+            } else {
+                for (String category : skills) {
+                    WorkloadHeap heap = specialists.computeIfAbsent(category, c -> new WorkloadHeap());
+                    heap.add(worker);
+                    worker.heaps.add(heap);
+                }
+            }
+        }
+    }
+
+    // For set-based updates that bypass recordChange (e.g. status propagation to child incidents)
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuild();
+            }
+        });
+    }
+
+    // Picks the least-loaded worker for the category (specialists or generalists)
+    // and reserves the incident's weight on them; undone if the transaction rolls back.
+    public synchronized Worker assignLeastLoaded(String categoryName, int weight) {
+        WorkloadHeap heap = categoryName != null ? specialists.get(categoryName) : null;
+        Worker specialist = heap != null ? heap.peek() : null;
+        Worker generalist = generalists.peek();
+
+        Worker chosen;
+        if (specialist == null) {
+            chosen = generalist;
+        } else if (generalist == null) {
+            chosen = specialist;
+        } else {
+            chosen = specialist.getLoad() <= generalist.getLoad() ? specialist : generalist;
+        }
+        if (chosen == null) {
+            return null;
+        }
+
+        adjust(chosen.getUserId(), weight);
+        compensateOnRollback(chosen.getUserId(), -weight, null, 0);
+        return chosen;
+    }
+
+    // Applies the workload delta between two states of an incident
+    public void recordChange(Contribution before, Contribution after) {
+        if (before.sameAs(after)) {
+            return;
+        }
+        synchronized (this) {
+            adjust(before.assigneeId, -before.weight);
+            adjust(after.assigneeId, after.weight);
+        }
+        compensateOnRollback(before.assigneeId, before.weight, after.assigneeId, -after.weight);
+    }
+
+    public synchronized List<Map<String, Object>> getWorkloads() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        workers.values().stream()
+                .sorted(Comparator.comparingLong(Worker::getLoad).thenComparing(Worker::getUserId))
+                .forEach(worker -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("userId", worker.getUserId());
+                    row.put("username", worker.getUsername());
+                    row.put("weightedLoad", worker.getLoad());
+                    result.add(row);
+                });
+        return result;
+    }
+
+    private void adjust(Long userId, long delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        Worker worker = workers.get(userId);
+        if (worker == null) {
+            // Not an active MAINTENANCE user (e.g. an admin took the incident)
+            return;
+        }
+        worker.load = Math.max(0, worker.load + delta);
+        for (WorkloadHeap heap : worker.heaps) {
+            heap.update(worker);
+        }
+    }
+
+    private void compensateOnRollback(Long firstId, long firstDelta, Long secondId, long secondDelta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    synchronized (WorkloadBalancer.this) {
+                        adjust(firstId, firstDelta);
+                        adjust(secondId, secondDelta);
+                    }
+                }
+            }
+        });
+    }
+
+    static int weightOf(IncidentReport incident) {
+        return incident.getPriorityLevel() != null ? incident.getPriorityLevel() : 1;
+    }
+
+    public static final class Worker {
+        private final Long userId;
+        private final String username;
+        private long load;
+        private final List<WorkloadHeap> heaps = new ArrayList<>(1);
+
+        Worker(Long userId, String username, long load) {
+            this.userId = userId;
+            this.username = username;
+            this.load = load;
+        }
+
+        public Long getUserId() { return userId; }
+        public String getUsername() { return username; }
+        public long getLoad() { return load; }
+    }
+
+    // Who carries an incident's workload weight, if anyone
+    public static final class Contribution {
+        private static final Contribution NONE = new Contribution(null, 0);
+
+        private final Long assigneeId;
+        private final int weight;
+
+        private Contribution(Long assigneeId, int weight) {
+            this.assigneeId = assigneeId;
+            this.weight = weight;
+        }
+
+        public static Contribution of(IncidentReport incident) {
+            if (incident.getAssignedTo() == null || !LOAD_STATUSES.contains(incident.getStatus())) {
+                return NONE;
+            }
+            return new Contribution(incident.getAssignedTo().getId(), weightOf(incident));
+        }
+
+        boolean sameAs(Contribution other) {
+            return Objects.equals(assigneeId, other.assigneeId) && weight == other.weight;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.campus.incident.assignment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Indexed binary min-heap of workers ordered by (load, id). Keeps each worker's
+// position so a load change is re-sifted in O(log n) instead of rebuilt.
+// Not thread-safe; WorkloadBalancer guards access.
+class WorkloadHeap {
+
+    private final List<WorkloadBalancer.Worker> heap = new ArrayList<>();
+    private final Map<Long, Integer> positions = new HashMap<>();
+
+    void add(WorkloadBalancer.Worker worker) {
+        heap.add(worker);
+        positions.put(worker.getUserId(), heap.size() - 1);
+        siftUp(heap.size() - 1);
+    }
+
+    WorkloadBalancer.Worker peek() {
+        return heap.isEmpty() ? null : heap.get(0);
+    }
+
+    boolean contains(Long userId) {
+        return positions.containsKey(userId);
+    }
+
+    // Restore heap order after the worker's load changed
+    void update(WorkloadBalancer.Worker worker) {
+        Integer index = positions.get(worker.getUserId());
+        if (index == null) {
+            return;
+        }
+        if (!siftUp(index)) {
+            siftDown(index);
+        }
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    private boolean siftUp(int index) {
+        boolean moved = false;
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!less(heap.get(index), heap.get(parent))) {
+                break;
+            }
+            swap(index, parent);
+            index = parent;
+            moved = true;
+        }
+        return moved;
+    }
+
+    private void siftDown(int index) {
+        int size = heap.size();
+        while (true) {
+            int left = 2 * index + 1;
+            int right = left + 1;
+            int smallest = index;
+            if (left < size && less(heap.get(left), heap.get(smallest))) {
+                smallest = left;
+            }
+            if (right < size && less(heap.get(right), heap.get(smallest))) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        WorkloadBalancer.Worker first = heap.get(a);
+        WorkloadBalancer.Worker second = heap.get(b);
+        heap.set(a, second);
+        heap.set(b, first);
+        positions.put(second.getUserId(), a);
+        positions.put(first.getUserId(), b);
+    }
+
+    private static boolean less(WorkloadBalancer.Worker a, WorkloadBalancer.Worker b) {
+        if (a.getLoad() != b.getLoad()) {
+            return a.getLoad() < b.getLoad();
+        }
+        return a.getUserId() < b.getUserId();
+    }
+}
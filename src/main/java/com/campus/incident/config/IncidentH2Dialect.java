@@ -0,0 +1,24 @@
+package com.campus.incident.config;
+
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.engine.jdbc.dialect.spi.DialectResolutionInfo;
+
+// H2 commits the open transaction on CREATE LOCAL TEMPORARY TABLE unless the table is
+// declared TRANSACTIONAL. Hibernate creates such a table for INSERT ... SELECT into
+// entities with pooled sequence ids (StatusUpdate rows for status propagation), which
+// would otherwise commit the surrounding service transaction halfway through.
+public class IncidentH2Dialect extends H2Dialect {
+
+    public IncidentH2Dialect() {
+        super();
+    }
+
+    public IncidentH2Dialect(DialectResolutionInfo info) {
+        super(info);
+    }
+
+    @Override
+    public String getTemporaryTableCreateOptions() {
+        return "transactional";
+    }
+}
@@ -1,12 +1,16 @@
 package com.campus.incident.config;
 
+import com.campus.incident.jfr.CredentialCheckEvent;
 import com.campus.incident.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -64,11 +68,14 @@ public class SecurityConfig {
                 // Maintenance endpoints - require MAINTENANCE or ADMIN role
                 .requestMatchers("/api/maintenance/**").hasAnyRole("MAINTENANCE", "ADMIN")
                 
+                // Analytics endpoints - require MAINTENANCE or ADMIN role
+                .requestMatchers("/api/analytics/**").hasAnyRole("MAINTENANCE", "ADMIN")
+                
                 // Default to requiring authentication
                 .anyRequest().authenticated()
             )
             .httpBasic(httpBasic -> {})
-            .userDetailsService(userDetailsService())
+            .authenticationProvider(credentialChecker())
             .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable())); // For H2 console
         
         return http.build();
@@ -92,6 +99,28 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
     
+    // The user lookup and BCrypt comparison behind HTTP Basic, emitting a
+    // CredentialCheckEvent for each attempt
+    private DaoAuthenticationProvider credentialChecker() {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider() {
+            @Override
+            public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+                CredentialCheckEvent event = CredentialCheckEvent.begin(authentication.getName());
+                try {
+                    Authentication result = super.authenticate(authentication);
+                    event.finish(null);
+                    return result;
+                } catch (AuthenticationException e) {
+                    event.finish(e);
+                    throw e;
+                }
+            }
+        };
+        provider.setUserDetailsService(userDetailsService());
+        provider.setPasswordEncoder(passwordEncoder());
+        return provider;
+    }
+    
     @Bean
     public UserDetailsService userDetailsService() {
         return new UserDetailsService() {
@@ -0,0 +1,36 @@
+package com.campus.incident.config;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+// Maps server.threads.mode onto Spring Boot's spring.threads.virtual.enabled, which
+// switches Tomcat request handling, the @Async task executor and the task scheduler
+// to virtual threads. Registered in META-INF/spring.factories.
+public class ThreadModeEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String MODE_PROPERTY = "server.threads.mode";
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        String mode = environment.getProperty(MODE_PROPERTY, "platform").trim().toLowerCase();
+
+        switch (mode) {
+            case "platform":
+                return;
+            case "virtual":
+                if (Runtime.version().feature() < 21) {
+                    throw new IllegalStateException(MODE_PROPERTY + "=virtual requires Java 21 or newer, running on "
+                            + Runtime.version());
+                }
+                environment.getPropertySources().addFirst(new MapPropertySource("serverThreadsMode",
+                        Map.of("spring.threads.virtual.enabled", "true")));
+                return;
+            default:
+                throw new IllegalStateException("Unsupported " + MODE_PROPERTY + ": " + mode + " (expected platform or virtual)");
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.ResolutionMetric;
+import com.campus.incident.entity.SketchDimension;
+import com.campus.incident.entity.TrendGranularity;
+import com.campus.incident.location.LocationIndex;
+import com.campus.incident.location.LocationPath;
+import com.campus.incident.resolution.ResolutionTimeStore;
+import com.campus.incident.sla.SlaEngine;
+import com.campus.incident.timeinstatus.TimeInStatusStats;
+import com.campus.incident.trend.TrendStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/analytics")
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    @Autowired
+    private LocationIndex locationIndex;
+
+    @Autowired
+    private TrendStore trendStore;
+
+    @Autowired
+    private SlaEngine slaEngine;
+
+    @Autowired
+    private ResolutionTimeStore resolutionTimes;
+
+    @Autowired
+    private TimeInStatusStats timeInStatus;
+
+    // Top locations by active incident count at a level (campus, building, floor, room)
+    @GetMapping("/hotspots")
+    public ResponseEntity<List<Map<String, Object>>> getHotspots(
+            @RequestParam(defaultValue = "building") String level,
+            @RequestParam(required = false) String under,
+            @RequestParam(defaultValue = "10") int limit) {
+        int depth = switch (level.toLowerCase()) {
+            case "campus" -> LocationPath.CAMPUS;
+            case "building" -> LocationPath.BUILDING;
+            case "floor" -> LocationPath.FLOOR;
+            case "room" -> LocationPath.ROOM;
+            default -> -1;
+        };
+        if (depth < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(locationIndex.hotspots(depth, under, Math.max(1, Math.min(limit, 100))));
+    }
+
+    // Incidents entering each status per hour or day in [from, to); defaults to the last 24 hours / 30 days
+    @GetMapping("/trends")
+    public ResponseEntity<List<Map<String, Object>>> getTrends(
+            @RequestParam(defaultValue = "hour") String granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Integer priority,
+            @RequestParam(required = false) IncidentStatus status) {
+        TrendGranularity bucketSize;
+        try {
+            bucketSize = TrendGranularity.valueOf(granularity.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from
+                : bucketSize == TrendGranularity.HOUR ? end.minusHours(24) : end.minusDays(30);
+        if (!start.isBefore(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(trendStore.query(bucketSize, start, end, categoryId, priority, status));
+    }
+
+    // How long incidents sit in each status before moving on (bottleneck report)
+    @GetMapping("/time-in-status")
+    public ResponseEntity<List<Map<String, Object>>> getTimeInStatus() {
+        return ResponseEntity.ok(timeInStatus.getReport());
+    }
+
+    // Per-category SLA breach counters and time-to-breach buckets of open incidents
+    @GetMapping("/sla")
+    public ResponseEntity<Map<String, Object>> getSlaDashboard() {
+        if (!slaEngine.isEnabled()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(slaEngine.getDashboard());
+    }
+
+    // MTTR and resolution-time quantiles (minutes) per category or worker over whole months [from, to];
+    // defaults to the last 12 months and p50 / p90 / p99
+    @GetMapping("/resolution-times")
+    public ResponseEntity<Map<String, Object>> getResolutionTimes(
+            @RequestParam(defaultValue = "resolve") String metric,
+            @RequestParam(defaultValue = "category") String by,
+            @RequestParam(required = false) Long id,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "0.5,0.9,0.99") double[] quantiles,
+            @RequestParam(defaultValue = "false") boolean monthly) {
+        ResolutionMetric resolutionMetric = switch (metric.toLowerCase()) {
+            case "resolve" -> ResolutionMetric.TIME_TO_RESOLVE;
+            case "close" -> ResolutionMetric.TIME_TO_CLOSE;
+            default -> null;
+        };
+        SketchDimension dimension = switch (by.toLowerCase()) {
+            case "category" -> SketchDimension.CATEGORY;
+            case "worker" -> SketchDimension.WORKER;
+            default -> null;
+        };
+        if (resolutionMetric == null || dimension == null || quantiles.length == 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        for (double q : quantiles) {
+            if (!(q >= 0 && q <= 1)) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+
+        YearMonth end;
+        YearMonth start;
+        try {
+            end = to != null ? YearMonth.parse(to) : YearMonth.now();
+            start = from != null ? YearMonth.parse(from) : end.minusMonths(11);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (start.isAfter(end)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(resolutionTimes.query(resolutionMetric, dimension, id, start, end, quantiles, monthly));
+    }
+}
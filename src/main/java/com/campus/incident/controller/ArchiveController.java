@@ -0,0 +1,29 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.archive.IncidentArchiver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/archive")
+@CrossOrigin(origins = "*")
+public class ArchiveController {
+
+    @Autowired
+    private IncidentArchiver incidentArchiver;
+
+    // Hot vs archived incident counts and the archival settings
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getArchiveStatistics() {
+        return ResponseEntity.ok(incidentArchiver.getStatistics());
+    }
+
+    // Archive eligible incidents now instead of waiting for the nightly run
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Object>> runArchive() {
+        return ResponseEntity.ok(incidentArchiver.archive());
+    }
+}
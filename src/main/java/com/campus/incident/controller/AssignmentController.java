@@ -0,0 +1,31 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.assignment.WorkloadBalancer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/assignment")
+@CrossOrigin(origins = "*")
+public class AssignmentController {
+
+    @Autowired
+    private WorkloadBalancer workloadBalancer;
+
+    // Current weighted workload per maintenance user, least loaded first
+    @GetMapping("/workloads")
+    public ResponseEntity<List<Map<String, Object>>> getWorkloads() {
+        return ResponseEntity.ok(workloadBalancer.getWorkloads());
+    }
+
+    // Re-seed workloads from the database (e.g. after adding maintenance staff)
+    @PostMapping("/rebuild")
+    public ResponseEntity<List<Map<String, Object>>> rebuildWorkloads() {
+        workloadBalancer.rebuild();
+        return ResponseEntity.ok(workloadBalancer.getWorkloads());
+    }
+}
@@ -0,0 +1,71 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.entity.IncidentCategory;
+import com.campus.incident.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@CrossOrigin(origins = "*")
+public class CacheStatisticsController {
+
+    private static final List<String> REGIONS = List.of(
+            User.class.getName(), IncidentCategory.class.getName(), "user-queries");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Get second-level / query cache hit and miss counts
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getCacheStatistics() {
+        Statistics statistics = getStatistics();
+
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        stats.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        stats.put("secondLevelCachePuts", statistics.getSecondLevelCachePutCount());
+        stats.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        stats.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        stats.put("queryCachePuts", statistics.getQueryCachePutCount());
+        stats.put("entityLoads", statistics.getEntityLoadCount());
+        stats.put("preparedStatements", statistics.getPrepareStatementCount());
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String regionName : REGIONS) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region == null) {
+                continue;
+            }
+            Map<String, Object> regionStats = new LinkedHashMap<>();
+            regionStats.put("hits", region.getHitCount());
+            regionStats.put("misses", region.getMissCount());
+            regionStats.put("puts", region.getPutCount());
+            regionStats.put("elementsInMemory", region.getElementCountInMemory());
+            regions.put(regionName, regionStats);
+        }
+        stats.put("regions", regions);
+
+        return ResponseEntity.ok(stats);
+    }
+
+    // Reset counters, e.g. before measuring a scenario
+    @DeleteMapping("/stats")
+    public ResponseEntity<Void> resetCacheStatistics() {
+        getStatistics().clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    private Statistics getStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -1,6 +1,11 @@
 package com.campus.incident.controller;
 
 import com.campus.incident.dto.CreateIncidentRequest;
+import com.campus.incident.dto.IncidentField;
+import com.campus.incident.dto.IncidentGroupSummary;
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.dto.TimelineCursor;
+import com.campus.incident.dto.TimelinePage;
 import com.campus.incident.entity.IncidentCategory;
 import com.campus.incident.entity.IncidentReport;
 import com.campus.incident.entity.IncidentStatus;
@@ -24,6 +29,7 @@ import jakarta.validation.Valid;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/incidents")
@@ -64,7 +70,7 @@ public class IncidentController {
     
     // Get all incidents (with pagination and filtering)
     @GetMapping
-    public ResponseEntity<Page<IncidentReport>> getAllIncidents(
+    public ResponseEntity<Page<IncidentSummary>> getAllIncidents(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
@@ -75,7 +81,8 @@ public class IncidentController {
             @RequestParam(required = false) Long assignedToId,
             @RequestParam(required = false) Integer priorityLevel,
             @RequestParam(required = false) Boolean isUrgent,
-            @RequestParam(required = false) String search) {
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
         
         User currentUser = getCurrentUser();
         
@@ -85,9 +92,9 @@ public class IncidentController {
         
         try {
             // Use service method that applies role-based filtering
-            Page<IncidentReport> incidents = incidentService.getIncidentsWithFilters(
+            Page<IncidentSummary> incidents = incidentService.getIncidentsWithFilters(
                 pageable, status, categoryId, reporterId, assignedToId, 
-                priorityLevel, isUrgent, search, currentUser);
+                priorityLevel, isUrgent, search, includeArchived, currentUser);
             return ResponseEntity.ok(incidents);
         } catch (Exception e) {
             e.printStackTrace();
@@ -96,6 +103,32 @@ public class IncidentController {
         }
     }
     
+    // Get incidents with a sparse fieldset, e.g. ?fields=id,status,title
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> getAllIncidentFields(
+            @RequestParam String fields,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) Long assignedToId) {
+        
+        Set<IncidentField> requested;
+        try {
+            requested = IncidentField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        User currentUser = getCurrentUser();
+        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        Page<Map<String, Object>> incidents = incidentService.getIncidentFieldsWithFilters(
+            pageable, requested, assignedToId, currentUser);
+        return ResponseEntity.ok(incidents);
+    }
+    
     // Create new incident
     @PostMapping
     public ResponseEntity<IncidentReport> createIncident(@RequestBody CreateIncidentRequest request) {
@@ -109,6 +142,7 @@ public class IncidentController {
             incident.setTitle(request.getTitle());
             incident.setDescription(request.getDescription());
             incident.setLocationDetails(request.getLocationDetails());
+            incident.setLocationPath(request.getLocationPath());
             incident.setCategory(category);
             incident.setPriorityLevel(request.getPriorityLevel());
             incident.setUrgent(request.getIsUrgent());
@@ -185,6 +219,26 @@ public class IncidentController {
         return ResponseEntity.ok(incident);
     }
     
+    // Get incident by ID with a sparse fieldset
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> getIncidentFields(@PathVariable Long id,
+                                                                 @RequestParam String fields) {
+        Set<IncidentField> requested;
+        try {
+            requested = IncidentField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        User currentUser = getCurrentUser();
+        Map<String, Object> incident = incidentService.getIncidentFields(id, requested, currentUser);
+        if (incident == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        return ResponseEntity.ok(incident);
+    }
+    
     // Update incident
     @PutMapping("/{id}")
     public ResponseEntity<IncidentReport> updateIncident(@PathVariable Long id, 
@@ -287,6 +341,63 @@ public class IncidentController {
         return ResponseEntity.ok(updated);
     }
     
+    // Group incident under a parent incident
+    @PatchMapping("/{id}/parent")
+    public ResponseEntity<IncidentReport> setParent(@PathVariable Long id,
+                                                  @RequestParam Long parentId) {
+        User currentUser = getCurrentUser();
+        IncidentReport updated = incidentService.setParentIncident(id, parentId, currentUser);
+        return ResponseEntity.ok(updated);
+    }
+    
+    // Remove incident from its group
+    @DeleteMapping("/{id}/parent")
+    public ResponseEntity<IncidentReport> removeParent(@PathVariable Long id) {
+        User currentUser = getCurrentUser();
+        IncidentReport updated = incidentService.setParentIncident(id, null, currentUser);
+        return ResponseEntity.ok(updated);
+    }
+    
+    // Parent incident with child counts (one aggregate query)
+    @GetMapping("/{id}/group")
+    public ResponseEntity<IncidentGroupSummary> getGroup(@PathVariable Long id) {
+        User currentUser = getCurrentUser();
+        if (!currentUser.getRole().isMaintenance()) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return ResponseEntity.ok(incidentService.getIncidentGroup(id));
+    }
+    
+    // All parent incidents with child counts
+    @GetMapping("/groups")
+    public ResponseEntity<Page<IncidentGroupSummary>> getGroups(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(incidentService.getIncidentGroups(pageable));
+    }
+    
+    // Resolution logs and status changes merged by time; pass nextCursor back to get the following page
+    @GetMapping("/{id}/timeline")
+    public ResponseEntity<TimelinePage> getTimeline(@PathVariable Long id,
+                                                    @RequestParam(required = false) String cursor,
+                                                    @RequestParam(defaultValue = "50") int limit) {
+        IncidentReport incident = incidentService.getIncidentById(id);
+        User currentUser = getCurrentUser();
+        if (!incidentService.canUserViewIncident(incident, currentUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        
+        TimelineCursor after;
+        try {
+            after = cursor != null && !cursor.isEmpty() ? TimelineCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
+        return ResponseEntity.ok(incidentService.getIncidentTimeline(id, after, Math.max(1, Math.min(limit, 200))));
+    }
+    
     // Add resolution log
     @PostMapping("/{id}/logs")
     public ResponseEntity<Void> addResolutionLog(@PathVariable Long id,
@@ -329,66 +440,91 @@ public class IncidentController {
     
     // Search incidents
     @GetMapping("/search")
-    public ResponseEntity<Page<IncidentReport>> searchIncidents(
+    public ResponseEntity<Page<IncidentSummary>> searchIncidents(
+            @RequestParam(required = false, defaultValue = "") String searchTerm,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        
+        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+        Pageable pageable = PageRequest.of(page, size, sort);
+        
+        Page<IncidentSummary> incidents = incidentService.searchIncidents(searchTerm, includeArchived, pageable);
+        return ResponseEntity.ok(incidents);
+    }
+    
+    // Search incidents with a sparse fieldset
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> searchIncidentFields(
+            @RequestParam String fields,
             @RequestParam(required = false, defaultValue = "") String searchTerm,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String sortDir) {
         
+        Set<IncidentField> requested;
+        try {
+            requested = IncidentField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        Page<IncidentReport> incidents = incidentService.searchIncidents(searchTerm, pageable);
+        Page<Map<String, Object>> incidents = incidentService.searchIncidentFields(searchTerm, requested, pageable);
         return ResponseEntity.ok(incidents);
     }
     
     // Get incidents by status
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<IncidentReport>> getIncidentsByStatus(@PathVariable IncidentStatus status) {
-        List<IncidentReport> incidents = incidentService.getIncidentsByStatus(status);
+    public ResponseEntity<List<IncidentSummary>> getIncidentsByStatus(@PathVariable IncidentStatus status) {
+        List<IncidentSummary> incidents = incidentService.getIncidentsByStatus(status);
         return ResponseEntity.ok(incidents);
     }
     
     // Get incidents by category
     @GetMapping("/category/{categoryId}")
-    public ResponseEntity<List<IncidentReport>> getIncidentsByCategory(@PathVariable Long categoryId) {
-        List<IncidentReport> incidents = incidentService.getIncidentsByCategory(categoryId);
+    public ResponseEntity<List<IncidentSummary>> getIncidentsByCategory(@PathVariable Long categoryId) {
+        List<IncidentSummary> incidents = incidentService.getIncidentsByCategory(categoryId);
         return ResponseEntity.ok(incidents);
     }
     
     // Get incidents by reporter
     @GetMapping("/reporter/{reporterId}")
-    public ResponseEntity<List<IncidentReport>> getIncidentsByReporter(@PathVariable Long reporterId) {
-        List<IncidentReport> incidents = incidentService.getIncidentsByReporter(reporterId);
+    public ResponseEntity<List<IncidentSummary>> getIncidentsByReporter(@PathVariable Long reporterId) {
+        List<IncidentSummary> incidents = incidentService.getIncidentsByReporter(reporterId);
         return ResponseEntity.ok(incidents);
     }
     
     // Get incidents by assignee
     @GetMapping("/assignee/{assigneeId}")
-    public ResponseEntity<List<IncidentReport>> getIncidentsByAssignee(@PathVariable Long assigneeId) {
-        List<IncidentReport> incidents = incidentService.getIncidentsByAssignee(assigneeId);
+    public ResponseEntity<List<IncidentSummary>> getIncidentsByAssignee(@PathVariable Long assigneeId) {
+        List<IncidentSummary> incidents = incidentService.getIncidentsByAssignee(assigneeId);
         return ResponseEntity.ok(incidents);
     }
     
     // Get high priority incidents
     @GetMapping("/priority/{minPriority}")
-    public ResponseEntity<List<IncidentReport>> getHighPriorityIncidents(@PathVariable Integer minPriority) {
-        List<IncidentReport> incidents = incidentService.getIncidentsByPriority(minPriority);
+    public ResponseEntity<List<IncidentSummary>> getHighPriorityIncidents(@PathVariable Integer minPriority) {
+        List<IncidentSummary> incidents = incidentService.getIncidentsByPriority(minPriority);
         return ResponseEntity.ok(incidents);
     }
     
     // Get urgent incidents
     @GetMapping("/urgent")
-    public ResponseEntity<List<IncidentReport>> getUrgentIncidents() {
-        List<IncidentReport> incidents = incidentService.getUrgentIncidents();
+    public ResponseEntity<List<IncidentSummary>> getUrgentIncidents() {
+        List<IncidentSummary> incidents = incidentService.getUrgentIncidents();
         return ResponseEntity.ok(incidents);
     }
     
     // Get overdue incidents
     @GetMapping("/overdue")
-    public ResponseEntity<List<IncidentReport>> getOverdueIncidents() {
-        List<IncidentReport> incidents = incidentService.getOverdueIncidents();
+    public ResponseEntity<List<IncidentSummary>> getOverdueIncidents() {
+        List<IncidentSummary> incidents = incidentService.getOverdueIncidents();
         return ResponseEntity.ok(incidents);
     }
     
@@ -422,23 +558,23 @@ public class IncidentController {
     
     // Get recent incidents
     @GetMapping("/recent")
-    public ResponseEntity<List<IncidentReport>> getRecentIncidents(
+    public ResponseEntity<List<IncidentSummary>> getRecentIncidents(
             @RequestParam(defaultValue = "10") int limit) {
-        List<IncidentReport> incidents = incidentService.getRecentIncidents(limit);
+        List<IncidentSummary> incidents = incidentService.getRecentIncidents(limit);
         return ResponseEntity.ok(incidents);
     }
     
     // Get pending incidents
     @GetMapping("/pending")
-    public ResponseEntity<List<IncidentReport>> getPendingIncidents() {
-        List<IncidentReport> incidents = incidentService.getPendingIncidents();
+    public ResponseEntity<List<IncidentSummary>> getPendingIncidents() {
+        List<IncidentSummary> incidents = incidentService.getPendingIncidents();
         return ResponseEntity.ok(incidents);
     }
     
     // Get active incidents
     @GetMapping("/active")
-    public ResponseEntity<List<IncidentReport>> getActiveIncidents() {
-        List<IncidentReport> incidents = incidentService.getActiveIncidents();
+    public ResponseEntity<List<IncidentSummary>> getActiveIncidents() {
+        List<IncidentSummary> incidents = incidentService.getActiveIncidents();
         return ResponseEntity.ok(incidents);
     }
     
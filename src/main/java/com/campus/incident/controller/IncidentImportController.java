@@ -0,0 +1,54 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.entity.User;
+import com.campus.incident.importing.ImportFormat;
+import com.campus.incident.importing.IncidentImporter;
+import com.campus.incident.repository.UserRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin/incidents")
+@CrossOrigin(origins = "*")
+public class IncidentImportController {
+
+    @Autowired
+    private IncidentImporter incidentImporter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Bulk import of legacy tickets from an NDJSON or CSV body (chosen by Content-Type).
+    // The response is an NDJSON stream of error and progress lines ending with a summary.
+    @PostMapping(value = "/import",
+                 consumes = {ImportFormat.NDJSON_VALUE, ImportFormat.CSV_VALUE, MediaType.APPLICATION_JSON_VALUE},
+                 produces = ImportFormat.NDJSON_VALUE)
+    public void importIncidents(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        User currentUser = getCurrentUser();
+        ImportFormat format = ImportFormat.fromContentType(request.getContentType());
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(ImportFormat.NDJSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        incidentImporter.importIncidents(request.getInputStream(), format, currentUser, response.getOutputStream());
+    }
+
+    // Helper method to get current authenticated user
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+
+        String username = authentication.getName();
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+    }
+}
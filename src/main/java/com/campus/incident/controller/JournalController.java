@@ -0,0 +1,52 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.journal.IncidentJournal;
+import com.campus.incident.journal.JournalEvent;
+import com.campus.incident.journal.JournalReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@RestController
+@RequestMapping("/api/admin/journal")
+@CrossOrigin(origins = "*")
+public class JournalController {
+
+    // Upper bounds so one request cannot read the whole journal or hold a thread indefinitely
+    private static final int MAX_LIMIT = 1000;
+    private static final long MAX_WAIT_MS = 30000;
+
+    @Autowired
+    private IncidentJournal journal;
+
+    // Events from the given sequence; pass the returned nextSequence as "from" to keep tailing.
+    // With waitMs > 0 the call waits that long for new events when the consumer is caught up.
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> readJournal(
+            @RequestParam(defaultValue = "1") long from,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") long waitMs) throws InterruptedException {
+        JournalReader reader = journal.openReader(from);
+        int max = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<JournalEvent> events = waitMs > 0
+                ? reader.poll(max, Math.min(waitMs, MAX_WAIT_MS), TimeUnit.MILLISECONDS)
+                : reader.poll(max);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("events", events);
+        response.put("nextSequence", reader.getNextSequence());
+        response.put("lastSequence", journal.getLastSequence());
+        return ResponseEntity.ok(response);
+    }
+
+    // Sequence range, segment count and append failures
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getJournalStatistics() {
+        return ResponseEntity.ok(journal.getStatistics());
+    }
+}
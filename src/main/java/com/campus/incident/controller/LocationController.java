@@ -0,0 +1,25 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.location.LocationIndex;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/locations")
+@CrossOrigin(origins = "*")
+public class LocationController {
+
+    @Autowired
+    private LocationIndex locationIndex;
+
+    // Typeahead over known locations, busiest first
+    @GetMapping("/suggest")
+    public ResponseEntity<List<Map<String, Object>>> suggest(@RequestParam String q,
+                                                             @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(locationIndex.suggest(q, Math.max(1, Math.min(limit, 100))));
+    }
+}
@@ -0,0 +1,60 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.dispatch.ClaimQueue;
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.User;
+import com.campus.incident.repository.UserRepository;
+import com.campus.incident.service.IncidentService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/maintenance")
+@CrossOrigin(origins = "*")
+public class MaintenanceController {
+
+    @Autowired
+    private IncidentService incidentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ClaimQueue claimQueue;
+
+    // Claim the highest-priority, oldest unassigned incident; 204 when nothing is claimable
+    @PostMapping("/claim-next")
+    public ResponseEntity<IncidentReport> claimNext() {
+        IncidentReport claimed = incidentService.claimNextIncident(getCurrentUser());
+        if (claimed == null) {
+            return ResponseEntity.noContent().build();
+        }
+        return ResponseEntity.ok(claimed);
+    }
+
+    // Number of queued claim tickets (may include stale ones not yet discarded)
+    @GetMapping("/claim-queue")
+    public ResponseEntity<Map<String, Object>> getClaimQueue() {
+        Map<String, Object> queue = new HashMap<>();
+        queue.put("queued", claimQueue.size());
+        return ResponseEntity.ok(queue);
+    }
+
+    // Helper method to get current authenticated user
+    private User getCurrentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new RuntimeException("User not authenticated");
+        }
+
+        String username = authentication.getName();
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+    }
+}
@@ -0,0 +1,30 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.perf.RequestLatencies;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/perf")
+@CrossOrigin(origins = "*")
+public class PerfController {
+
+    @Autowired
+    private RequestLatencies latencies;
+
+    // p50 / p99 / max per route and HTTP method, for the last complete interval and since startup
+    @GetMapping("/latency")
+    public ResponseEntity<Map<String, Object>> getLatency() {
+        return ResponseEntity.ok(latencies.getLatencies());
+    }
+
+    // Most recent requests above incident.perf.slow-request-threshold-ms, newest first
+    @GetMapping("/slow-requests")
+    public ResponseEntity<List<Map<String, Object>>> getSlowRequests() {
+        return ResponseEntity.ok(latencies.getSlowRequests());
+    }
+}
@@ -0,0 +1,29 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.readmodel.IncidentViewProjector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/read-model")
+@CrossOrigin(origins = "*")
+public class ReadModelController {
+
+    @Autowired
+    private IncidentViewProjector projector;
+
+    // Projection lag (events behind the journal, delay of the last batch) and row count
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getReadModelStatistics() {
+        return ResponseEntity.ok(projector.getStatistics());
+    }
+
+    // Drop and re-project incident_view from the normalized tables
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildReadModel() {
+        return ResponseEntity.ok(projector.rebuild());
+    }
+}
@@ -0,0 +1,49 @@
+package com.campus.incident.controller;
+
+import com.campus.incident.workflow.WorkflowEngine;
+import com.campus.incident.workflow.WorkflowSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/workflow")
+@CrossOrigin(origins = "*")
+public class WorkflowController {
+
+    @Autowired
+    private WorkflowEngine workflowEngine;
+
+    // Describe the active workflow snapshot
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getActiveWorkflow() {
+        return ResponseEntity.ok(describe(workflowEngine.getSnapshot()));
+    }
+
+    // Re-read and recompile the workflow definition; the old snapshot stays active on error
+    @PostMapping("/reload")
+    public ResponseEntity<Map<String, Object>> reloadWorkflow() {
+        try {
+            return ResponseEntity.ok(describe(workflowEngine.reload()));
+        } catch (IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
+    }
+
+    private Map<String, Object> describe(WorkflowSnapshot snapshot) {
+        Map<String, String> categories = new HashMap<>();
+        snapshot.getWorkflowsByCategory().forEach((category, workflow) -> categories.put(category, workflow.getName()));
+
+        Map<String, Object> description = new HashMap<>();
+        description.put("source", snapshot.getSource());
+        description.put("loadedAt", snapshot.getLoadedAt());
+        description.put("defaultWorkflow", snapshot.getDefaultWorkflow().getName());
+        description.put("categoryWorkflows", categories);
+        return description;
+    }
+}
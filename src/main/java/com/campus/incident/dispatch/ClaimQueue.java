@@ -0,0 +1,78 @@
+package com.campus.incident.dispatch;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.repository.IncidentReportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+
+// Lock-free priority queue of claimable incidents for "claim next" dispatch.
+// It is only a hint: a ticket may be stale (already assigned elsewhere), and the
+// conditional UPDATE in IncidentReportRepository.claimIfUnassigned is what
+// guarantees an incident is claimed by exactly one worker.
+@Component
+public class ClaimQueue {
+
+    // Upper bound on tickets loaded per refill from the database
+    private static final int REFILL_BATCH = 500;
+
+    private final ConcurrentSkipListSet<ClaimTicket> tickets = new ConcurrentSkipListSet<>(ClaimTicket.DISPATCH_ORDER);
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refill() {
+        tickets.addAll(incidentRepository.findClaimTickets(Pageable.ofSize(REFILL_BATCH)));
+    }
+
+    // Pops the best ticket; refills once from the database when empty
+    public ClaimTicket poll() {
+        ClaimTicket ticket = tickets.pollFirst();
+        if (ticket == null) {
+            refill();
+            ticket = tickets.pollFirst();
+        }
+        return ticket;
+    }
+
+    // Enqueues a newly created incident once its transaction has committed
+    public void offerAfterCommit(IncidentReport incident) {
+        ClaimTicket ticket = new ClaimTicket(incident.getId(), incident.getPriorityLevel(), incident.getCreatedAt());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tickets.add(ticket);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tickets.add(ticket);
+            }
+        });
+    }
+
+    // Puts a polled ticket back if the claiming transaction does not commit
+    public void restoreOnRollback(ClaimTicket ticket) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    tickets.add(ticket);
+                }
+            }
+        });
+    }
+
+    public int size() {
+        return tickets.size();
+    }
+}
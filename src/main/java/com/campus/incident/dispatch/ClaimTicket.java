@@ -0,0 +1,30 @@
+package com.campus.incident.dispatch;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+// Queue entry for an unassigned incident. Ordered highest priority first, then
+// oldest first; the id keeps ordering total so equal tickets collapse in a set.
+public final class ClaimTicket {
+
+    static final Comparator<ClaimTicket> DISPATCH_ORDER = Comparator
+            .comparingInt(ClaimTicket::getPriorityLevel).reversed()
+            .thenComparing(ClaimTicket::getCreatedAt)
+            .thenComparing(ClaimTicket::getIncidentId);
+
+    private final Long incidentId;
+    private final int priorityLevel;
+    private final LocalDateTime createdAt;
+
+    public ClaimTicket(Long incidentId, Integer priorityLevel, LocalDateTime createdAt) {
+        this.incidentId = incidentId;
+        this.priorityLevel = priorityLevel != null ? priorityLevel : 1;
+        this.createdAt = createdAt != null ? createdAt : LocalDateTime.MIN;
+    }
+
+    public Long getIncidentId() { return incidentId; }
+
+    public int getPriorityLevel() { return priorityLevel; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -8,6 +8,9 @@ public class CreateIncidentRequest {
     
     private String locationDetails;
     
+    // Optional structured location, "Campus > Building > Floor > Room"
+    private String locationPath;
+    
     private Long categoryId;
     
     private Integer priorityLevel;
@@ -35,6 +38,9 @@ public class CreateIncidentRequest {
     public String getLocationDetails() { return locationDetails; }
     public void setLocationDetails(String locationDetails) { this.locationDetails = locationDetails; }
     
+    public String getLocationPath() { return locationPath; }
+    public void setLocationPath(String locationPath) { this.locationPath = locationPath; }
+    
     public Long getCategoryId() { return categoryId; }
     public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
     
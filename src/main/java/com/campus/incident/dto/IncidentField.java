@@ -0,0 +1,76 @@
+package com.campus.incident.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Whitelist of incident properties that can be requested through "fields=".
+// Each field maps to the JPA attribute (and optional association) that is
+// selected, so a sparse request narrows the SQL SELECT itself.
+public enum IncidentField {
+    ID("id", null, "id"),
+    TITLE("title", null, "title"),
+    DESCRIPTION("description", null, "description"),
+    LOCATION_DETAILS("locationDetails", null, "locationDetails"),
+    STATUS("status", null, "status"),
+    PRIORITY_LEVEL("priorityLevel", null, "priorityLevel"),
+    URGENT("urgent", null, "isUrgent"),
+    CONFIDENTIAL("confidential", null, "isConfidential"),
+    ESTIMATED_RESOLUTION_DATE("estimatedResolutionDate", null, "estimatedResolutionDate"),
+    ACTUAL_RESOLUTION_DATE("actualResolutionDate", null, "actualResolutionDate"),
+    CREATED_AT("createdAt", null, "createdAt"),
+    UPDATED_AT("updatedAt", null, "updatedAt"),
+    CATEGORY_NAME("categoryName", "category", "name"),
+    ASSIGNEE_NAME("assigneeName", "assignedTo", "fullName");
+
+    private static final Map<String, IncidentField> BY_JSON_NAME = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(IncidentField::getJsonName, Function.identity()));
+
+    private final String jsonName;
+    private final String association;
+    private final String attribute;
+
+    IncidentField(String jsonName, String association, String attribute) {
+        this.jsonName = jsonName;
+        this.association = association;
+        this.attribute = attribute;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    public String getAssociation() {
+        return association;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    // Parses a comma separated "fields" parameter; unknown names are rejected up front
+    public static Set<IncidentField> parse(String fields) {
+        Set<IncidentField> parsed = EnumSet.noneOf(IncidentField.class);
+        if (fields != null) {
+            for (String name : fields.split(",")) {
+                String trimmed = name.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                IncidentField field = BY_JSON_NAME.get(trimmed);
+                if (field == null) {
+                    throw new IllegalArgumentException("Unknown field: " + trimmed);
+                }
+                parsed.add(field);
+            }
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested");
+        }
+        return Collections.unmodifiableSet(parsed);
+    }
+}
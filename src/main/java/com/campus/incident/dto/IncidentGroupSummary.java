@@ -0,0 +1,48 @@
+package com.campus.incident.dto;
+
+import com.campus.incident.entity.IncidentStatus;
+
+// A parent incident with aggregate counts over its child reports, produced by a
+// single grouped JPQL query (no child rows are loaded).
+public class IncidentGroupSummary {
+
+    private final Long parentId;
+
+    private final String title;
+
+    private final IncidentStatus status;
+
+    private final Integer priorityLevel;
+
+    private final long childCount;
+
+    private final long openChildCount;
+
+    private final long closedChildCount;
+
+    public IncidentGroupSummary(Long parentId, String title, IncidentStatus status, Integer priorityLevel,
+                                Long childCount, Long closedChildCount) {
+        this.parentId = parentId;
+        this.title = title;
+        this.status = status;
+        this.priorityLevel = priorityLevel;
+        this.childCount = childCount != null ? childCount : 0;
+        this.closedChildCount = closedChildCount != null ? closedChildCount : 0;
+        this.openChildCount = this.childCount - this.closedChildCount;
+    }
+
+    // Getters
+    public Long getParentId() { return parentId; }
+
+    public String getTitle() { return title; }
+
+    public IncidentStatus getStatus() { return status; }
+
+    public Integer getPriorityLevel() { return priorityLevel; }
+
+    public long getChildCount() { return childCount; }
+
+    public long getOpenChildCount() { return openChildCount; }
+
+    public long getClosedChildCount() { return closedChildCount; }
+}
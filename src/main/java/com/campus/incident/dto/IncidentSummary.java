@@ -0,0 +1,90 @@
+package com.campus.incident.dto;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+// Lightweight list-view projection of an incident. Populated directly by JPQL
+// constructor expressions so list endpoints never load the TEXT description
+// or trigger lazy loads for category / assignee names. Rows read from the
+// incident_view read model also carry the overdue flag and log counts.
+public class IncidentSummary {
+
+    private final Long id;
+
+    private final String title;
+
+    private final IncidentStatus status;
+
+    private final Integer priorityLevel;
+
+    private final boolean isUrgent;
+
+    private final String categoryName;
+
+    private final String assigneeName;
+
+    private final LocalDateTime createdAt;
+
+    private final LocalDateTime updatedAt;
+
+    private final Boolean overdue;
+
+    private final Long resolutionLogCount;
+
+    private final Long statusUpdateCount;
+
+    public IncidentSummary(Long id, String title, IncidentStatus status, Integer priorityLevel, boolean isUrgent,
+                           String categoryName, String assigneeName,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, status, priorityLevel, isUrgent, categoryName, assigneeName, createdAt, updatedAt,
+                null, null, null);
+    }
+
+    public IncidentSummary(Long id, String title, IncidentStatus status, Integer priorityLevel, boolean isUrgent,
+                           String categoryName, String assigneeName,
+                           LocalDateTime createdAt, LocalDateTime updatedAt,
+                           Boolean overdue, Long resolutionLogCount, Long statusUpdateCount) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priorityLevel = priorityLevel;
+        this.isUrgent = isUrgent;
+        this.categoryName = categoryName;
+        this.assigneeName = assigneeName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.overdue = overdue;
+        this.resolutionLogCount = resolutionLogCount;
+        this.statusUpdateCount = statusUpdateCount;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getTitle() { return title; }
+
+    public IncidentStatus getStatus() { return status; }
+
+    public Integer getPriorityLevel() { return priorityLevel; }
+
+    public boolean isUrgent() { return isUrgent; }
+
+    public String getCategoryName() { return categoryName; }
+
+    public String getAssigneeName() { return assigneeName; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Boolean getOverdue() { return overdue; }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getResolutionLogCount() { return resolutionLogCount; }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Long getStatusUpdateCount() { return statusUpdateCount; }
+}
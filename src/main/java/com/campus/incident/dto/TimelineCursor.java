@@ -0,0 +1,59 @@
+package com.campus.incident.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// Keyset position in an incident timeline: the (timestamp, id, kind) of the
+// last entry returned. Exchanged with clients as an opaque token.
+public class TimelineCursor {
+
+    private final LocalDateTime timestamp;
+
+    private final long id;
+
+    private final TimelineEntry.Kind kind;
+
+    public TimelineCursor(LocalDateTime timestamp, long id, TimelineEntry.Kind kind) {
+        this.timestamp = timestamp;
+        this.id = id;
+        this.kind = kind;
+    }
+
+    public static TimelineCursor after(TimelineEntry entry) {
+        return new TimelineCursor(entry.getTimestamp(), entry.getId(), entry.getKind());
+    }
+
+    public String encode() {
+        String raw = timestamp + "|" + id + "|" + kind;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Rejects tokens that were not produced by encode()
+    public static TimelineCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Malformed timeline cursor");
+            }
+            return new TimelineCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    TimelineEntry.Kind.valueOf(parts[2]));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Malformed timeline cursor", e);
+        }
+    }
+
+    // Largest id of the given kind that is still at or before this position when
+    // timestamps are equal; entries of a later kind include this id itself.
+    public long lastIdFor(TimelineEntry.Kind other) {
+        return other.compareTo(kind) > 0 ? id - 1 : id;
+    }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+
+    public long getId() { return id; }
+
+    public TimelineEntry.Kind getKind() { return kind; }
+}
@@ -0,0 +1,81 @@
+package com.campus.incident.dto;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+
+// One item of an incident's history: either a resolution log entry or a
+// status change. Fields that do not apply to the kind are omitted from JSON.
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TimelineEntry {
+
+    // Declared in tie-break order for entries with the same timestamp and id
+    public enum Kind { LOG, STATUS }
+
+    private final Kind kind;
+
+    private final Long id;
+
+    private final LocalDateTime timestamp;
+
+    private final String actorName;
+
+    private final String action;
+
+    private final String notes;
+
+    private final String logType;
+
+    private final IncidentStatus previousStatus;
+
+    private final IncidentStatus newStatus;
+
+    private final Integer timeSpentMinutes;
+
+    private final Double costIncurred;
+
+    private final String materialsUsed;
+
+    public TimelineEntry(Kind kind, Long id, LocalDateTime timestamp, String actorName, String action, String notes,
+                         String logType, IncidentStatus previousStatus, IncidentStatus newStatus,
+                         Integer timeSpentMinutes, Double costIncurred, String materialsUsed) {
+        this.kind = kind;
+        this.id = id;
+        this.timestamp = timestamp;
+        this.actorName = actorName;
+        this.action = action;
+        this.notes = notes;
+        this.logType = logType;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.timeSpentMinutes = timeSpentMinutes;
+        this.costIncurred = costIncurred;
+        this.materialsUsed = materialsUsed;
+    }
+
+    // Getters
+    public Kind getKind() { return kind; }
+
+    public Long getId() { return id; }
+
+    public LocalDateTime getTimestamp() { return timestamp; }
+
+    public String getActorName() { return actorName; }
+
+    public String getAction() { return action; }
+
+    public String getNotes() { return notes; }
+
+    public String getLogType() { return logType; }
+
+    public IncidentStatus getPreviousStatus() { return previousStatus; }
+
+    public IncidentStatus getNewStatus() { return newStatus; }
+
+    public Integer getTimeSpentMinutes() { return timeSpentMinutes; }
+
+    public Double getCostIncurred() { return costIncurred; }
+
+    public String getMaterialsUsed() { return materialsUsed; }
+}
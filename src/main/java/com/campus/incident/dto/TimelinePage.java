@@ -0,0 +1,23 @@
+package com.campus.incident.dto;
+
+import java.util.List;
+
+// One keyset page of an incident timeline; nextCursor is null on the last page
+public class TimelinePage {
+
+    private final List<TimelineEntry> entries;
+
+    private final String nextCursor;
+
+    public TimelinePage(List<TimelineEntry> entries, String nextCursor) {
+        this.entries = entries;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public List<TimelineEntry> getEntries() { return entries; }
+
+    public String getNextCursor() { return nextCursor; }
+
+    public boolean isHasMore() { return nextCursor != null; }
+}
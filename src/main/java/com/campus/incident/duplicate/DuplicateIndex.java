@@ -0,0 +1,154 @@
+package com.campus.incident.duplicate;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.repository.IncidentReportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// MinHash/LSH index over title, description and location of active incidents.
+// A lookup hashes the new text once and probes one bucket per band, so finding
+// likely duplicates costs microseconds and never touches the database. Loaded
+// once at startup, then kept current by the service layer after each commit.
+@Component
+public class DuplicateIndex {
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    // One bucket map per LSH band, indexed by band number
+    private final List<Map<Long, Set<Long>>> buckets = new ArrayList<>(MinHash.BANDS);
+
+    public DuplicateIndex() {
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            buckets.add(new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        for (Object[] row : incidentRepository.findActiveDuplicateIndexRows()) {
+            put((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+        }
+    }
+
+    public List<DuplicateMatch> findDuplicates(String title, String description, String locationDetails,
+                                               double threshold, int limit) {
+        int[] signature = MinHash.signature(title, description, locationDetails);
+        if (MinHash.isEmpty(signature)) {
+            return List.of();
+        }
+
+        Set<Long> candidates = new HashSet<>();
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            Set<Long> bucket = buckets.get(band).get(MinHash.bandKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+
+        List<DuplicateMatch> matches = new ArrayList<>();
+        for (Long id : candidates) {
+            Entry entry = entries.get(id);
+            if (entry == null) {
+                continue;
+            }
+            double similarity = MinHash.similarity(signature, entry.signature);
+            if (similarity >= threshold) {
+                matches.add(new DuplicateMatch(id, entry.title, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(DuplicateMatch::getSimilarity).reversed()
+                .thenComparing(DuplicateMatch::getIncidentId));
+        return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+    }
+
+    // Indexes active incidents and drops inactive ones, once the transaction commits
+    public void indexAfterCommit(IncidentReport incident) {
+        Long id = incident.getId();
+        boolean active = incident.getStatus() != null && incident.getStatus().isActive();
+        String title = incident.getTitle();
+        String description = incident.getDescription();
+        String locationDetails = incident.getLocationDetails();
+        afterCommit(() -> {
+            if (active) {
+                put(id, title, description, locationDetails);
+            } else {
+                remove(id);
+            }
+        });
+    }
+
+    public void removeAfterCommit(Long incidentId) {
+        afterCommit(() -> remove(incidentId));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    synchronized void put(Long id, String title, String description, String locationDetails) {
+        remove(id);
+        int[] signature = MinHash.signature(title, description, locationDetails);
+        if (MinHash.isEmpty(signature)) {
+            return;
+        }
+        entries.put(id, new Entry(title, signature));
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            buckets.get(band).computeIfAbsent(MinHash.bandKey(signature, band), key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    synchronized void remove(Long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        for (int band = 0; band < MinHash.BANDS; band++) {
+            long key = MinHash.bandKey(entry.signature, band);
+            Set<Long> bucket = buckets.get(band).get(key);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets.get(band).remove(key, bucket);
+                }
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static final class Entry {
+        private final String title;
+        private final int[] signature;
+
+        Entry(String title, int[] signature) {
+            this.title = title;
+            this.signature = signature;
+        }
+    }
+}
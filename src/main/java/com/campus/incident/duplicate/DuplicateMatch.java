@@ -0,0 +1,21 @@
+package com.campus.incident.duplicate;
+
+// An active incident that looks like the one being reported
+public final class DuplicateMatch {
+
+    private final Long incidentId;
+    private final String title;
+    private final double similarity;
+
+    public DuplicateMatch(Long incidentId, String title, double similarity) {
+        this.incidentId = incidentId;
+        this.title = title;
+        this.similarity = similarity;
+    }
+
+    public Long getIncidentId() { return incidentId; }
+
+    public String getTitle() { return title; }
+
+    public double getSimilarity() { return similarity; }
+}
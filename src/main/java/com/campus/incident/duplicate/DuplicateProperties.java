@@ -0,0 +1,37 @@
+package com.campus.incident.duplicate;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "incident.duplicates")
+public class DuplicateProperties {
+
+    // Report likely duplicates of new incidents
+    private boolean enabled = true;
+
+    // Minimum estimated similarity (0-1) for an incident to be reported as a duplicate
+    private double threshold = 0.5;
+
+    // Maximum number of duplicates returned on create
+    private int maxResults = 5;
+
+    // Make the new incident a child of the best match when it is at least autoLinkThreshold similar
+    private boolean autoLink = false;
+    private double autoLinkThreshold = 0.8;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public double getThreshold() { return threshold; }
+    public void setThreshold(double threshold) { this.threshold = threshold; }
+
+    public int getMaxResults() { return maxResults; }
+    public void setMaxResults(int maxResults) { this.maxResults = maxResults; }
+
+    public boolean isAutoLink() { return autoLink; }
+    public void setAutoLink(boolean autoLink) { this.autoLink = autoLink; }
+
+    public double getAutoLinkThreshold() { return autoLinkThreshold; }
+    public void setAutoLinkThreshold(double autoLinkThreshold) { this.autoLinkThreshold = autoLinkThreshold; }
+}
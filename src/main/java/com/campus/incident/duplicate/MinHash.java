@@ -0,0 +1,98 @@
+package com.campus.incident.duplicate;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+// MinHash signatures over word unigrams and bigrams of the incident text.
+// Two signatures agree in a given slot with probability equal to the Jaccard
+// similarity of the underlying shingle sets.
+final class MinHash {
+
+    static final int BANDS = 20;
+    static final int ROWS = 3;
+    static final int SIZE = BANDS * ROWS;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "the", "is", "are", "was", "in", "on", "at", "of", "to", "and", "or", "it", "its", "there", "has", "have");
+
+    // Fixed seeds so signatures stay comparable across restarts
+    private static final long[] SEEDS = new long[SIZE];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EEDL);
+        for (int i = 0; i < SIZE; i++) {
+            SEEDS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {}
+
+    static int[] signature(String... texts) {
+        int[] signature = new int[SIZE];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        long previous = 0;
+        boolean hasPrevious = false;
+        for (String text : texts) {
+            if (text == null) {
+                continue;
+            }
+            for (String token : text.toLowerCase(Locale.ROOT).split("[^a-z0-9]+")) {
+                if (token.isEmpty() || STOP_WORDS.contains(token)) {
+                    continue;
+                }
+                long unigram = token.hashCode();
+                apply(signature, unigram);
+                if (hasPrevious) {
+                    apply(signature, previous * 31 + unigram + 0x9E3779B97F4A7C15L);
+                }
+                previous = unigram;
+                hasPrevious = true;
+            }
+        }
+        return signature;
+    }
+
+    // Estimated Jaccard similarity: share of slots where both signatures agree
+    static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < SIZE; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / SIZE;
+    }
+
+    // LSH bucket key for one band of ROWS slots
+    static long bandKey(int[] signature, int band) {
+        long key = 0;
+        int offset = band * ROWS;
+        for (int i = 0; i < ROWS; i++) {
+            key = key * 0x100000001B3L + signature[offset + i];
+        }
+        return key;
+    }
+
+    static boolean isEmpty(int[] signature) {
+        return signature[0] == Integer.MAX_VALUE;
+    }
+
+    private static void apply(int[] signature, long shingle) {
+        for (int i = 0; i < SIZE; i++) {
+            int hash = (int) (mix(shingle ^ SEEDS[i]) >>> 33);
+            if (hash < signature[i]) {
+                signature[i] = hash;
+            }
+        }
+    }
+
+    // SplitMix64 finalizer
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
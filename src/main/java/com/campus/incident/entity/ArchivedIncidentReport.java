@@ -0,0 +1,95 @@
+package com.campus.incident.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Cold copy of a CLOSED / CANCELLED incident moved out of incident_reports by
+// the IncidentArchiver. Keeps the original id; associations are plain ids.
+@Entity
+@Table(name = "incident_reports_archive")
+public class ArchivedIncidentReport {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String description;
+
+    @Column(name = "location_details")
+    private String locationDetails;
+
+    @Column(name = "location_path")
+    private String locationPath;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "reporter_id")
+    private Long reporterId;
+
+    @Column(name = "assigned_to_id")
+    private Long assignedToId;
+
+    @Column(name = "parent_id")
+    private Long parentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IncidentStatus status;
+
+    @Column(name = "priority_level")
+    private Integer priorityLevel;
+
+    @Column(name = "estimated_resolution_date")
+    private LocalDateTime estimatedResolutionDate;
+
+    @Column(name = "sla_paused_at")
+    private LocalDateTime slaPausedAt;
+
+    @Column(name = "actual_resolution_date")
+    private LocalDateTime actualResolutionDate;
+
+    @Column(name = "status_changed_at")
+    private LocalDateTime statusChangedAt;
+
+    @Column(name = "is_urgent")
+    private boolean isUrgent;
+
+    @Column(name = "is_confidential")
+    private boolean isConfidential;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    // Getters
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getLocationDetails() { return locationDetails; }
+    public String getLocationPath() { return locationPath; }
+    public Long getCategoryId() { return categoryId; }
+    public Long getReporterId() { return reporterId; }
+    public Long getAssignedToId() { return assignedToId; }
+    public Long getParentId() { return parentId; }
+    public IncidentStatus getStatus() { return status; }
+    public Integer getPriorityLevel() { return priorityLevel; }
+    public LocalDateTime getEstimatedResolutionDate() { return estimatedResolutionDate; }
+    public LocalDateTime getSlaPausedAt() { return slaPausedAt; }
+    public LocalDateTime getActualResolutionDate() { return actualResolutionDate; }
+    public LocalDateTime getStatusChangedAt() { return statusChangedAt; }
+    public boolean isUrgent() { return isUrgent; }
+    public boolean isConfidential() { return isConfidential; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+}
@@ -0,0 +1,54 @@
+package com.campus.incident.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Cold copy of a resolution log whose incident was archived
+@Entity
+@Table(name = "resolution_logs_archive", indexes = @Index(name = "idx_resolution_log_archive_incident", columnList = "incident_id"))
+public class ArchivedResolutionLog {
+
+    @Id
+    private Long id;
+
+    @Column(name = "incident_id", nullable = false)
+    private Long incidentId;
+
+    @Column(nullable = false)
+    private String action;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "performed_by_id", nullable = false)
+    private Long performedById;
+
+    @Column(name = "performed_at", nullable = false)
+    private LocalDateTime performedAt;
+
+    @Column(name = "time_spent_minutes")
+    private Integer timeSpentMinutes;
+
+    @Column(name = "materials_used")
+    private String materialsUsed;
+
+    @Column(name = "cost_incurred")
+    private Double costIncurred;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "log_type")
+    private ResolutionLog.LogType logType;
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getIncidentId() { return incidentId; }
+    public String getAction() { return action; }
+    public String getNotes() { return notes; }
+    public Long getPerformedById() { return performedById; }
+    public LocalDateTime getPerformedAt() { return performedAt; }
+    public Integer getTimeSpentMinutes() { return timeSpentMinutes; }
+    public String getMaterialsUsed() { return materialsUsed; }
+    public Double getCostIncurred() { return costIncurred; }
+    public ResolutionLog.LogType getLogType() { return logType; }
+}
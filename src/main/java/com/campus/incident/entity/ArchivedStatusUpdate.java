@@ -0,0 +1,55 @@
+package com.campus.incident.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Cold copy of a status update whose incident was archived
+@Entity
+@Table(name = "status_updates_archive", indexes = @Index(name = "idx_status_update_archive_incident", columnList = "incident_id"))
+public class ArchivedStatusUpdate {
+
+    @Id
+    private Long id;
+
+    @Column(name = "incident_id", nullable = false)
+    private Long incidentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "previous_status", nullable = false)
+    private IncidentStatus previousStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "new_status", nullable = false)
+    private IncidentStatus newStatus;
+
+    @Column(name = "updated_by_id", nullable = false)
+    private Long updatedById;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "transition_reason")
+    private String transitionReason;
+
+    @Column(name = "estimated_completion_date")
+    private LocalDateTime estimatedCompletionDate;
+
+    @Column(name = "time_in_previous_status_seconds")
+    private Long timeInPreviousStatusSeconds;
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getIncidentId() { return incidentId; }
+    public IncidentStatus getPreviousStatus() { return previousStatus; }
+    public IncidentStatus getNewStatus() { return newStatus; }
+    public Long getUpdatedById() { return updatedById; }
+    public String getNotes() { return notes; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public String getTransitionReason() { return transitionReason; }
+    public LocalDateTime getEstimatedCompletionDate() { return estimatedCompletionDate; }
+    public Long getTimeInPreviousStatusSeconds() { return timeInPreviousStatusSeconds; }
+}
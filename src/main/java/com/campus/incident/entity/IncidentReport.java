@@ -1,6 +1,8 @@
 package com.campus.incident.entity;
 
+import com.campus.incident.duplicate.DuplicateMatch;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -9,18 +11,21 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 
 @Entity
-@Table(name = "incident_reports")
+@Table(name = "incident_reports", indexes = @Index(name = "idx_incident_parent", columnList = "parent_id"))
 @EntityListeners(AuditingEntityListener.class)
 public class IncidentReport {
     
+    // Pooled sequence rather than IDENTITY so Hibernate can batch inserts (e.g. bulk import)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "incident_report_seq")
+    @SequenceGenerator(name = "incident_report_seq", sequenceName = "incident_reports_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -32,6 +37,10 @@ public class IncidentReport {
     @Column(name = "location_details")
     private String locationDetails;
     
+    // Structured "Campus > Building > Floor > Room", attached on create or parsed from locationDetails
+    @Column(name = "location_path")
+    private String locationPath;
+    
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false)
     @JsonIgnore
@@ -47,6 +56,12 @@ public class IncidentReport {
     @JsonIgnore
     private User assignedTo;
     
+    // Grouping: child reports of one campus-wide event point at a single parent incident
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    @JsonIgnore
+    private IncidentReport parent;
+    
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private IncidentStatus status = IncidentStatus.REPORTED;
@@ -57,9 +72,19 @@ public class IncidentReport {
     @Column(name = "estimated_resolution_date")
     private LocalDateTime estimatedResolutionDate;
     
+    // When the SLA clock was stopped by moving to ON_HOLD; null while it runs
+    @Column(name = "sla_paused_at")
+    @JsonIgnore
+    private LocalDateTime slaPausedAt;
+    
     @Column(name = "actual_resolution_date")
     private LocalDateTime actualResolutionDate;
     
+    // When the incident entered its current status
+    @Column(name = "status_changed_at")
+    @JsonIgnore
+    private LocalDateTime statusChangedAt;
+    
     @Column(name = "is_urgent")
     private boolean isUrgent = false;
     
@@ -84,6 +109,25 @@ public class IncidentReport {
     @JsonIgnore
     private List<StatusUpdate> statusUpdates = new ArrayList<>();
     
+    // Likely duplicates found when this incident was created; not persisted
+    @Transient
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<DuplicateMatch> possibleDuplicates;
+    
+    // Historical timestamps supplied by a bulk import; applied after auditing has stamped the entity
+    @Transient
+    @JsonIgnore
+    private LocalDateTime importedCreatedAt;
+    
+    @Transient
+    @JsonIgnore
+    private LocalDateTime importedUpdatedAt;
+    
+    // Status updates added since the service layer last collected them for the time-in-status stats
+    @Transient
+    @JsonIgnore
+    private List<StatusUpdate> uncollectedTransitions;
+    
     // Constructors
     public IncidentReport() {}
     
@@ -107,6 +151,9 @@ public class IncidentReport {
     public String getLocationDetails() { return locationDetails; }
     public void setLocationDetails(String locationDetails) { this.locationDetails = locationDetails; }
     
+    public String getLocationPath() { return locationPath; }
+    public void setLocationPath(String locationPath) { this.locationPath = locationPath; }
+    
     public IncidentCategory getCategory() { return category; }
     public void setCategory(IncidentCategory category) { this.category = category; }
     
@@ -116,6 +163,12 @@ public class IncidentReport {
     public User getAssignedTo() { return assignedTo; }
     public void setAssignedTo(User assignedTo) { this.assignedTo = assignedTo; }
     
+    public IncidentReport getParent() { return parent; }
+    public void setParent(IncidentReport parent) { this.parent = parent; }
+    
+    // Exposed instead of the lazy association; reading a proxy's id does not initialize it
+    public Long getParentId() { return parent != null ? parent.getId() : null; }
+    
     public IncidentStatus getStatus() { return status; }
     public void setStatus(IncidentStatus status) { this.status = status; }
     
@@ -125,9 +178,15 @@ public class IncidentReport {
     public LocalDateTime getEstimatedResolutionDate() { return estimatedResolutionDate; }
     public void setEstimatedResolutionDate(LocalDateTime estimatedResolutionDate) { this.estimatedResolutionDate = estimatedResolutionDate; }
     
+    public LocalDateTime getSlaPausedAt() { return slaPausedAt; }
+    public void setSlaPausedAt(LocalDateTime slaPausedAt) { this.slaPausedAt = slaPausedAt; }
+    
     public LocalDateTime getActualResolutionDate() { return actualResolutionDate; }
     public void setActualResolutionDate(LocalDateTime actualResolutionDate) { this.actualResolutionDate = actualResolutionDate; }
     
+    public LocalDateTime getStatusChangedAt() { return statusChangedAt; }
+    public void setStatusChangedAt(LocalDateTime statusChangedAt) { this.statusChangedAt = statusChangedAt; }
+    
     public boolean isUrgent() { return isUrgent; }
     public void setUrgent(boolean urgent) { isUrgent = urgent; }
     
@@ -146,6 +205,37 @@ public class IncidentReport {
     public List<StatusUpdate> getStatusUpdates() { return statusUpdates; }
     public void setStatusUpdates(List<StatusUpdate> statusUpdates) { this.statusUpdates = statusUpdates; }
     
+    public List<DuplicateMatch> getPossibleDuplicates() { return possibleDuplicates; }
+    public void setPossibleDuplicates(List<DuplicateMatch> possibleDuplicates) { this.possibleDuplicates = possibleDuplicates; }
+
+    // Keep the given creation / last-update times instead of the audit "now" (null keeps the audit value)
+    public void setImportedTimestamps(LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.importedCreatedAt = createdAt;
+        this.importedUpdatedAt = updatedAt;
+    }
+
+    // Runs after AuditingEntityListener (entity listeners are invoked before the entity's own callbacks)
+    @PrePersist
+    void applyImportedTimestamps() {
+        if (importedCreatedAt != null) {
+            this.createdAt = importedCreatedAt;
+        }
+        if (importedUpdatedAt != null) {
+            this.updatedAt = importedUpdatedAt;
+        }
+        // Imported incidents entered their status at their last update at the latest
+        if (statusChangedAt == null) {
+            this.statusChangedAt = updatedAt != null ? updatedAt : createdAt;
+        }
+    }
+    
+    // Hands over the status updates added since the last call (empty if none)
+    public List<StatusUpdate> takeTransitions() {
+        List<StatusUpdate> transitions = uncollectedTransitions != null ? uncollectedTransitions : List.of();
+        uncollectedTransitions = null;
+        return transitions;
+    }
+
     // Business Methods
     public boolean canTransitionTo(IncidentStatus newStatus) {
         return this.status.canTransitionTo(newStatus);
@@ -153,24 +243,39 @@ public class IncidentReport {
     
     public void updateStatus(IncidentStatus newStatus, User updatedBy, String notes) {
         if (canTransitionTo(newStatus)) {
-            IncidentStatus oldStatus = this.status;
-            this.status = newStatus;
-            
-            // Add status update log
-            StatusUpdate statusUpdate = new StatusUpdate();
-            statusUpdate.setIncident(this);
-            statusUpdate.setPreviousStatus(oldStatus);
-            statusUpdate.setNewStatus(newStatus);
-            statusUpdate.setUpdatedBy(updatedBy);
-            statusUpdate.setNotes(notes);
-            statusUpdate.setUpdatedAt(LocalDateTime.now());
-            
-            this.statusUpdates.add(statusUpdate);
-            
-            // Set resolution date if resolved
-            if (newStatus.isResolved()) {
-                this.actualResolutionDate = LocalDateTime.now();
-            }
+            applyStatus(newStatus, updatedBy, notes);
+        }
+    }
+    
+    // Records a status change that has already been validated (e.g. by the workflow engine)
+    public void applyStatus(IncidentStatus newStatus, User updatedBy, String notes) {
+        IncidentStatus oldStatus = this.status;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime enteredAt = statusChangedAt != null ? statusChangedAt : createdAt;
+        this.status = newStatus;
+        this.statusChangedAt = now;
+        
+        // Add status update log
+        StatusUpdate statusUpdate = new StatusUpdate();
+        statusUpdate.setIncident(this);
+        statusUpdate.setPreviousStatus(oldStatus);
+        statusUpdate.setNewStatus(newStatus);
+        statusUpdate.setUpdatedBy(updatedBy);
+        statusUpdate.setNotes(notes);
+        statusUpdate.setUpdatedAt(now);
+        if (enteredAt != null) {
+            statusUpdate.setTimeInPreviousStatusSeconds(Math.max(0, Duration.between(enteredAt, now).getSeconds()));
+        }
+        
+        this.statusUpdates.add(statusUpdate);
+        if (uncollectedTransitions == null) {
+            uncollectedTransitions = new ArrayList<>(1);
+        }
+        uncollectedTransitions.add(statusUpdate);
+        
+        // Set resolution date if resolved
+        if (newStatus.isResolved()) {
+            this.actualResolutionDate = LocalDateTime.now();
         }
     }
     
@@ -193,14 +298,15 @@ public class IncidentReport {
     }
     
     public boolean isOverdue() {
-        if (estimatedResolutionDate == null || status.isResolved()) {
+        // The SLA clock does not run while the incident is on hold
+        if (estimatedResolutionDate == null || !status.isActive() || status == IncidentStatus.ON_HOLD) {
             return false;
         }
         return LocalDateTime.now().isAfter(estimatedResolutionDate);
     }
     
     public long getDaysSinceCreation() {
-        return java.time.Duration.between(createdAt, LocalDateTime.now()).toDays();
+        return Duration.between(createdAt, LocalDateTime.now()).toDays();
     }
     
     public String getPriorityLabel() {
@@ -1,6 +1,6 @@
 package com.campus.incident.entity;
 
-public enum     IncidentStatus {
+public enum IncidentStatus {
     REPORTED("Reported", "Initial report submitted", 1),
     UNDER_REVIEW("Under Review", "Being reviewed by staff", 2),
     ASSIGNED("Assigned", "Assigned to maintenance staff", 3),
@@ -40,28 +40,29 @@ public enum     IncidentStatus {
         return this == RESOLVED || this == CLOSED;
     }
     
-    public boolean canTransitionTo(IncidentStatus newStatus) {
-        switch (this) {
-            case REPORTED:
-                return newStatus == UNDER_REVIEW || newStatus == CANCELLED;
-            case UNDER_REVIEW:
-                return newStatus == ASSIGNED || newStatus == CANCELLED;
-            case ASSIGNED:
-                return newStatus == IN_PROGRESS || newStatus == ON_HOLD;
-            case IN_PROGRESS:
-                return newStatus == ON_HOLD || newStatus == RESOLVED;
-            case ON_HOLD:
-                return newStatus == IN_PROGRESS || newStatus == CANCELLED;
-            case RESOLVED:
-                return newStatus == CLOSED;
-            case CLOSED:
-            case CANCELLED:
-                return false;
-            default:
-                return false;
+    // Built-in lifecycle as one bitmask of allowed targets per status (bit = target ordinal).
+    // Configurable per-role/per-category workflows live in WorkflowEngine; this is their default.
+    private static final long[] TRANSITIONS = new long[values().length];
+    
+    static {
+        allow(REPORTED, UNDER_REVIEW, CANCELLED);
+        allow(UNDER_REVIEW, ASSIGNED, CANCELLED);
+        allow(ASSIGNED, IN_PROGRESS, ON_HOLD);
+        allow(IN_PROGRESS, ON_HOLD, RESOLVED);
+        allow(ON_HOLD, IN_PROGRESS, CANCELLED);
+        allow(RESOLVED, CLOSED);
+    }
+    
+    private static void allow(IncidentStatus from, IncidentStatus... targets) {
+        for (IncidentStatus target : targets) {
+            TRANSITIONS[from.ordinal()] |= 1L << target.ordinal();
         }
     }
     
+    public boolean canTransitionTo(IncidentStatus newStatus) {
+        return (TRANSITIONS[ordinal()] & (1L << newStatus.ordinal())) != 0;
+    }
+    
     public static IncidentStatus getInitialStatus() {
         return REPORTED;
     }
@@ -0,0 +1,101 @@
+package com.campus.incident.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Flat, denormalized copy of an incident for list and dashboard reads: names
+// are copied in, log counts and the overdue flag are precomputed, and there
+// are no associations to load. Written only by IncidentViewProjector.
+@Entity
+@Table(name = "incident_view", indexes = {
+        @Index(name = "idx_incident_view_status", columnList = "status, priority_level"),
+        @Index(name = "idx_incident_view_reporter", columnList = "reporter_id"),
+        @Index(name = "idx_incident_view_assignee", columnList = "assigned_to_id"),
+        @Index(name = "idx_incident_view_category", columnList = "category_id"),
+        @Index(name = "idx_incident_view_updated", columnList = "updated_at")
+})
+public class IncidentView {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    // Kept so full-text search is served from the view as well
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "location_details")
+    private String locationDetails;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IncidentStatus status;
+
+    @Column(name = "priority_level")
+    private Integer priorityLevel;
+
+    @Column(name = "is_urgent")
+    private boolean isUrgent;
+
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Column(name = "category_name")
+    private String categoryName;
+
+    @Column(name = "reporter_id")
+    private Long reporterId;
+
+    @Column(name = "assigned_to_id")
+    private Long assignedToId;
+
+    @Column(name = "assignee_name")
+    private String assigneeName;
+
+    @Column(name = "estimated_resolution_date")
+    private LocalDateTime estimatedResolutionDate;
+
+    // Open and past its estimated resolution date; kept current by a periodic sweep
+    @Column(nullable = false)
+    private boolean overdue;
+
+    @Column(name = "resolution_log_count", nullable = false)
+    private long resolutionLogCount;
+
+    @Column(name = "status_update_count", nullable = false)
+    private long statusUpdateCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // When the projector last wrote this row
+    @Column(name = "projected_at", nullable = false)
+    private LocalDateTime projectedAt;
+
+    // Getters
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getDescription() { return description; }
+    public String getLocationDetails() { return locationDetails; }
+    public IncidentStatus getStatus() { return status; }
+    public Integer getPriorityLevel() { return priorityLevel; }
+    public boolean isUrgent() { return isUrgent; }
+    public Long getCategoryId() { return categoryId; }
+    public String getCategoryName() { return categoryName; }
+    public Long getReporterId() { return reporterId; }
+    public Long getAssignedToId() { return assignedToId; }
+    public String getAssigneeName() { return assigneeName; }
+    public LocalDateTime getEstimatedResolutionDate() { return estimatedResolutionDate; }
+    public boolean isOverdue() { return overdue; }
+    public long getResolutionLogCount() { return resolutionLogCount; }
+    public long getStatusUpdateCount() { return statusUpdateCount; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public LocalDateTime getProjectedAt() { return projectedAt; }
+}
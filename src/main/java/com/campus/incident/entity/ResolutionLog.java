@@ -11,12 +11,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "resolution_logs")
+// (incident, time, id) serves the timeline's keyset scan in index order
+@Table(name = "resolution_logs",
+       indexes = @Index(name = "idx_resolution_log_timeline", columnList = "incident_id, performed_at, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class ResolutionLog {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resolution_log_seq")
+    @SequenceGenerator(name = "resolution_log_seq", sequenceName = "resolution_logs_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
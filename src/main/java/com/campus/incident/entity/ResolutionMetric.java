@@ -0,0 +1,9 @@
+package com.campus.incident.entity;
+
+// Which elapsed time a resolution-time sketch measures, from the incident's creation
+public enum ResolutionMetric {
+    // Until the incident reached RESOLVED
+    TIME_TO_RESOLVE,
+    // Until the incident was CLOSED
+    TIME_TO_CLOSE
+}
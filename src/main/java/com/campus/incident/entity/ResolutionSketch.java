@@ -0,0 +1,78 @@
+package com.campus.incident.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// Serialized t-digest of resolution times (minutes) for one category or worker
+// in one calendar month. Written by ResolutionTimeStore; months are merged at query time.
+@Entity
+@Table(name = "resolution_time_sketches", uniqueConstraints = @UniqueConstraint(
+        name = "uk_resolution_sketch",
+        columnNames = {"metric", "dimension", "dimension_id", "month_start"}))
+public class ResolutionSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResolutionMetric metric;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SketchDimension dimension;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Long dimensionId;
+
+    // First day of the month
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Column(nullable = false, length = 8192)
+    private byte[] digest;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public ResolutionSketch() {}
+
+    public ResolutionSketch(ResolutionMetric metric, SketchDimension dimension, Long dimensionId, LocalDate monthStart) {
+        this.metric = metric;
+        this.dimension = dimension;
+        this.dimensionId = dimensionId;
+        this.monthStart = monthStart;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public ResolutionMetric getMetric() { return metric; }
+    public void setMetric(ResolutionMetric metric) { this.metric = metric; }
+
+    public SketchDimension getDimension() { return dimension; }
+    public void setDimension(SketchDimension dimension) { this.dimension = dimension; }
+
+    public Long getDimensionId() { return dimensionId; }
+    public void setDimensionId(Long dimensionId) { this.dimensionId = dimensionId; }
+
+    public LocalDate getMonthStart() { return monthStart; }
+    public void setMonthStart(LocalDate monthStart) { this.monthStart = monthStart; }
+
+    public long getSampleCount() { return sampleCount; }
+    public void setSampleCount(long sampleCount) { this.sampleCount = sampleCount; }
+
+    public byte[] getDigest() { return digest; }
+    public void setDigest(byte[] digest) { this.digest = digest; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -0,0 +1,7 @@
+package com.campus.incident.entity;
+
+// What the id of a resolution-time sketch refers to
+public enum SketchDimension {
+    CATEGORY,
+    WORKER
+}
@@ -10,12 +10,15 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "status_updates")
+// (incident, time, id) serves the timeline's keyset scan in index order
+@Table(name = "status_updates",
+       indexes = @Index(name = "idx_status_update_timeline", columnList = "incident_id, updated_at, id"))
 @EntityListeners(AuditingEntityListener.class)
 public class StatusUpdate {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "status_update_seq")
+    @SequenceGenerator(name = "status_update_seq", sequenceName = "status_updates_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +58,10 @@ public class StatusUpdate {
     @Column(name = "estimated_completion_date")
     private LocalDateTime estimatedCompletionDate;
     
+    // How long the incident sat in previousStatus; null when unknown (e.g. imported history)
+    @Column(name = "time_in_previous_status_seconds")
+    private Long timeInPreviousStatusSeconds;
+    
     // Constructors
     public StatusUpdate() {}
     
@@ -93,6 +100,9 @@ public class StatusUpdate {
     public LocalDateTime getEstimatedCompletionDate() { return estimatedCompletionDate; }
     public void setEstimatedCompletionDate(LocalDateTime estimatedCompletionDate) { this.estimatedCompletionDate = estimatedCompletionDate; }
     
+    public Long getTimeInPreviousStatusSeconds() { return timeInPreviousStatusSeconds; }
+    public void setTimeInPreviousStatusSeconds(Long timeInPreviousStatusSeconds) { this.timeInPreviousStatusSeconds = timeInPreviousStatusSeconds; }
+    
     // Business Methods
     public boolean isStatusUpgrade() {
         return newStatus.getOrder() > previousStatus.getOrder();
@@ -0,0 +1,29 @@
+package com.campus.incident.entity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+// Bucket width for incident trends, and how many recent buckets stay in memory
+public enum TrendGranularity {
+    HOUR(3600, 24 * 14),
+    DAY(86400, 120);
+
+    private final long seconds;
+    private final int retainedBuckets;
+
+    TrendGranularity(long seconds, int retainedBuckets) {
+        this.seconds = seconds;
+        this.retainedBuckets = retainedBuckets;
+    }
+
+    public int getRetainedBuckets() { return retainedBuckets; }
+
+    // Bucket number counted from the epoch (local wall-clock time)
+    public long bucketOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), seconds);
+    }
+
+    public LocalDateTime startOf(long bucket) {
+        return LocalDateTime.ofEpochSecond(bucket * seconds, 0, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,73 @@
+package com.campus.incident.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// Historical trend bucket: how many incidents of a category and priority entered
+// a status during one hour or day. Written by TrendStore as buckets age out of memory.
+@Entity
+@Table(name = "incident_trend_rollups", uniqueConstraints = @UniqueConstraint(
+        name = "uk_trend_rollup_bucket",
+        columnNames = {"granularity", "bucket_start", "category_id", "priority_level", "status"}))
+public class TrendRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TrendGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(name = "priority_level", nullable = false)
+    private Integer priorityLevel;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IncidentStatus status;
+
+    @Column(name = "incident_count", nullable = false)
+    private long count;
+
+    // Constructors
+    public TrendRollup() {}
+
+    public TrendRollup(TrendGranularity granularity, LocalDateTime bucketStart, Long categoryId,
+                       Integer priorityLevel, IncidentStatus status, long count) {
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.categoryId = categoryId;
+        this.priorityLevel = priorityLevel;
+        this.status = status;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public TrendGranularity getGranularity() { return granularity; }
+    public void setGranularity(TrendGranularity granularity) { this.granularity = granularity; }
+
+    public LocalDateTime getBucketStart() { return bucketStart; }
+    public void setBucketStart(LocalDateTime bucketStart) { this.bucketStart = bucketStart; }
+
+    public Long getCategoryId() { return categoryId; }
+    public void setCategoryId(Long categoryId) { this.categoryId = categoryId; }
+
+    public Integer getPriorityLevel() { return priorityLevel; }
+    public void setPriorityLevel(Integer priorityLevel) { this.priorityLevel = priorityLevel; }
+
+    public IncidentStatus getStatus() { return status; }
+    public void setStatus(IncidentStatus status) { this.status = status; }
+
+    public long getCount() { return count; }
+    public void setCount(long count) { this.count = count; }
+}
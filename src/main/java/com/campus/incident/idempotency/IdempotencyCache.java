@@ -0,0 +1,125 @@
+package com.campus.incident.idempotency;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Responses by idempotency key. The first request for a key becomes the leader
+// and completes the entry's future; duplicates that arrive while it runs wait
+// on that future instead of executing again. Each entry keeps the fingerprint of
+// the request that created it, so a key reused for a different payload can be
+// rejected. Every entry has the same TTL, so insertion
+// order is expiry order and a FIFO queue is enough to evict expired entries and
+// to enforce the size bound.
+@Component
+public class IdempotencyCache {
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    // Length of insertionOrder, which also holds entries already dropped from the map
+    private final AtomicInteger queued = new AtomicInteger();
+
+    // The live entry for a key, created if absent; the caller that wins Entry.tryStart() executes
+    public Entry claim(String key, byte[] fingerprint) {
+        long now = System.nanoTime();
+        evict(now);
+        while (true) {
+            Entry candidate = new Entry(key, fingerprint, now);
+            Entry existing = entries.putIfAbsent(key, candidate);
+            if (existing == null) {
+                insertionOrder.add(candidate);
+                queued.incrementAndGet();
+                evict(now);
+                return candidate;
+            }
+            if (!existing.isExpired(now, ttlNanos())) {
+                return existing;
+            }
+            entries.remove(key, existing);
+        }
+    }
+
+    // Publishes the leader's response; transient failures go to waiting duplicates but are not kept
+    public void complete(Entry entry, StoredResponse response) {
+        if (!response.isReplayable()) {
+            entries.remove(entry.key, entry);
+        }
+        entry.response.complete(response);
+    }
+
+    // The leader failed without a response. The entry is dropped before its waiters wake, so
+    // they claim a fresh entry for the key and only the first of them executes again
+    public void abandon(Entry entry, Throwable failure) {
+        entries.remove(entry.key, entry);
+        entry.response.completeExceptionally(failure);
+    }
+
+    @Scheduled(fixedDelayString = "${incident.idempotency.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        evict(System.nanoTime());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict(long now) {
+        long ttl = ttlNanos();
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null
+                && (oldest.isExpired(now, ttl) || queued.get() > properties.getMaxEntries())) {
+            if (insertionOrder.remove(oldest)) {
+                queued.decrementAndGet();
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    private long ttlNanos() {
+        return TimeUnit.SECONDS.toNanos(properties.getTtlSeconds());
+    }
+
+    public static final class Entry {
+        private final String key;
+        private final byte[] fingerprint;
+        private final long createdAt;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<StoredResponse> response = new CompletableFuture<>();
+
+        Entry(String key, byte[] fingerprint, long createdAt) {
+            this.key = key;
+            this.fingerprint = fingerprint;
+            this.createdAt = createdAt;
+        }
+
+        // True for exactly one caller, which must then complete or abandon the entry
+        public boolean tryStart() {
+            return started.compareAndSet(false, true);
+        }
+
+        // Whether a request with this fingerprint is a retry of the one that created the entry
+        public boolean matches(byte[] requestFingerprint) {
+            return MessageDigest.isEqual(fingerprint, requestFingerprint);
+        }
+
+        boolean isExpired(long now, long ttlNanos) {
+            return now - createdAt > ttlNanos;
+        }
+
+        public CompletableFuture<StoredResponse> getResponse() {
+            return response;
+        }
+    }
+}
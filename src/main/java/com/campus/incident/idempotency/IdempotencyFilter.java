@@ -0,0 +1,167 @@
+package com.campus.incident.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Honors an Idempotency-Key header on incident and maintenance mutations
+// (POST / PUT / PATCH / DELETE). The first request with a key runs normally and
+// its response is stored; retries with the same key get the stored response
+// without reaching the controllers or IncidentServiceImpl, and duplicates that
+// arrive while the first is still running wait for its result. Keys are scoped
+// to the authenticated user, method and path; reusing a key with different
+// parameters or body is rejected with 422.
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+    static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Autowired
+    private IdempotencyCache cache;
+
+    @Autowired
+    private IdempotencyProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || request.getHeader(KEY_HEADER) == null) {
+            return true;
+        }
+        String method = request.getMethod();
+        if (!method.equals("POST") && !method.equals("PUT") && !method.equals("PATCH") && !method.equals("DELETE")) {
+            return true;
+        }
+        String path = path(request);
+        return !path.startsWith("/api/incidents") && !path.startsWith("/api/maintenance");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(KEY_HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, KEY_HEADER + " must be 1-" + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String principal = authentication != null ? authentication.getName() : "";
+        String key = principal + '\n' + request.getMethod() + ' ' + path(request) + '\n' + idempotencyKey;
+
+        // Parameters first: a form body is parsed into them before the raw body is read
+        MessageDigest digest = sha256();
+        new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+            digest.update(name.getBytes(StandardCharsets.UTF_8));
+            for (String value : values) {
+                digest.update((byte) 0);
+                digest.update(value.getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+        });
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        byte[] fingerprint = digest.digest(cachedRequest.getBody());
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getWaitSeconds());
+        while (true) {
+            IdempotencyCache.Entry entry = cache.claim(key, fingerprint);
+            if (!entry.matches(fingerprint)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        KEY_HEADER + " was already used for a request with a different payload");
+                return;
+            }
+            if (entry.tryStart()) {
+                execute(entry, cachedRequest, response, chain);
+                return;
+            }
+
+            StoredResponse stored;
+            try {
+                stored = entry.getResponse().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                writeError(response, HttpStatus.CONFLICT, "A request with this " + KEY_HEADER + " is still in progress");
+                return;
+            } catch (ExecutionException e) {
+                // The original failed without a response, so nothing was committed on its behalf;
+                // claim the key again, and the first waiter to do so runs the request
+                continue;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writeError(response, HttpStatus.SERVICE_UNAVAILABLE, "Interrupted while waiting for the original request");
+                return;
+            }
+            replay(stored, response);
+            return;
+        }
+    }
+
+    private void execute(IdempotencyCache.Entry entry, HttpServletRequest request, HttpServletResponse response,
+                         FilterChain chain) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            cache.abandon(entry, e);
+            throw e;
+        }
+
+        // Oversized bodies are not kept; retries then get the status and headers only
+        byte[] body = wrapper.getContentAsByteArray();
+        cache.complete(entry, new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+                wrapper.getHeader(HttpHeaders.LOCATION), body.length <= properties.getMaxBodyBytes() ? body : new byte[0]));
+        wrapper.copyBodyToResponse();
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.getStatus());
+        if (stored.getContentType() != null) {
+            response.setContentType(stored.getContentType());
+        }
+        if (stored.getLocation() != null) {
+            response.setHeader(HttpHeaders.LOCATION, stored.getLocation());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.getBody().length);
+        response.getOutputStream().write(stored.getBody());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
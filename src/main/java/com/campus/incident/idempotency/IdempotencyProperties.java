@@ -0,0 +1,38 @@
+package com.campus.incident.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "incident.idempotency")
+public class IdempotencyProperties {
+
+    private boolean enabled = true;
+
+    // How long a stored response is replayed for the same key
+    private long ttlSeconds = 86_400;
+
+    // Upper bound on stored responses; the oldest are evicted first
+    private int maxEntries = 10_000;
+
+    // Response bodies larger than this are not stored; retries get the status and headers only
+    private int maxBodyBytes = 256 * 1024;
+
+    // How long a duplicate waits for the in-flight original before giving up with 409
+    private long waitSeconds = 30;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getTtlSeconds() { return ttlSeconds; }
+    public void setTtlSeconds(long ttlSeconds) { this.ttlSeconds = ttlSeconds; }
+
+    public int getMaxEntries() { return maxEntries; }
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+
+    public int getMaxBodyBytes() { return maxBodyBytes; }
+    public void setMaxBodyBytes(int maxBodyBytes) { this.maxBodyBytes = maxBodyBytes; }
+
+    public long getWaitSeconds() { return waitSeconds; }
+    public void setWaitSeconds(long waitSeconds) { this.waitSeconds = waitSeconds; }
+}
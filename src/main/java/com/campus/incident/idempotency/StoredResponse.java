@@ -0,0 +1,27 @@
+package com.campus.incident.idempotency;
+
+// Status, content type, Location and body of a completed request, replayed for retries
+public final class StoredResponse {
+
+    private final int status;
+    private final String contentType;
+    private final String location;
+    private final byte[] body;
+
+    public StoredResponse(int status, String contentType, String location, byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.location = location;
+        this.body = body;
+    }
+
+    public int getStatus() { return status; }
+    public String getContentType() { return contentType; }
+    public String getLocation() { return location; }
+    public byte[] getBody() { return body; }
+
+    // Server errors and throttling are transient, so a retry should run again rather than replay them
+    public boolean isReplayable() {
+        return status < 500 && status != 429 && status != 408;
+    }
+}
@@ -0,0 +1,27 @@
+package com.campus.incident.importing;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "incident.import")
+public class ImportProperties {
+
+    // Records inserted per transaction; a progress line is streamed after each chunk
+    private int chunkSize = 500;
+
+    // JDBC batch size used by the import session
+    private int batchSize = 50;
+
+    // Stop reading once this many records have been rejected
+    private int maxErrors = 1000;
+
+    public int getChunkSize() { return chunkSize; }
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public int getMaxErrors() { return maxErrors; }
+    public void setMaxErrors(int maxErrors) { this.maxErrors = maxErrors; }
+}
@@ -0,0 +1,554 @@
+package com.campus.incident.importing;
+
+import com.campus.incident.assignment.WorkloadBalancer;
+import com.campus.incident.dispatch.ClaimQueue;
+import com.campus.incident.duplicate.DuplicateIndex;
+import com.campus.incident.entity.IncidentCategory;
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.ResolutionMetric;
+import com.campus.incident.entity.StatusUpdate;
+import com.campus.incident.entity.User;
+import com.campus.incident.location.LocationIndex;
+import com.campus.incident.readmodel.IncidentViewProjector;
+import com.campus.incident.repository.IncidentCategoryRepository;
+import com.campus.incident.repository.UserRepository;
+import com.campus.incident.resolution.ResolutionTimeStore;
+import com.campus.incident.sla.SlaEngine;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Streams legacy helpdesk tickets (NDJSON or CSV) into incident_reports.
+// Records are parsed one at a time, category and user names are resolved from
+// maps loaded once per import, and each chunk is persisted in its own
+// transaction with JDBC batching. Progress and per-record errors are written
+// to the output as NDJSON lines while the import runs.
+@Component
+public class IncidentImporter {
+
+    @Autowired
+    private IncidentCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ImportProperties properties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LocationIndex locationIndex;
+
+    @Autowired
+    private WorkloadBalancer workloadBalancer;
+
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+
+    @Autowired
+    private ClaimQueue claimQueue;
+
+    @Autowired
+    private IncidentViewProjector viewProjector;
+
+    @Autowired
+    private SlaEngine slaEngine;
+
+    @Autowired
+    private ResolutionTimeStore resolutionTimes;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public Map<String, Object> importIncidents(InputStream input, ImportFormat format, User importedBy,
+                                               OutputStream output) throws IOException {
+        long started = System.nanoTime();
+        References references = loadReferences();
+        Report report = new Report(output);
+        RecordSource source = format == ImportFormat.CSV
+                ? new CsvSource(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)))
+                : new NdjsonSource(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int processed = 0;
+        int imported = 0;
+        int failed = 0;
+        int chunks = 0;
+        boolean aborted = false;
+
+        try {
+            SourceRecord record;
+            while ((record = source.next()) != null) {
+                processed++;
+                try {
+                    if (record.error != null) {
+                        throw new IllegalArgumentException(record.error);
+                    }
+                    chunk.add(toRow(record, references));
+                } catch (IllegalArgumentException e) {
+                    failed++;
+                    report.error(record.line, e.getMessage());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    int written = writeChunk(chunk, importedBy, report);
+                    imported += written;
+                    failed += chunk.size() - written;
+                    chunks++;
+                    chunk.clear();
+                    report.progress(processed, imported, failed);
+                }
+                if (failed >= properties.getMaxErrors()) {
+                    aborted = true;
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            // Unreadable stream (e.g. unterminated CSV quote); keep what was already committed
+            report.error(null, e.getMessage());
+            aborted = true;
+        }
+
+        if (!chunk.isEmpty()) {
+            int written = writeChunk(chunk, importedBy, report);
+            imported += written;
+            failed += chunk.size() - written;
+            chunks++;
+            report.progress(processed, imported, failed);
+        }
+
+        if (imported > 0) {
+            // Imported rows bypass the service hooks, so refresh the in-memory views
+            workloadBalancer.rebuild();
+            locationIndex.rebuild();
+            duplicateIndex.rebuild();
+            claimQueue.refill();
+            slaEngine.rebuild();
+            if (viewProjector.isServing()) {
+                viewProjector.rebuild();
+            }
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("type", "summary");
+        summary.put("format", format);
+        summary.put("processed", processed);
+        summary.put("imported", imported);
+        summary.put("failed", failed);
+        summary.put("chunks", chunks);
+        summary.put("aborted", aborted);
+        summary.put("elapsedMs", (System.nanoTime() - started) / 1_000_000);
+        report.write(summary);
+        return summary;
+    }
+
+    // Persists one chunk in a single transaction; returns how many records were stored
+    private int writeChunk(List<ImportRow> chunk, User importedBy, Report report) throws IOException {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                entityManager.unwrap(Session.class).setJdbcBatchSize(properties.getBatchSize());
+                User importer = entityManager.getReference(User.class, importedBy.getId());
+                for (ImportRow row : chunk) {
+                    IncidentReport incident = toIncident(row, importer);
+                    entityManager.persist(incident);
+                    recordResolutionTimes(incident);
+                }
+                entityManager.flush();
+                entityManager.clear();
+            });
+            return chunk.size();
+        } catch (RuntimeException e) {
+            report.error(chunk.get(0).line, "Chunk of " + chunk.size() + " records ending on line "
+                    + chunk.get(chunk.size() - 1).line + " rolled back: " + e.getMessage());
+            return 0;
+        }
+    }
+
+    // Imported finished incidents join the persisted sketches once their chunk commits; a rebuild would
+    // drop the history of incidents already archived
+    private void recordResolutionTimes(IncidentReport incident) {
+        IncidentStatus status = incident.getStatus();
+        if ((status == IncidentStatus.RESOLVED || status == IncidentStatus.CLOSED)
+                && incident.getActualResolutionDate() != null) {
+            resolutionTimes.recordAfterCommit(incident, ResolutionMetric.TIME_TO_RESOLVE,
+                    incident.getActualResolutionDate());
+        }
+        if (status == IncidentStatus.CLOSED) {
+            resolutionTimes.recordAfterCommit(incident, ResolutionMetric.TIME_TO_CLOSE, incident.getUpdatedAt());
+        }
+    }
+
+    private IncidentReport toIncident(ImportRow row, User importer) {
+        IncidentReport incident = new IncidentReport();
+        incident.setTitle(row.title);
+        incident.setDescription(row.description);
+        incident.setLocationDetails(row.locationDetails);
+        incident.setLocationPath(row.locationPath);
+        incident.setCategory(entityManager.getReference(IncidentCategory.class, row.categoryId));
+        if (row.reporterId != null) {
+            incident.setReporter(entityManager.getReference(User.class, row.reporterId));
+        }
+        if (row.assignedToId != null) {
+            incident.setAssignedTo(entityManager.getReference(User.class, row.assignedToId));
+        }
+        incident.setStatus(row.status);
+        incident.setPriorityLevel(row.priorityLevel);
+        incident.setUrgent(row.urgent);
+        incident.setConfidential(row.confidential);
+        incident.setEstimatedResolutionDate(row.estimatedResolutionDate);
+        incident.setActualResolutionDate(row.actualResolutionDate);
+        incident.setImportedTimestamps(row.createdAt, row.updatedAt != null ? row.updatedAt : row.createdAt);
+
+        if (row.status != IncidentStatus.REPORTED) {
+            StatusUpdate update = new StatusUpdate(IncidentStatus.REPORTED, row.status, importer,
+                    "Imported with status " + row.status.getDisplayName());
+            update.setIncident(incident);
+            update.setTransitionReason("Bulk import");
+            incident.getStatusUpdates().add(update);
+        }
+        if (row.notes != null) {
+            incident.addResolutionLog("Imported history", row.notes, importer);
+        }
+        return incident;
+    }
+
+    private ImportRow toRow(SourceRecord record, References references) {
+        Map<String, String> fields = record.fields;
+        ImportRow row = new ImportRow();
+        row.line = record.line;
+
+        row.title = required(fields, "title");
+        row.description = required(fields, "description");
+        row.locationDetails = first(fields, "locationdetails", "location");
+        row.locationPath = locationIndex.resolvePath(fields.get("locationpath"), row.locationDetails);
+
+        CategoryRef category;
+        String categoryId = fields.get("categoryid");
+        if (categoryId != null) {
+            category = references.categoriesById.get(parseLong(categoryId, "categoryId"));
+        } else {
+            category = references.categoriesByName.get(lower(required(fields, "category")));
+        }
+        if (category == null) {
+            throw new IllegalArgumentException("Unknown category: " + first(fields, "categoryid", "category"));
+        }
+        row.categoryId = category.id;
+
+        row.reporterId = userId(fields.get("reporter"), references);
+        row.assignedToId = userId(first(fields, "assignedto", "assignee"), references);
+
+        String status = fields.get("status");
+        try {
+            row.status = status != null
+                    ? IncidentStatus.valueOf(status.trim().toUpperCase(Locale.ROOT).replace(' ', '_').replace('-', '_'))
+                    : IncidentStatus.REPORTED;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown status: " + status);
+        }
+
+        String priority = first(fields, "prioritylevel", "priority");
+        row.priorityLevel = priority != null ? (int) parseLong(priority, "priorityLevel") : category.priorityLevel;
+        if (row.priorityLevel == null || row.priorityLevel < 1 || row.priorityLevel > 4) {
+            throw new IllegalArgumentException("priorityLevel must be between 1 and 4: " + priority);
+        }
+
+        row.urgent = parseBoolean(first(fields, "isurgent", "urgent"));
+        row.confidential = parseBoolean(first(fields, "isconfidential", "confidential"));
+        row.createdAt = parseDateTime(fields.get("createdat"), "createdAt");
+        row.updatedAt = parseDateTime(fields.get("updatedat"), "updatedAt");
+        row.estimatedResolutionDate = parseDateTime(fields.get("estimatedresolutiondate"), "estimatedResolutionDate");
+        row.actualResolutionDate = parseDateTime(first(fields, "actualresolutiondate", "resolvedat"), "actualResolutionDate");
+        row.notes = first(fields, "notes", "resolutionnotes");
+        return row;
+    }
+
+    private References loadReferences() {
+        References references = new References();
+        for (IncidentCategory category : categoryRepository.findAll()) {
+            CategoryRef ref = new CategoryRef(category.getId(), category.getPriorityLevel());
+            references.categoriesById.put(category.getId(), ref);
+            references.categoriesByName.put(lower(category.getName()), ref);
+        }
+        for (User user : userRepository.findAll()) {
+            references.usersByName.put(lower(user.getUsername()), user.getId());
+        }
+        return references;
+    }
+
+    private static Long userId(String username, References references) {
+        if (username == null) {
+            return null;
+        }
+        Long id = references.usersByName.get(lower(username));
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown user: " + username);
+        }
+        return id;
+    }
+
+    private static String required(Map<String, String> fields, String key) {
+        String value = fields.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing required field: " + key);
+        }
+        return value;
+    }
+
+    private static String first(Map<String, String> fields, String key, String alternative) {
+        String value = fields.get(key);
+        return value != null ? value : fields.get(alternative);
+    }
+
+    private static long parseLong(String value, String field) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + " is not a number: " + value);
+        }
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value == null) {
+            return false;
+        }
+        String normalized = lower(value.trim());
+        return normalized.equals("true") || normalized.equals("1") || normalized.equals("yes") || normalized.equals("y");
+    }
+
+    // ISO date-time, or an ISO date meaning midnight
+    private static LocalDateTime parseDateTime(String value, String field) {
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException(field + " is not an ISO date-time: " + value);
+        }
+    }
+
+    private static String lower(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    // Field names are matched case-insensitively, ignoring '_', '-' and spaces
+    static String normalizeKey(String key) {
+        StringBuilder normalized = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = Character.toLowerCase(key.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private interface RecordSource {
+        SourceRecord next() throws IOException;
+    }
+
+    // One JSON object per line; blank lines are skipped
+    private final class NdjsonSource implements RecordSource {
+        private final BufferedReader reader;
+        private int line;
+
+        NdjsonSource(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public SourceRecord next() throws IOException {
+            String text;
+            do {
+                text = reader.readLine();
+                line++;
+                if (text == null) {
+                    return null;
+                }
+            } while (text.isBlank());
+
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                return SourceRecord.invalid(line, "Malformed JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                return SourceRecord.invalid(line, "Expected a JSON object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                if (!entry.getValue().isNull()) {
+                    fields.put(normalizeKey(entry.getKey()), entry.getValue().asText());
+                }
+            }
+            return SourceRecord.of(line, fields);
+        }
+    }
+
+    // Header row names the columns; empty cells count as missing
+    private static final class CsvSource implements RecordSource {
+        private final CsvRecordReader reader;
+        private List<String> header;
+
+        CsvSource(BufferedReader reader) {
+            this.reader = new CsvRecordReader(reader);
+        }
+
+        @Override
+        public SourceRecord next() throws IOException {
+            if (header == null) {
+                List<String> names = reader.next();
+                if (names == null) {
+                    return null;
+                }
+                header = new ArrayList<>(names.size());
+                for (String name : names) {
+                    header.add(normalizeKey(name));
+                }
+            }
+
+            List<String> values;
+            do {
+                values = reader.next();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isEmpty());
+
+            if (values.size() != header.size()) {
+                return SourceRecord.invalid(reader.getRecordLine(),
+                        "Expected " + header.size() + " columns but found " + values.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                if (!values.get(i).isEmpty()) {
+                    fields.put(header.get(i), values.get(i));
+                }
+            }
+            return SourceRecord.of(reader.getRecordLine(), fields);
+        }
+    }
+
+    private static final class SourceRecord {
+        private final int line;
+        private final Map<String, String> fields;
+        private final String error;
+
+        private SourceRecord(int line, Map<String, String> fields, String error) {
+            this.line = line;
+            this.fields = fields;
+            this.error = error;
+        }
+
+        static SourceRecord of(int line, Map<String, String> fields) {
+            return new SourceRecord(line, fields, null);
+        }
+
+        static SourceRecord invalid(int line, String error) {
+            return new SourceRecord(line, null, error);
+        }
+    }
+
+    // A validated record with references already resolved to ids
+    private static final class ImportRow {
+        private int line;
+        private String title;
+        private String description;
+        private String locationDetails;
+        private String locationPath;
+        private Long categoryId;
+        private Long reporterId;
+        private Long assignedToId;
+        private IncidentStatus status;
+        private Integer priorityLevel;
+        private boolean urgent;
+        private boolean confidential;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime estimatedResolutionDate;
+        private LocalDateTime actualResolutionDate;
+        private String notes;
+    }
+
+    private static final class CategoryRef {
+        private final Long id;
+        private final Integer priorityLevel;
+
+        CategoryRef(Long id, Integer priorityLevel) {
+            this.id = id;
+            this.priorityLevel = priorityLevel;
+        }
+    }
+
+    private static final class References {
+        private final Map<Long, CategoryRef> categoriesById = new HashMap<>();
+        private final Map<String, CategoryRef> categoriesByName = new HashMap<>();
+        private final Map<String, Long> usersByName = new HashMap<>();
+    }
+
+    // Writes report lines as NDJSON and flushes each so the client sees progress immediately
+    private final class Report {
+        private final OutputStream output;
+
+        Report(OutputStream output) {
+            this.output = output;
+        }
+
+        void error(Integer line, String message) throws IOException {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("type", "error");
+            entry.put("line", line);
+            entry.put("message", message);
+            write(entry);
+        }
+
+        void progress(int processed, int imported, int failed) throws IOException {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("type", "progress");
+            entry.put("processed", processed);
+            entry.put("imported", imported);
+            entry.put("failed", failed);
+            write(entry);
+        }
+
+        void write(Map<String, Object> entry) throws IOException {
+            output.write(objectMapper.writeValueAsBytes(entry));
+            output.write('\n');
+            output.flush();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.campus.incident.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Covers the user lookup and the BCrypt comparison, which dominates the cost
+@Name("campus.incident.CredentialCheck")
+@Label("Credential Check")
+@Category({"Campus Incident", "Security"})
+@Description("Username/password authentication of an HTTP Basic request")
+@StackTrace(false)
+public class CredentialCheckEvent extends Event {
+
+    @Label("User")
+    String username;
+
+    @Label("Authenticated")
+    boolean authenticated;
+
+    @Label("Failure")
+    String failure;
+
+    public static CredentialCheckEvent begin(String username) {
+        CredentialCheckEvent event = new CredentialCheckEvent();
+        event.username = username;
+        event.begin();
+        return event;
+    }
+
+    public void finish(RuntimeException failure) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.authenticated = failure == null;
+        this.failure = failure != null ? failure.getClass().getSimpleName() : null;
+        commit();
+    }
+}
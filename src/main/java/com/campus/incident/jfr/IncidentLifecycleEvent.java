@@ -0,0 +1,60 @@
+package com.campus.incident.jfr;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.User;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// One IncidentServiceImpl lifecycle call (create, status change, assignment, ...).
+// Only committed when the call succeeds; a failed call shows up as the
+// exception and, for authorization failures, a denied PermissionCheck.
+@Name("campus.incident.Lifecycle")
+@Label("Incident Lifecycle")
+@Category({"Campus Incident", "Service"})
+@Description("Incident service operation with the incident's status before and after")
+@StackTrace(false)
+public class IncidentLifecycleEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Incident Id")
+    long incidentId;
+
+    @Label("Old Status")
+    String oldStatus;
+
+    @Label("New Status")
+    String newStatus;
+
+    @Label("User")
+    String username;
+
+    public static IncidentLifecycleEvent begin(String operation) {
+        IncidentLifecycleEvent event = new IncidentLifecycleEvent();
+        event.operation = operation;
+        event.begin();
+        return event;
+    }
+
+    public void finish(IncidentReport incident, IncidentStatus oldStatus, User user) {
+        finish(incident.getId(), oldStatus, incident.getStatus(), user);
+    }
+
+    public void finish(Long incidentId, IncidentStatus oldStatus, IncidentStatus newStatus, User user) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.incidentId = incidentId != null ? incidentId : 0;
+        this.oldStatus = oldStatus != null ? oldStatus.name() : null;
+        this.newStatus = newStatus != null ? newStatus.name() : null;
+        this.username = user != null ? user.getUsername() : null;
+        commit();
+    }
+}
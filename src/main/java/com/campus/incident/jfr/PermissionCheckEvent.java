@@ -0,0 +1,53 @@
+package com.campus.incident.jfr;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.User;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("campus.incident.PermissionCheck")
+@Label("Permission Check")
+@Category({"Campus Incident", "Security"})
+@Description("Per-incident authorization decision (canUserViewIncident, canUserUpdateIncident, ...)")
+@StackTrace(false)
+public class PermissionCheckEvent extends Event {
+
+    @Label("Permission")
+    String permission;
+
+    @Label("Incident Id")
+    long incidentId;
+
+    @Label("User")
+    String username;
+
+    @Label("Role")
+    String role;
+
+    @Label("Granted")
+    boolean granted;
+
+    public static PermissionCheckEvent begin(String permission) {
+        PermissionCheckEvent event = new PermissionCheckEvent();
+        event.permission = permission;
+        event.begin();
+        return event;
+    }
+
+    // Returns the decision so callers can write "return event.finish(..., decide(...))"
+    public boolean finish(IncidentReport incident, User user, boolean granted) {
+        end();
+        if (shouldCommit()) {
+            this.incidentId = incident.getId() != null ? incident.getId() : 0;
+            this.username = user.getUsername();
+            this.role = user.getRole() != null ? user.getRole().name() : null;
+            this.granted = granted;
+            commit();
+        }
+        return granted;
+    }
+}
@@ -0,0 +1,25 @@
+package com.campus.incident.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("campus.incident.RepositoryCall")
+@Label("Repository Call")
+@Category({"Campus Incident", "Persistence"})
+@Description("Spring Data repository method invocation, including flushes it triggers")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Failed")
+    boolean failed;
+}
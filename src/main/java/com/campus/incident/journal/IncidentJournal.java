@@ -0,0 +1,218 @@
+package com.campus.incident.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+// Append-only log of incident lifecycle events (create, status transition,
+// assignment, log entries, delete) in fixed-size memory-mapped segment files.
+// Every record gets the next sequence number and a CRC32; on startup the
+// segments are rescanned and a torn tail from a crash is discarded. Consumers
+// (analytics, search indexing, notifications) replay from any sequence with a
+// JournalReader and can keep tailing as new events arrive.
+@Component
+public class IncidentJournal {
+
+    // Smallest segment that still holds the largest possible record
+    static final int MIN_SEGMENT_SIZE = 64 * 1024;
+
+    @Autowired
+    private JournalProperties properties;
+
+    private final ConcurrentSkipListMap<Long, JournalSegment> segments = new ConcurrentSkipListMap<>();
+    private final AtomicLong appendFailures = new AtomicLong();
+    private JournalSegment active;
+    private volatile long lastSequence;
+
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (properties.getSegmentSizeBytes() < MIN_SEGMENT_SIZE) {
+            throw new IllegalStateException("incident.journal.segment-size-bytes must be at least " + MIN_SEGMENT_SIZE);
+        }
+        Path directory = directory();
+        Files.createDirectories(directory);
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(JournalSegment.SUFFIX))
+                    .sorted()
+                    .toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long base = Long.parseLong(name.substring(0, name.length() - JournalSegment.SUFFIX.length()));
+            JournalSegment segment = JournalSegment.open(directory, base, properties.getSegmentSizeBytes());
+            segment.recover();
+            if (active != null) {
+                active.seal();
+            }
+            segments.put(base, segment);
+            active = segment;
+        }
+        if (active == null) {
+            active = JournalSegment.open(directory, 1, properties.getSegmentSizeBytes());
+            segments.put(1L, active);
+        }
+        lastSequence = active.getLastSequence();
+    }
+
+    // Journals the event once the surrounding transaction commits, so rolled-back
+    // changes never reach consumers. Journal I/O failures never fail the request.
+    public void appendAfterCommit(JournalEvent event) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tryAppend(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tryAppend(event);
+            }
+        });
+    }
+
+    private void tryAppend(JournalEvent event) {
+        try {
+            append(event);
+        } catch (RuntimeException e) {
+            appendFailures.incrementAndGet();
+        }
+    }
+
+    // Assigns the next sequence number and writes the event; returns that sequence
+    public synchronized long append(JournalEvent event) {
+        if (active == null) {
+            throw new IllegalStateException("Incident journal is not open");
+        }
+        long sequence = lastSequence + 1;
+        byte[] body = event.withSequence(sequence).encode();
+        if (!active.append(sequence, body)) {
+            roll(sequence);
+            if (!active.append(sequence, body)) {
+                throw new IllegalStateException("Journal record of " + body.length + " bytes does not fit a segment");
+            }
+        }
+        lastSequence = sequence;
+        notifyAll();
+        return sequence;
+    }
+
+    private void roll(long nextSequence) {
+        try {
+            active.force();
+            active.seal();
+            active = JournalSegment.open(directory(), nextSequence, properties.getSegmentSizeBytes());
+            segments.put(nextSequence, active);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not roll journal segment", e);
+        }
+        int retained = properties.getRetainedSegments();
+        while (retained > 0 && segments.size() > retained + 1) {
+            JournalSegment oldest = segments.pollFirstEntry().getValue();
+            try {
+                oldest.close();
+                Files.deleteIfExists(oldest.getPath());
+            } catch (IOException e) {
+                appendFailures.incrementAndGet();
+            }
+        }
+    }
+
+    // Reader positioned at the given sequence (or the oldest retained one if that was deleted)
+    public JournalReader openReader(long fromSequence) {
+        if (!properties.isEnabled()) {
+            throw new IllegalStateException("Incident journal is disabled");
+        }
+        return new JournalReader(this, Math.max(1, fromSequence));
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public long getLastSequence() {
+        return lastSequence;
+    }
+
+    // Blocks until an event with at least the given sequence exists, or the timeout passes
+    boolean awaitSequence(long sequence, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (this) {
+            while (lastSequence < sequence) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    return false;
+                }
+                wait(remaining);
+            }
+            return true;
+        }
+    }
+
+    ConcurrentSkipListMap<Long, JournalSegment> segments() {
+        return segments;
+    }
+
+    @Scheduled(fixedDelayString = "${incident.journal.force-interval-ms:1000}")
+    public void force() {
+        JournalSegment segment;
+        synchronized (this) {
+            segment = active;
+        }
+        if (segment != null) {
+            segment.force();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", properties.isEnabled());
+        stats.put("directory", directory().toAbsolutePath().toString());
+        stats.put("firstSequence", segments.isEmpty() ? 0 : segments.firstKey());
+        stats.put("lastSequence", lastSequence);
+        stats.put("segments", segments.size());
+        stats.put("appendFailures", appendFailures.get());
+        return stats;
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (active != null) {
+            active.force();
+        }
+        List<JournalSegment> open = new ArrayList<>(segments.values());
+        segments.clear();
+        active = null;
+        for (JournalSegment segment : open) {
+            segment.close();
+        }
+    }
+
+    private Path directory() {
+        return Paths.get(properties.getDirectory());
+    }
+}
@@ -0,0 +1,139 @@
+package com.campus.incident.journal;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.User;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+// One incident lifecycle fact as stored in the journal. Events are built by the
+// service layer without a sequence number; IncidentJournal assigns it on append.
+public final class JournalEvent {
+
+    // Longer details are cut so a record always fits in a segment
+    static final int MAX_DETAIL_BYTES = 8 * 1024;
+    static final int FIXED_SIZE = 8 + 8 + 1 + 8 + 8 + 8 + 1 + 1 + 4;
+    static final int MAX_ENCODED_SIZE = FIXED_SIZE + MAX_DETAIL_BYTES;
+
+    private static final IncidentStatus[] STATUSES = IncidentStatus.values();
+    private static final JournalEventType[] TYPES = JournalEventType.values();
+
+    private final long sequence;
+    private final long timestamp;
+    private final JournalEventType type;
+    private final long incidentId;
+    private final long actorId;
+    private final long assigneeId;
+    private final IncidentStatus fromStatus;
+    private final IncidentStatus toStatus;
+    private final String detail;
+
+    private JournalEvent(long sequence, long timestamp, JournalEventType type, long incidentId, long actorId,
+                         long assigneeId, IncidentStatus fromStatus, IncidentStatus toStatus, String detail) {
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.type = type;
+        this.incidentId = incidentId;
+        this.actorId = actorId;
+        this.assigneeId = assigneeId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.detail = detail;
+    }
+
+    public static JournalEvent created(IncidentReport incident, User reporter) {
+        return draft(JournalEventType.CREATED, incident.getId(), reporter, idOf(incident.getAssignedTo()),
+                null, incident.getStatus(), incident.getTitle());
+    }
+
+    public static JournalEvent statusChanged(Long incidentId, IncidentStatus from, IncidentStatus to, User actor,
+                                             String notes) {
+        return draft(JournalEventType.STATUS_CHANGED, incidentId, actor, 0, from, to, notes);
+    }
+
+    public static JournalEvent assigned(IncidentReport incident, IncidentStatus from, User actor) {
+        return draft(JournalEventType.ASSIGNED, incident.getId(), actor, idOf(incident.getAssignedTo()),
+                from, incident.getStatus(), null);
+    }
+
+    public static JournalEvent logAdded(Long incidentId, String action, User actor) {
+        return draft(JournalEventType.LOG_ADDED, incidentId, actor, 0, null, null, action);
+    }
+
+    // Field edits through updateIncident; carries the current status and the (possibly new) title
+    public static JournalEvent updated(IncidentReport incident, User actor) {
+        return draft(JournalEventType.UPDATED, incident.getId(), actor, idOf(incident.getAssignedTo()),
+                null, incident.getStatus(), incident.getTitle());
+    }
+
+    public static JournalEvent deleted(Long incidentId, IncidentStatus status, User actor) {
+        return draft(JournalEventType.DELETED, incidentId, actor, 0, status, null, null);
+    }
+
+    private static JournalEvent draft(JournalEventType type, Long incidentId, User actor, long assigneeId,
+                                      IncidentStatus from, IncidentStatus to, String detail) {
+        return new JournalEvent(0, System.currentTimeMillis(), type, incidentId, idOf(actor), assigneeId,
+                from, to, detail);
+    }
+
+    private static long idOf(User user) {
+        return user != null && user.getId() != null ? user.getId() : 0;
+    }
+
+    JournalEvent withSequence(long sequence) {
+        return new JournalEvent(sequence, timestamp, type, incidentId, actorId, assigneeId, fromStatus, toStatus, detail);
+    }
+
+    // Record body: sequence, timestamp, type, incident, actor, assignee, from, to, detail length, detail bytes
+    byte[] encode() {
+        byte[] detailBytes = detail != null ? detail.getBytes(StandardCharsets.UTF_8) : null;
+        int detailLength = detailBytes == null ? -1 : Math.min(detailBytes.length, MAX_DETAIL_BYTES);
+        ByteBuffer body = ByteBuffer.allocate(FIXED_SIZE + Math.max(0, detailLength));
+        body.putLong(sequence)
+                .putLong(timestamp)
+                .put((byte) type.ordinal())
+                .putLong(incidentId)
+                .putLong(actorId)
+                .putLong(assigneeId)
+                .put(fromStatus == null ? -1 : (byte) fromStatus.ordinal())
+                .put(toStatus == null ? -1 : (byte) toStatus.ordinal())
+                .putInt(detailLength);
+        if (detailLength > 0) {
+            body.put(detailBytes, 0, detailLength);
+        }
+        return body.array();
+    }
+
+    static JournalEvent decode(ByteBuffer body) {
+        long sequence = body.getLong();
+        long timestamp = body.getLong();
+        JournalEventType type = TYPES[body.get()];
+        long incidentId = body.getLong();
+        long actorId = body.getLong();
+        long assigneeId = body.getLong();
+        byte from = body.get();
+        byte to = body.get();
+        int detailLength = body.getInt();
+        String detail = null;
+        if (detailLength >= 0) {
+            byte[] bytes = new byte[detailLength];
+            body.get(bytes);
+            detail = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return new JournalEvent(sequence, timestamp, type, incidentId, actorId, assigneeId,
+                from < 0 ? null : STATUSES[from], to < 0 ? null : STATUSES[to], detail);
+    }
+
+    // Getters (absent ids are null)
+    public long getSequence() { return sequence; }
+    public Instant getTimestamp() { return Instant.ofEpochMilli(timestamp); }
+    public JournalEventType getType() { return type; }
+    public Long getIncidentId() { return incidentId != 0 ? incidentId : null; }
+    public Long getActorId() { return actorId != 0 ? actorId : null; }
+    public Long getAssigneeId() { return assigneeId != 0 ? assigneeId : null; }
+    public IncidentStatus getFromStatus() { return fromStatus; }
+    public IncidentStatus getToStatus() { return toStatus; }
+    public String getDetail() { return detail; }
+}
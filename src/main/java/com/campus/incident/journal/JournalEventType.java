@@ -0,0 +1,11 @@
+package com.campus.incident.journal;
+
+public enum JournalEventType {
+    CREATED,
+    STATUS_CHANGED,
+    ASSIGNED,
+    LOG_ADDED,
+    DELETED,
+    // Stored by ordinal, so new types go at the end
+    UPDATED
+}
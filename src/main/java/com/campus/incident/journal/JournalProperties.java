@@ -0,0 +1,39 @@
+package com.campus.incident.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "incident.journal")
+public class JournalProperties {
+
+    // Record incident lifecycle events to the on-disk journal
+    private boolean enabled = true;
+
+    // Where segment files are kept
+    private String directory = "data/journal";
+
+    // Size of each memory-mapped segment file
+    private int segmentSizeBytes = 16 * 1024 * 1024;
+
+    // Sealed segments kept on disk; older ones are deleted on roll (0 keeps everything)
+    private int retainedSegments = 0;
+
+    // How often appended records are forced to disk
+    private long forceIntervalMs = 1000;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getDirectory() { return directory; }
+    public void setDirectory(String directory) { this.directory = directory; }
+
+    public int getSegmentSizeBytes() { return segmentSizeBytes; }
+    public void setSegmentSizeBytes(int segmentSizeBytes) { this.segmentSizeBytes = segmentSizeBytes; }
+
+    public int getRetainedSegments() { return retainedSegments; }
+    public void setRetainedSegments(int retainedSegments) { this.retainedSegments = retainedSegments; }
+
+    public long getForceIntervalMs() { return forceIntervalMs; }
+    public void setForceIntervalMs(long forceIntervalMs) { this.forceIntervalMs = forceIntervalMs; }
+}
@@ -0,0 +1,88 @@
+package com.campus.incident.journal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Sequential cursor over the journal. Reads go straight to the mapped segments
+// without taking the writer's lock; a reader only ever sees fully written
+// records. Not thread-safe: each consumer owns its reader.
+public class JournalReader {
+
+    private final IncidentJournal journal;
+    private long nextSequence;
+    private JournalSegment segment;
+    private int position;
+
+    JournalReader(IncidentJournal journal, long fromSequence) {
+        this.journal = journal;
+        this.nextSequence = fromSequence;
+    }
+
+    // Up to max events from the current position; empty when caught up
+    public List<JournalEvent> poll(int max) {
+        List<JournalEvent> events = new ArrayList<>(Math.min(max, 256));
+        while (events.size() < max && advance()) {
+            JournalEvent event = segment.read(position);
+            position = segment.nextPosition(position);
+            if (event.getSequence() >= nextSequence) {
+                events.add(event);
+                nextSequence = event.getSequence() + 1;
+            }
+        }
+        return events;
+    }
+
+    // Like poll, but waits up to the timeout for new events when caught up
+    public List<JournalEvent> poll(int max, long timeout, TimeUnit unit) throws InterruptedException {
+        List<JournalEvent> events = poll(max);
+        if (events.isEmpty() && journal.awaitSequence(nextSequence, timeout, unit)) {
+            events = poll(max);
+        }
+        return events;
+    }
+
+    // Sequence of the next event this reader will return
+    public long getNextSequence() {
+        return nextSequence;
+    }
+
+    // Positions on a record that has been written; false when caught up
+    private boolean advance() {
+        if (segment == null && !locate()) {
+            return false;
+        }
+        while (true) {
+            // Check sealed before the write position: a sealed segment gets no more records
+            boolean sealed = segment.isSealed();
+            if (position < segment.getWritePosition()) {
+                return true;
+            }
+            if (!sealed) {
+                return false;
+            }
+            Map.Entry<Long, JournalSegment> next = journal.segments().higherEntry(segment.getBaseSequence());
+            if (next == null) {
+                return false;
+            }
+            segment = next.getValue();
+            position = 0;
+        }
+    }
+
+    private boolean locate() {
+        Map.Entry<Long, JournalSegment> entry = journal.segments().floorEntry(nextSequence);
+        if (entry == null) {
+            // Older segments were deleted by retention; start from the oldest kept
+            entry = journal.segments().firstEntry();
+            if (entry == null) {
+                return false;
+            }
+            nextSequence = Math.max(nextSequence, entry.getKey());
+        }
+        segment = entry.getValue();
+        position = 0;
+        return true;
+    }
+}
@@ -0,0 +1,125 @@
+package com.campus.incident.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+// One fixed-size, memory-mapped journal file named after the sequence of its
+// first record. Records are [int length][int crc32][body]; a zero length marks
+// the end of the written data (new files are zero-filled). The single writer
+// publishes each record by advancing the volatile write position, and readers
+// never look past it.
+final class JournalSegment {
+
+    static final int RECORD_HEADER = 8;
+    static final String SUFFIX = ".journal";
+
+    private final long baseSequence;
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private volatile int writePosition;
+    private volatile long lastSequence;
+    private volatile boolean sealed;
+
+    private JournalSegment(long baseSequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.baseSequence = baseSequence;
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+        this.lastSequence = baseSequence - 1;
+    }
+
+    static JournalSegment open(Path directory, long baseSequence, int size) throws IOException {
+        Path path = directory.resolve(fileName(baseSequence));
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        int mappedSize = (int) Math.max(size, channel.size());
+        return new JournalSegment(baseSequence, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+    }
+
+    static String fileName(long baseSequence) {
+        return String.format("%020d%s", baseSequence, SUFFIX);
+    }
+
+    // Finds the end of the valid records; a torn or corrupt tail (crash mid-append) is zeroed
+    void recover() {
+        int position = 0;
+        long expected = baseSequence;
+        while (position + RECORD_HEADER <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER + length > capacity
+                    || crc(position + RECORD_HEADER, length) != buffer.getInt(position + 4)
+                    || buffer.getLong(position + RECORD_HEADER) != expected) {
+                break;
+            }
+            position += RECORD_HEADER + length;
+            expected++;
+        }
+        int tornEnd = Math.min(capacity, position + RECORD_HEADER + JournalEvent.MAX_ENCODED_SIZE);
+        for (int i = position; i < tornEnd; i++) {
+            buffer.put(i, (byte) 0);
+        }
+        writePosition = position;
+        lastSequence = expected - 1;
+    }
+
+    // Writer only; false when the record does not fit and the segment must be rolled
+    boolean append(long sequence, byte[] body) {
+        int position = writePosition;
+        if (position + RECORD_HEADER + body.length > capacity) {
+            return false;
+        }
+        buffer.put(position + RECORD_HEADER, body);
+        buffer.putInt(position + 4, crc(position + RECORD_HEADER, body.length));
+        buffer.putInt(position, body.length);
+        lastSequence = sequence;
+        writePosition = position + RECORD_HEADER + body.length;
+        return true;
+    }
+
+    // Decodes the record at a position below the write position, verifying its checksum
+    JournalEvent read(int position) {
+        int length = buffer.getInt(position);
+        if (crc(position + RECORD_HEADER, length) != buffer.getInt(position + 4)) {
+            throw new IllegalStateException("Corrupt journal record at " + path.getFileName() + ":" + position);
+        }
+        return JournalEvent.decode(buffer.slice(position + RECORD_HEADER, length));
+    }
+
+    int nextPosition(int position) {
+        return position + RECORD_HEADER + buffer.getInt(position);
+    }
+
+    private int crc(int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    void force() {
+        buffer.force();
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    void close() throws IOException {
+        channel.close();
+    }
+
+    long getBaseSequence() { return baseSequence; }
+    long getLastSequence() { return lastSequence; }
+    int getWritePosition() { return writePosition; }
+    boolean isSealed() { return sealed; }
+    boolean isEmpty() { return writePosition == 0; }
+    Path getPath() { return path; }
+}
@@ -0,0 +1,306 @@
+package com.campus.incident.location;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.repository.IncidentReportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory location hierarchy (campus > building > floor > room) with
+// per-node subtree counters of active incidents, plus a character trie over
+// location names for typeahead. Seeded from one grouped query at startup and
+// then maintained incrementally by the service layer, so hotspot and
+// typeahead requests never scan incident_reports.
+@Component
+public class LocationIndex {
+
+    private static final Comparator<Node> BY_ACTIVITY = Comparator
+            .comparingLong(Node::getActiveCount).reversed()
+            .thenComparing(Comparator.comparingLong(Node::getTotalCount).reversed())
+            .thenComparing(Node::getPath);
+
+    static final String[] LEVEL_NAMES = {"campus", "building", "floor", "room"};
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    @Value("${incident.locations.default-campus:Main Campus}")
+    private String defaultCampus = "Main Campus";
+
+    private volatile Tree tree = new Tree();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Tree fresh = new Tree();
+        for (Object[] row : incidentRepository.countIncidentsByLocation()) {
+            LocationPath path = pathOf((String) row[0], (String) row[1]);
+            if (path != null) {
+                fresh.add(path, ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+            }
+        }
+        tree = fresh;
+    }
+
+    // For set-based status updates that bypass recordChange
+    public void rebuildAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            rebuild();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                rebuild();
+            }
+        });
+    }
+
+    // Normalized path string for an incident: the attached path if present, else parsed from the free text
+    public String resolvePath(String locationPath, String locationDetails) {
+        LocationPath path = pathOf(locationPath, locationDetails);
+        return path != null ? path.toString() : null;
+    }
+
+    public Presence presenceOf(IncidentReport incident) {
+        LocationPath path = pathOf(incident.getLocationPath(), incident.getLocationDetails());
+        boolean active = incident.getStatus() != null && incident.getStatus().isActive();
+        return new Presence(path, active);
+    }
+
+    // Moves an incident's counts between locations / active states once the transaction commits
+    public void recordChange(Presence before, Presence after) {
+        if (before.sameAs(after)) {
+            return;
+        }
+        Runnable apply = () -> {
+            Tree current = tree;
+            if (before.path != null) {
+                current.add(before.path, before.active ? -1 : 0, -1);
+            }
+            if (after.path != null) {
+                current.add(after.path, after.active ? 1 : 0, 1);
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply.run();
+            }
+        });
+    }
+
+    // Locations whose name (or any word in it) starts with the prefix, busiest first
+    public List<Map<String, Object>> suggest(String prefix, int limit) {
+        return describe(tree.names.find(prefix.toLowerCase(Locale.ROOT).trim()), limit);
+    }
+
+    // Locations at the given level with the most active incidents, optionally under a parent path
+    public List<Map<String, Object>> hotspots(int level, String under, int limit) {
+        String scope = under != null && !under.isBlank() ? LocationPath.of(under).toString() + LocationPath.SEPARATOR : null;
+        List<Node> candidates = new ArrayList<>();
+        for (Node node : tree.levels.get(level)) {
+            if (node.active.get() > 0 && (scope == null || (node.path + LocationPath.SEPARATOR).startsWith(scope))) {
+                candidates.add(node);
+            }
+        }
+        return describe(candidates, limit);
+    }
+
+    // Active incidents at or below a location
+    public long activeCount(String path) {
+        Node node = tree.find(LocationPath.of(path));
+        return node != null ? node.active.get() : 0;
+    }
+
+    private LocationPath pathOf(String locationPath, String locationDetails) {
+        if (locationPath != null && !locationPath.isBlank()) {
+            return LocationPath.of(locationPath);
+        }
+        return LocationPath.parse(locationDetails, defaultCampus);
+    }
+
+    private static List<Map<String, Object>> describe(Collection<Node> nodes, int limit) {
+        List<Map<String, Object>> result = new ArrayList<>();
+        nodes.stream().sorted(BY_ACTIVITY).limit(limit).forEach(node -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("path", node.path);
+            row.put("name", node.name);
+            row.put("level", LEVEL_NAMES[node.level]);
+            row.put("activeIncidents", node.active.get());
+            row.put("totalIncidents", node.total.get());
+            result.add(row);
+        });
+        return result;
+    }
+
+    // An incident's location and whether it counts as active there
+    public static final class Presence {
+        public static final Presence NONE = new Presence(null, false);
+
+        private final LocationPath path;
+        private final boolean active;
+
+        Presence(LocationPath path, boolean active) {
+            this.path = path;
+            this.active = active;
+        }
+
+        boolean sameAs(Presence other) {
+            String mine = path != null ? path.toString() : null;
+            String theirs = other.path != null ? other.path.toString() : null;
+            return active == other.active && Objects.equals(mine, theirs);
+        }
+    }
+
+    static final class Node {
+        private final String name;
+        private final String path;
+        private final int level;
+        private final Map<String, Node> children = new ConcurrentHashMap<>();
+        private final AtomicLong active = new AtomicLong();
+        private final AtomicLong total = new AtomicLong();
+
+        Node(String name, String path, int level) {
+            this.name = name;
+            this.path = path;
+            this.level = level;
+        }
+
+        long getActiveCount() { return active.get(); }
+        long getTotalCount() { return total.get(); }
+        String getPath() { return path; }
+    }
+
+    // One generation of the index; rebuild() swaps in a fresh one
+    private static final class Tree {
+        private final Map<String, Node> roots = new ConcurrentHashMap<>();
+        private final List<List<Node>> levels = List.of(
+                new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>(),
+                new CopyOnWriteArrayList<>(), new CopyOnWriteArrayList<>());
+        private final NameTrie names = new NameTrie();
+
+        // Adds the deltas to every node on the path (subtree counters), creating nodes as needed
+        void add(LocationPath path, long activeDelta, long totalDelta) {
+            Map<String, Node> siblings = roots;
+            StringBuilder prefix = new StringBuilder();
+            List<String> segments = path.getSegments();
+            for (int level = 0; level < segments.size(); level++) {
+                String name = segments.get(level);
+                if (level > 0) {
+                    prefix.append(LocationPath.SEPARATOR);
+                }
+                prefix.append(name);
+                Node node = siblings.get(key(name));
+                if (node == null) {
+                    node = register(siblings, name, prefix.toString(), level);
+                }
+                node.active.addAndGet(activeDelta);
+                node.total.addAndGet(totalDelta);
+                siblings = node.children;
+            }
+        }
+
+        Node find(LocationPath path) {
+            if (path == null) {
+                return null;
+            }
+            Map<String, Node> siblings = roots;
+            Node node = null;
+            for (String name : path.getSegments()) {
+                node = siblings.get(key(name));
+                if (node == null) {
+                    return null;
+                }
+                siblings = node.children;
+            }
+            return node;
+        }
+
+        private synchronized Node register(Map<String, Node> siblings, String name, String path, int level) {
+            Node existing = siblings.get(key(name));
+            if (existing != null) {
+                return existing;
+            }
+            Node node = new Node(name, path, level);
+            siblings.put(key(name), node);
+            levels.get(level).add(node);
+            names.add(name, node);
+            return node;
+        }
+
+        private static String key(String name) {
+            return name.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    // Character trie from each word suffix of a location name ("science building",
+    // "building") to the nodes carrying that name
+    private static final class NameTrie {
+        private final TrieNode root = new TrieNode();
+
+        void add(String name, Node location) {
+            String lower = name.toLowerCase(Locale.ROOT);
+            for (int start = 0; start < lower.length(); start++) {
+                if (start == 0 || lower.charAt(start - 1) == ' ') {
+                    insert(lower.substring(start), location);
+                }
+            }
+        }
+
+        private void insert(String word, Node location) {
+            TrieNode current = root;
+            for (int i = 0; i < word.length(); i++) {
+                current = current.next.computeIfAbsent(word.charAt(i), c -> new TrieNode());
+            }
+            current.locations.add(location);
+        }
+
+        Set<Node> find(String prefix) {
+            TrieNode current = root;
+            for (int i = 0; i < prefix.length() && current != null; i++) {
+                current = current.next.get(prefix.charAt(i));
+            }
+            Set<Node> found = new LinkedHashSet<>();
+            if (current == null) {
+                return found;
+            }
+            Deque<TrieNode> pending = new ArrayDeque<>();
+            pending.push(current);
+            while (!pending.isEmpty()) {
+                TrieNode node = pending.pop();
+                found.addAll(node.locations);
+                node.next.values().forEach(pending::push);
+            }
+            return found;
+        }
+    }
+
+    private static final class TrieNode {
+        private final Map<Character, TrieNode> next = new ConcurrentHashMap<>();
+        private final List<Node> locations = new CopyOnWriteArrayList<>();
+    }
+}
@@ -0,0 +1,114 @@
+package com.campus.incident.location;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Structured location: campus > building > floor > room. Trailing levels may be
+// missing; a missing floor above a known room is recorded as "Unspecified Floor".
+public final class LocationPath {
+
+    public static final String SEPARATOR = " > ";
+
+    public static final int CAMPUS = 0;
+    public static final int BUILDING = 1;
+    public static final int FLOOR = 2;
+    public static final int ROOM = 3;
+
+    static final String UNSPECIFIED_FLOOR = "Unspecified Floor";
+
+    private static final Pattern PARTS = Pattern.compile("\\s+-\\s+|,");
+    private static final Pattern FLOOR_PATTERN = Pattern.compile(
+            "\\b(?:(ground|basement)\\s+floor|(\\d+)(?:st|nd|rd|th)?\\s+floor|(?:floor|level)\\s+(\\d+))\\b",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern ROOM_PATTERN = Pattern.compile("\\broom\\s+([\\w-]+)", Pattern.CASE_INSENSITIVE);
+
+    private final List<String> segments;
+
+    private LocationPath(List<String> segments) {
+        this.segments = Collections.unmodifiableList(segments);
+    }
+
+    // Path given explicitly as "Campus > Building > Floor > Room"
+    public static LocationPath of(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : path.split(">")) {
+            String trimmed = segment.trim();
+            if (!trimmed.isEmpty() && segments.size() <= ROOM) {
+                segments.add(trimmed);
+            }
+        }
+        return segments.isEmpty() ? null : new LocationPath(segments);
+    }
+
+    // Best-effort parse of free text such as "Science Building - Main Hallway, 1st Floor"
+    public static LocationPath parse(String details, String campus) {
+        if (details == null || details.isBlank()) {
+            return null;
+        }
+        if (details.contains(">")) {
+            return of(details);
+        }
+
+        String[] parts = PARTS.split(details.trim());
+        String building = parts[0].trim();
+        String floor = null;
+        String room = null;
+        String explicitRoom = null;
+
+        for (int i = 1; i < parts.length; i++) {
+            String part = parts[i].trim();
+            Matcher floorMatch = FLOOR_PATTERN.matcher(part);
+            if (floor == null && floorMatch.find()) {
+                floor = floorName(floorMatch);
+                part = (part.substring(0, floorMatch.start()) + part.substring(floorMatch.end())).trim();
+            }
+            Matcher roomMatch = ROOM_PATTERN.matcher(part);
+            if (explicitRoom == null && roomMatch.find()) {
+                explicitRoom = "Room " + roomMatch.group(1).toUpperCase(Locale.ROOT);
+            } else if (room == null && !part.isEmpty()) {
+                room = part;
+            }
+        }
+        if (explicitRoom != null) {
+            room = explicitRoom;
+        }
+
+        // The building part may itself carry the room ("Main Building Room 201")
+        Matcher roomInBuilding = ROOM_PATTERN.matcher(building);
+        if (roomInBuilding.find() && roomInBuilding.start() > 0) {
+            room = room != null ? room : "Room " + roomInBuilding.group(1).toUpperCase(Locale.ROOT);
+            building = building.substring(0, roomInBuilding.start()).trim();
+        }
+
+        List<String> segments = new ArrayList<>(4);
+        segments.add(campus);
+        segments.add(building);
+        if (floor != null || room != null) {
+            segments.add(floor != null ? floor : UNSPECIFIED_FLOOR);
+        }
+        if (room != null) {
+            segments.add(room);
+        }
+        return new LocationPath(segments);
+    }
+
+    private static String floorName(Matcher match) {
+        if (match.group(1) != null) {
+            return match.group(1).equalsIgnoreCase("ground") ? "Ground Floor" : "Basement";
+        }
+        return "Floor " + (match.group(2) != null ? match.group(2) : match.group(3));
+    }
+
+    public List<String> getSegments() { return segments; }
+
+    public int depth() { return segments.size(); }
+
+    @Override
+    public String toString() {
+        return String.join(SEPARATOR, segments);
+    }
+}
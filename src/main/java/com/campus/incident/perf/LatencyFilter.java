@@ -0,0 +1,47 @@
+package com.campus.incident.perf;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Times each request end to end. Ordered just before the Spring Security filter
+// chain so credential checking is part of the measured latency, the way the
+// caller experiences it.
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER - 1)
+public class LatencyFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private RequestLatencies latencies;
+
+    @Autowired
+    private PerfProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestMetrics metrics = RequestMetrics.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestMetrics.end();
+            // Requests rejected before handler mapping (401, 404) have no route
+            if (metrics.getRoute() != null) {
+                latencies.record(request.getMethod(), response.getStatus(), metrics);
+            }
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.campus.incident.perf;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@ConfigurationProperties(prefix = "incident.perf")
+public class PerfProperties {
+
+    private boolean enabled = true;
+
+    // Length of a latency reporting interval; p50/p99/max of the last complete one are served
+    private long intervalMs = 60_000;
+
+    // Requests slower than this are logged with their SQL statement count and DB time
+    private long slowRequestThresholdMs = 500;
+
+    // How many recent slow requests /api/admin/perf/slow-requests keeps
+    private int slowRequestsRetained = 100;
+
+    // Simple names of the controllers whose routes get latency histograms; empty tracks all
+    private List<String> controllers = new ArrayList<>(List.of("IncidentController", "CategoryController"));
+
+    public boolean tracks(String controller) {
+        return controller != null && (controllers.isEmpty() || controllers.contains(controller));
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public long getIntervalMs() { return intervalMs; }
+    public void setIntervalMs(long intervalMs) { this.intervalMs = intervalMs; }
+
+    public long getSlowRequestThresholdMs() { return slowRequestThresholdMs; }
+    public void setSlowRequestThresholdMs(long slowRequestThresholdMs) { this.slowRequestThresholdMs = slowRequestThresholdMs; }
+
+    public int getSlowRequestsRetained() { return slowRequestsRetained; }
+    public void setSlowRequestsRetained(int slowRequestsRetained) { this.slowRequestsRetained = slowRequestsRetained; }
+
+    public List<String> getControllers() { return controllers; }
+    public void setControllers(List<String> controllers) { this.controllers = controllers; }
+}
@@ -0,0 +1,121 @@
+package com.campus.incident.perf;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Latency histograms per "METHOD /route/{template}" plus a bounded log of
+// slow requests. Request threads only touch their route's HdrHistogram
+// Recorder; rotate() takes every recorder's interval histogram once per
+// interval and folds it into the route's running totals.
+@Component
+public class RequestLatencies {
+
+    @Autowired
+    private PerfProperties properties;
+
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
+    private final Deque<Map<String, Object>> slowRequests = new ArrayDeque<>();
+
+    void record(String method, int status, RequestMetrics metrics) {
+        long elapsedNanos = metrics.elapsedNanos();
+        if (properties.tracks(metrics.getController())) {
+            routes.computeIfAbsent(method + " " + metrics.getRoute(), key -> new Route())
+                    .recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        }
+
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMs >= properties.getSlowRequestThresholdMs()) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("at", LocalDateTime.now());
+            entry.put("method", method);
+            entry.put("route", metrics.getRoute());
+            entry.put("status", status);
+            entry.put("role", metrics.getRole());
+            entry.put("durationMs", elapsedMs);
+            entry.put("sqlStatements", metrics.getStatements());
+            entry.put("sqlMs", TimeUnit.NANOSECONDS.toMillis(metrics.getSqlNanos()));
+            System.out.println("Slow request: " + method + " " + metrics.getRoute() + " status=" + status
+                    + " role=" + metrics.getRole() + " duration=" + elapsedMs + "ms sqlStatements="
+                    + metrics.getStatements() + " sqlTime=" + entry.get("sqlMs") + "ms");
+            synchronized (slowRequests) {
+                slowRequests.addFirst(entry);
+                while (slowRequests.size() > Math.max(0, properties.getSlowRequestsRetained())) {
+                    slowRequests.removeLast();
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${incident.perf.interval-ms:60000}")
+    public void rotate() {
+        for (Route route : routes.values()) {
+            route.rotate();
+        }
+    }
+
+    public Map<String, Object> getLatencies() {
+        Map<String, Object> byRoute = new TreeMap<>();
+        routes.forEach((key, route) -> byRoute.put(key, route.report()));
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("intervalMs", properties.getIntervalMs());
+        result.put("routes", byRoute);
+        return result;
+    }
+
+    public List<Map<String, Object>> getSlowRequests() {
+        synchronized (slowRequests) {
+            return new ArrayList<>(slowRequests);
+        }
+    }
+
+    private static final class Route {
+        // Microseconds to 3 significant digits; the histograms resize to whatever range is recorded
+        private static final int SIGNIFICANT_DIGITS = 3;
+
+        private final Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        // Recycling only accepts histograms this recorder handed out, so start from one of its own
+        private Histogram lastInterval = recorder.getIntervalHistogram();
+        private final Histogram total = new Histogram(SIGNIFICANT_DIGITS);
+
+        synchronized void rotate() {
+            // The previous interval histogram is handed back for reuse
+            lastInterval = recorder.getIntervalHistogram(lastInterval);
+            total.add(lastInterval);
+        }
+
+        synchronized Map<String, Object> report() {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("lastInterval", summarize(lastInterval));
+            report.put("total", summarize(total));
+            return report;
+        }
+
+        private static Map<String, Object> summarize(Histogram histogram) {
+            Map<String, Object> summary = new LinkedHashMap<>();
+            summary.put("count", histogram.getTotalCount());
+            summary.put("p50Ms", millis(histogram.getValueAtPercentile(50)));
+            summary.put("p99Ms", millis(histogram.getValueAtPercentile(99)));
+            summary.put("maxMs", millis(histogram.getMaxValue()));
+            return summary;
+        }
+
+        private static double millis(long micros) {
+            return micros / 1000.0;
+        }
+    }
+}
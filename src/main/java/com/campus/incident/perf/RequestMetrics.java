@@ -0,0 +1,50 @@
+package com.campus.incident.perf;
+
+// Per-request measurements gathered across layers: LatencyFilter opens it,
+// RouteInterceptor fills in the matched route and caller role, and
+// SqlStatementListener adds up the JDBC statements Hibernate executes.
+// Bound to the request thread; only ever touched by that thread.
+public final class RequestMetrics {
+
+    private static final ThreadLocal<RequestMetrics> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private String route;
+    private String controller;
+    private String role;
+    private int statements;
+    private long sqlNanos;
+
+    static RequestMetrics start() {
+        RequestMetrics metrics = new RequestMetrics();
+        CURRENT.set(metrics);
+        return metrics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Null outside an HTTP request (scheduled jobs, startup rebuilds)
+    public static RequestMetrics current() {
+        return CURRENT.get();
+    }
+
+    void addStatement(long nanos) {
+        statements++;
+        sqlNanos += nanos;
+    }
+
+    void setRoute(String route, String controller, String role) {
+        this.route = route;
+        this.controller = controller;
+        this.role = role;
+    }
+
+    long elapsedNanos() { return System.nanoTime() - startNanos; }
+    String getRoute() { return route; }
+    String getController() { return controller; }
+    String getRole() { return role; }
+    int getStatements() { return statements; }
+    long getSqlNanos() { return sqlNanos; }
+}
@@ -0,0 +1,43 @@
+package com.campus.incident.perf;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+// Records which route template and controller handle the request, and the
+// caller's role. Done here rather than in LatencyFilter because the matched
+// pattern only exists after handler mapping, and the security context has
+// already been cleared by the time the outer filter finishes.
+class RouteInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null && handler instanceof HandlerMethod handlerMethod) {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            metrics.setRoute(pattern != null ? pattern.toString() : request.getRequestURI(),
+                    handlerMethod.getBeanType().getSimpleName(), currentRole());
+        }
+        return true;
+    }
+
+    private static String currentRole() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return "ANONYMOUS";
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith("ROLE_")) {
+                return name.substring(5);
+            }
+        }
+        return "UNKNOWN";
+    }
+}
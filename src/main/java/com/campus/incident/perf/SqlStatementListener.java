@@ -0,0 +1,42 @@
+package com.campus.incident.perf;
+
+import org.hibernate.BaseSessionEventListener;
+
+// Registered through hibernate.session.events.auto, so Hibernate creates one per
+// Session. Times every JDBC statement and batch execution and charges it to the
+// current request, if any.
+public class SqlStatementListener extends BaseSessionEventListener {
+
+    private static final long serialVersionUID = 1L;
+
+    private long statementStart = -1;
+    private long batchStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statementStart = record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        batchStart = record(batchStart);
+    }
+
+    private static long record(long start) {
+        RequestMetrics metrics = RequestMetrics.current();
+        if (metrics != null && start >= 0) {
+            metrics.addStatement(System.nanoTime() - start);
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,18 @@
+package com.campus.incident.ratelimit;
+
+// Endpoints that share a rate-limit budget
+public enum EndpointGroup {
+    SUBMIT,
+    SEARCH;
+
+    // Group for a request, or null when the endpoint is not rate limited
+    public static EndpointGroup of(String method, String path) {
+        if ("POST".equals(method) && ("/api/incidents".equals(path) || "/api/incidents/simple".equals(path))) {
+            return SUBMIT;
+        }
+        if ("GET".equals(method) && "/api/incidents/search".equals(path)) {
+            return SEARCH;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,89 @@
+package com.campus.incident.ratelimit;
+
+import com.campus.incident.entity.UserRole;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+// Applies RateLimiter to incident submission and search. Ordered after the
+// Spring Security filter chain, so the principal and role are already known
+// and unauthenticated requests have been rejected, and after IdempotencyFilter,
+// so replayed retries do not spend tokens.
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 2)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    static final String LIMIT_HEADER = "X-RateLimit-Limit";
+    static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    @Autowired
+    private RateLimiter rateLimiter;
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || group(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        UserRole role = authentication == null || authentication instanceof AnonymousAuthenticationToken
+                ? null : roleOf(authentication);
+        if (role == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        RateLimiter.Decision decision = rateLimiter.tryAcquire(group(request), authentication.getName(), role);
+        if (decision.isLimited()) {
+            response.setHeader(LIMIT_HEADER, Integer.toString(decision.getLimit()));
+            response.setHeader(REMAINING_HEADER, Long.toString(decision.getRemaining()));
+        }
+        if (!decision.isAllowed()) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", Long.toString(decision.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Rate limit exceeded, retry in "
+                    + decision.getRetryAfterSeconds() + " seconds\"}");
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static EndpointGroup group(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return EndpointGroup.of(request.getMethod(), path);
+    }
+
+    private static UserRole roleOf(Authentication authentication) {
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name != null && name.startsWith("ROLE_")) {
+                try {
+                    return UserRole.valueOf(name.substring(5));
+                } catch (IllegalArgumentException e) {
+                    // Not one of our roles
+                }
+            }
+        }
+        return null;
+    }
+}
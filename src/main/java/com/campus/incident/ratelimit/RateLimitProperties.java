@@ -0,0 +1,63 @@
+package com.campus.incident.ratelimit;
+
+import com.campus.incident.entity.UserRole;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "incident.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // Upper bound on per-principal buckets; beyond it new principals share one bucket per role
+    private int maxBuckets = 10_000;
+
+    // Buckets that have been full (unused) this long are evicted
+    private long idleTimeoutSeconds = 600;
+
+    // Endpoint group -> role -> budget; a role without a budget is not limited
+    private Map<EndpointGroup, Map<UserRole, Budget>> budgets = new HashMap<>();
+
+    public Budget budgetFor(EndpointGroup group, UserRole role) {
+        Map<UserRole, Budget> byRole = budgets.get(group);
+        return byRole != null ? byRole.get(role) : null;
+    }
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMaxBuckets() { return maxBuckets; }
+    public void setMaxBuckets(int maxBuckets) { this.maxBuckets = maxBuckets; }
+
+    public long getIdleTimeoutSeconds() { return idleTimeoutSeconds; }
+    public void setIdleTimeoutSeconds(long idleTimeoutSeconds) { this.idleTimeoutSeconds = idleTimeoutSeconds; }
+
+    public Map<EndpointGroup, Map<UserRole, Budget>> getBudgets() { return budgets; }
+    public void setBudgets(Map<EndpointGroup, Map<UserRole, Budget>> budgets) { this.budgets = budgets; }
+
+    public static class Budget {
+
+        // Burst size
+        private int capacity = 10;
+
+        // Sustained rate
+        private int refillPerMinute = 10;
+
+        public Budget() {}
+
+        public Budget(int capacity, int refillPerMinute) {
+            this.capacity = capacity;
+            this.refillPerMinute = refillPerMinute;
+        }
+
+        public int getCapacity() { return capacity; }
+        public void setCapacity(int capacity) { this.capacity = capacity; }
+
+        public int getRefillPerMinute() { return refillPerMinute; }
+        public void setRefillPerMinute(int refillPerMinute) { this.refillPerMinute = refillPerMinute; }
+    }
+}
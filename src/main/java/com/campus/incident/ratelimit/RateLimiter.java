@@ -0,0 +1,121 @@
+package com.campus.incident.ratelimit;
+
+import com.campus.incident.entity.UserRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+// Per-principal token buckets, one map per endpoint group. A check is a map
+// lookup plus one CAS on the bucket; nothing is locked on the request path.
+// The maps are bounded: idle buckets are swept periodically (and eagerly when
+// the bound is reached), and principals arriving while every slot is busy
+// share an overflow bucket for their role.
+@Component
+public class RateLimiter {
+
+    private static final String OVERFLOW_PREFIX = "\u0000overflow:";
+
+    @Autowired
+    private RateLimitProperties properties;
+
+    private final Map<EndpointGroup, ConcurrentHashMap<String, TokenBucket>> buckets = new EnumMap<>(EndpointGroup.class);
+
+    public RateLimiter() {
+        for (EndpointGroup group : EndpointGroup.values()) {
+            buckets.put(group, new ConcurrentHashMap<>());
+        }
+    }
+
+    public Decision tryAcquire(EndpointGroup group, String principal, UserRole role) {
+        RateLimitProperties.Budget budget = properties.budgetFor(group, role);
+        if (budget == null) {
+            return Decision.UNLIMITED;
+        }
+
+        long now = System.nanoTime();
+        ConcurrentHashMap<String, TokenBucket> groupBuckets = buckets.get(group);
+        TokenBucket bucket = groupBuckets.get(principal);
+        if (bucket == null || !bucket.matches(budget.getCapacity(), budget.getRefillPerMinute())) {
+            bucket = newBucket(groupBuckets, principal, role, budget, now);
+        }
+
+        long result = bucket.tryAcquire(now);
+        return result >= 0
+                ? new Decision(true, bucket.getCapacity(), result, 0)
+                : new Decision(false, bucket.getCapacity(), 0, -result);
+    }
+
+    @Scheduled(fixedDelayString = "${incident.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        evictIdle(System.nanoTime());
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, TokenBucket> groupBuckets : buckets.values()) {
+            size += groupBuckets.size();
+        }
+        return size;
+    }
+
+    private TokenBucket newBucket(ConcurrentHashMap<String, TokenBucket> groupBuckets, String principal, UserRole role,
+                                  RateLimitProperties.Budget budget, long now) {
+        TokenBucket fresh = new TokenBucket(budget.getCapacity(), budget.getRefillPerMinute());
+        if (groupBuckets.containsKey(principal)) {
+            // Budget was reconfigured; start the principal over with the new one
+            groupBuckets.put(principal, fresh);
+            return fresh;
+        }
+
+        if (size() >= properties.getMaxBuckets()) {
+            evictIdle(now);
+            if (size() >= properties.getMaxBuckets()) {
+                principal = OVERFLOW_PREFIX + role;
+                TokenBucket shared = groupBuckets.get(principal);
+                if (shared != null && shared.matches(budget.getCapacity(), budget.getRefillPerMinute())) {
+                    return shared;
+                }
+            }
+        }
+        TokenBucket existing = groupBuckets.putIfAbsent(principal, fresh);
+        return existing != null ? existing : fresh;
+    }
+
+    private void evictIdle(long now) {
+        long idleNanos = TimeUnit.SECONDS.toNanos(properties.getIdleTimeoutSeconds());
+        for (ConcurrentHashMap<String, TokenBucket> groupBuckets : buckets.values()) {
+            groupBuckets.values().removeIf(bucket -> bucket.idleSince(now, idleNanos));
+        }
+    }
+
+    public static final class Decision {
+        static final Decision UNLIMITED = new Decision(true, -1, -1, 0);
+
+        private final boolean allowed;
+        private final int limit;
+        private final long remaining;
+        private final long retryAfterNanos;
+
+        Decision(boolean allowed, int limit, long remaining, long retryAfterNanos) {
+            this.allowed = allowed;
+            this.limit = limit;
+            this.remaining = remaining;
+            this.retryAfterNanos = retryAfterNanos;
+        }
+
+        public boolean isAllowed() { return allowed; }
+        public boolean isLimited() { return limit >= 0; }
+        public int getLimit() { return limit; }
+        public long getRemaining() { return remaining; }
+
+        // Whole seconds, rounded up, for the Retry-After header
+        public long getRetryAfterSeconds() {
+            return Math.max(1, (retryAfterNanos + 999_999_999L) / 1_000_000_000L);
+        }
+    }
+}
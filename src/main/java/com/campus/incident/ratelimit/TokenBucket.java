@@ -0,0 +1,50 @@
+package com.campus.incident.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// Lock-free token bucket kept as a single "theoretical arrival time" (GCRA):
+// each token pushes the time forward by one refill interval, and a request is
+// allowed while that time stays within capacity intervals of now. Equivalent
+// to refilling `capacity` tokens at a steady rate, but a check is one CAS.
+final class TokenBucket {
+
+    private final int capacity;
+    private final long nanosPerToken;
+    private final long depthNanos;
+    private final AtomicLong theoreticalArrival = new AtomicLong(Long.MIN_VALUE);
+
+    TokenBucket(int capacity, int refillPerMinute) {
+        this.capacity = capacity;
+        this.nanosPerToken = 60_000_000_000L / Math.max(1, refillPerMinute);
+        this.depthNanos = capacity * nanosPerToken;
+    }
+
+    // Remaining tokens after the request (>= 0) when allowed, otherwise -(nanos until a token is available)
+    long tryAcquire(long now) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, now) + nanosPerToken;
+            long ahead = next - now;
+            if (ahead > depthNanos) {
+                return -Math.max(1, ahead - depthNanos);
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return (depthNanos - ahead) / nanosPerToken;
+            }
+        }
+    }
+
+    // A bucket that has been full for longer than idleNanos carries no state worth keeping
+    boolean idleSince(long now, long idleNanos) {
+        long tat = theoreticalArrival.get();
+        return tat == Long.MIN_VALUE || now - tat > idleNanos;
+    }
+
+    boolean matches(int capacity, int refillPerMinute) {
+        return this.capacity == capacity && nanosPerToken == 60_000_000_000L / Math.max(1, refillPerMinute);
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+}
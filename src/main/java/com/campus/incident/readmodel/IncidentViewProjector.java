@@ -0,0 +1,194 @@
+package com.campus.incident.readmodel;
+
+import com.campus.incident.journal.IncidentJournal;
+import com.campus.incident.journal.JournalEvent;
+import com.campus.incident.journal.JournalReader;
+import com.campus.incident.repository.IncidentViewRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Keeps the incident_view read model current by tailing the incident journal.
+// Each batch of events re-projects the incidents it mentions from the
+// normalized tables (DELETE + INSERT ... SELECT by id), so applying an event
+// twice is harmless and a DELETED event simply leaves no row. A rebuild
+// snapshots the whole table and resumes tailing from the journal position
+// taken just before the snapshot.
+@Component
+public class IncidentViewProjector {
+
+    @Autowired
+    private IncidentViewRepository viewRepository;
+
+    @Autowired
+    private IncidentJournal journal;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReadModelProperties properties;
+
+    private JournalReader reader;
+    private Thread worker;
+    private volatile boolean ready;
+    private volatile boolean running;
+
+    // Lag bookkeeping
+    private volatile long projectedSequence;
+    private volatile long lastDelayMillis;
+    private volatile LocalDateTime lastRebuildAt;
+    private final AtomicLong eventsApplied = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!isEnabled()) {
+            return;
+        }
+        rebuild();
+        running = true;
+        worker = new Thread(this::run, "incident-view-projector");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // True once the view has been built; until then reads use the normalized tables
+    public boolean isServing() {
+        return ready;
+    }
+
+    // Re-project every incident from scratch and resume tailing after the snapshot
+    public synchronized Map<String, Object> rebuild() {
+        if (!isEnabled()) {
+            throw new IllegalStateException("Incident read model is disabled");
+        }
+        // Events after this position may or may not be in the snapshot; they are re-applied
+        long from = journal.getLastSequence();
+        long started = System.nanoTime();
+        Integer rows = transactionTemplate.execute(status -> {
+            viewRepository.deleteAllRows();
+            return viewRepository.projectAll(LocalDateTime.now());
+        });
+        reader = journal.openReader(from + 1);
+        projectedSequence = from;
+        lastRebuildAt = LocalDateTime.now();
+        ready = true;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rowsProjected", rows);
+        result.put("fromSequence", from);
+        result.put("durationMs", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return result;
+    }
+
+    // Overdue depends on the clock, not on events
+    @Scheduled(fixedDelayString = "${incident.read-model.overdue-sweep-ms:60000}")
+    public void sweepOverdue() {
+        if (ready) {
+            transactionTemplate.execute(status -> viewRepository.markOverdue(LocalDateTime.now()));
+        }
+    }
+
+    private void run() {
+        while (running) {
+            JournalReader current;
+            synchronized (this) {
+                current = reader;
+            }
+            try {
+                List<JournalEvent> events = current.poll(Math.max(1, properties.getBatchSize()),
+                        properties.getPollTimeoutMs(), TimeUnit.MILLISECONDS);
+                if (!events.isEmpty()) {
+                    apply(current, events);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+                pause();
+            }
+        }
+    }
+
+    synchronized void apply(JournalReader current, List<JournalEvent> events) {
+        if (current != reader) {
+            // A rebuild replaced the reader; it will replay anything the snapshot missed
+            return;
+        }
+        Set<Long> ids = new LinkedHashSet<>();
+        for (JournalEvent event : events) {
+            if (event.getIncidentId() != null) {
+                ids.add(event.getIncidentId());
+            }
+        }
+        try {
+            if (!ids.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> {
+                    viewRepository.deleteByIds(ids);
+                    viewRepository.projectIncidents(ids, LocalDateTime.now());
+                });
+            }
+        } catch (RuntimeException e) {
+            // Retry the same events on the next poll
+            reader = journal.openReader(events.get(0).getSequence());
+            throw e;
+        }
+        JournalEvent last = events.get(events.size() - 1);
+        projectedSequence = last.getSequence();
+        lastDelayMillis = Math.max(0, System.currentTimeMillis() - last.getTimestamp().toEpochMilli());
+        eventsApplied.addAndGet(events.size());
+    }
+
+    // Events journaled but not yet in the view, and how stale the last applied batch was
+    public Map<String, Object> getStatistics() {
+        long lastSequence = journal.isEnabled() ? journal.getLastSequence() : 0;
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", isEnabled());
+        stats.put("serving", ready);
+        stats.put("rows", ready ? viewRepository.count() : 0);
+        stats.put("projectedSequence", projectedSequence);
+        stats.put("journalSequence", lastSequence);
+        stats.put("lagEvents", Math.max(0, lastSequence - projectedSequence));
+        stats.put("lastBatchDelayMs", lastDelayMillis);
+        stats.put("eventsApplied", eventsApplied.get());
+        stats.put("failures", failures.get());
+        stats.put("lastRebuildAt", lastRebuildAt);
+        return stats;
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private boolean isEnabled() {
+        return properties.isEnabled() && journal.isEnabled();
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(properties.getPollTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
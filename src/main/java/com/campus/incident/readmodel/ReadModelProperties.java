@@ -0,0 +1,27 @@
+package com.campus.incident.readmodel;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "incident.read-model")
+public class ReadModelProperties {
+
+    // Serve list and dashboard reads from incident_view (requires the incident journal)
+    private boolean enabled = true;
+
+    // Journal events applied per projection transaction
+    private int batchSize = 200;
+
+    // How long the projector waits for new journal events before polling again
+    private long pollTimeoutMs = 500;
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getBatchSize() { return batchSize; }
+    public void setBatchSize(int batchSize) { this.batchSize = batchSize; }
+
+    public long getPollTimeoutMs() { return pollTimeoutMs; }
+    public void setPollTimeoutMs(long pollTimeoutMs) { this.pollTimeoutMs = pollTimeoutMs; }
+}
@@ -0,0 +1,71 @@
+package com.campus.incident.replica;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+// Only active with incident.replica.enabled. Replaces Boot's single pool with
+// the spring.datasource primary pool, an incident.replica pool and a routing
+// DataSource in front of them that JPA and everything else uses.
+@Configuration
+@ConditionalOnProperty(prefix = "incident.replica", name = "enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaProperties properties) {
+        if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+            throw new IllegalStateException("incident.replica.enabled requires incident.replica.url");
+        }
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(properties.getUrl());
+        replica.setUsername(properties.getUsername());
+        replica.setPassword(properties.getPassword());
+        replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaLagGuard replicaLagGuard(ReplicaProperties properties) {
+        return new ReplicaLagGuard(properties.getMaxLagMs());
+    }
+
+    @Bean
+    public ReplicaHeartbeat replicaHeartbeat(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                             ReplicaLagGuard guard) {
+        return new ReplicaHeartbeat(primaryDataSource, replicaDataSource, guard);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource,
+                                 ReplicaLagGuard guard) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, guard));
+    }
+
+    // With open-in-view the EntityManager lives for the whole request and by
+    // default holds its first connection until then, so a request that reads
+    // before it writes would keep a replica connection. Releasing after each
+    // transaction lets every transaction be routed on its own.
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandling() {
+        return properties -> properties.put("hibernate.connection.handling_mode",
+                "DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION");
+    }
+}
@@ -0,0 +1,57 @@
+package com.campus.incident.replica;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Decides whether a read may be served by the replica. Two conditions:
+// the replica's newest heartbeat (a primary timestamp replicated like any
+// other row) is recent enough, and it is newer than the caller's last
+// committed write, so users always read their own writes.
+// Writes without an authenticated user (scheduled jobs, startup) share one key.
+public class ReplicaLagGuard {
+
+    static final String SYSTEM = "";
+
+    private final long maxLagMs;
+
+    // Primary time up to which the replica is known to be complete; -1 when unknown
+    private volatile long replicatedUpTo = -1;
+
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    public ReplicaLagGuard(long maxLagMs) {
+        this.maxLagMs = maxLagMs;
+    }
+
+    public boolean canRead(String principal, long now) {
+        long upTo = replicatedUpTo;
+        if (upTo < 0 || now - upTo > maxLagMs) {
+            return false;
+        }
+        Long lastWrite = lastWrites.get(principal != null ? principal : SYSTEM);
+        // A heartbeat written in the same millisecond may have committed first
+        return lastWrite == null || lastWrite < upTo;
+    }
+
+    public void recordWrite(String principal, long committedAt) {
+        lastWrites.merge(principal != null ? principal : SYSTEM, committedAt, Math::max);
+    }
+
+    public void recordReplicated(long upTo) {
+        replicatedUpTo = upTo;
+        // Writes the replica already has no longer pin their user to the primary
+        lastWrites.values().removeIf(committedAt -> committedAt < upTo);
+    }
+
+    public void replicaUnavailable() {
+        replicatedUpTo = -1;
+    }
+
+    public long getReplicatedUpTo() {
+        return replicatedUpTo;
+    }
+
+    int pinnedPrincipals() {
+        return lastWrites.size();
+    }
+}
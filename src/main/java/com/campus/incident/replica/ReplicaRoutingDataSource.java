@@ -0,0 +1,60 @@
+package com.campus.incident.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+// Sends connections for read-only transactions to the replica when the lag
+// guard allows it, everything else to the primary. Must sit behind a
+// LazyConnectionDataSourceProxy: JpaTransactionManager asks for the connection
+// while beginning the transaction, before the read-only flag is bound, and the
+// proxy defers the real lookup to the first statement.
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final ReplicaLagGuard guard;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard guard) {
+        this.guard = guard;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String principal = currentPrincipal();
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return guard.canRead(principal, System.currentTimeMillis()) ? REPLICA : PRIMARY;
+        }
+
+        // Anything else may write: pin the caller to the primary until the replica has caught up
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guard.recordWrite(principal, System.currentTimeMillis());
+                }
+            });
+        } else {
+            guard.recordWrite(principal, System.currentTimeMillis());
+        }
+        return PRIMARY;
+    }
+
+    private static String currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return ReplicaLagGuard.SYSTEM;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,68 @@
+package com.campus.incident.repository;
+
+import com.campus.incident.entity.ArchivedIncidentReport;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Moves terminal incidents and their history from the hot tables into the
+// *_archive tables with set-based INSERT ... SELECT / DELETE statements, so a
+// batch never loads entities into the persistence context.
+@Repository
+public interface IncidentArchiveRepository extends JpaRepository<ArchivedIncidentReport, Long> {
+
+    // Oldest-first batch of CLOSED / CANCELLED incidents untouched since the cutoff.
+    // Parents wait until their children have been archived (parent_id is a foreign key).
+    @Query("SELECT ir.id FROM IncidentReport ir WHERE ir.status IN ('CLOSED', 'CANCELLED') " +
+           "AND ir.updatedAt < :cutoff " +
+           "AND NOT EXISTS (SELECT 1 FROM IncidentReport c WHERE c.parent = ir) ORDER BY ir.id")
+    List<Long> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedIncidentReport (id, title, description, locationDetails, locationPath, categoryId, " +
+           "reporterId, assignedToId, parentId, status, priorityLevel, estimatedResolutionDate, slaPausedAt, " +
+           "actualResolutionDate, statusChangedAt, isUrgent, isConfidential, createdAt, updatedAt, archivedAt) " +
+           "SELECT ir.id, ir.title, ir.description, ir.locationDetails, ir.locationPath, ir.category.id, " +
+           "ir.reporter.id, ir.assignedTo.id, ir.parent.id, ir.status, ir.priorityLevel, ir.estimatedResolutionDate, " +
+           "ir.slaPausedAt, ir.actualResolutionDate, ir.statusChangedAt, ir.isUrgent, ir.isConfidential, ir.createdAt, " +
+           "ir.updatedAt, :now " +
+           "FROM IncidentReport ir WHERE ir.id IN :ids")
+    int copyIncidents(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedResolutionLog (id, incidentId, action, notes, performedById, performedAt, " +
+           "timeSpentMinutes, materialsUsed, costIncurred, logType) " +
+           "SELECT rl.id, rl.incident.id, rl.action, rl.notes, rl.performedBy.id, rl.performedAt, " +
+           "rl.timeSpentMinutes, rl.materialsUsed, rl.costIncurred, rl.logType " +
+           "FROM ResolutionLog rl WHERE rl.incident.id IN :ids")
+    int copyResolutionLogs(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("INSERT INTO ArchivedStatusUpdate (id, incidentId, previousStatus, newStatus, updatedById, notes, " +
+           "updatedAt, transitionReason, estimatedCompletionDate, timeInPreviousStatusSeconds) " +
+           "SELECT su.id, su.incident.id, su.previousStatus, su.newStatus, su.updatedBy.id, su.notes, " +
+           "su.updatedAt, su.transitionReason, su.estimatedCompletionDate, su.timeInPreviousStatusSeconds " +
+           "FROM StatusUpdate su WHERE su.incident.id IN :ids")
+    int copyStatusUpdates(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM ResolutionLog rl WHERE rl.incident.id IN :ids")
+    int deleteResolutionLogs(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM StatusUpdate su WHERE su.incident.id IN :ids")
+    int deleteStatusUpdates(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM IncidentReport ir WHERE ir.id IN :ids")
+    int deleteIncidents(@Param("ids") List<Long> ids);
+
+    @Query("SELECT MAX(a.archivedAt) FROM ArchivedIncidentReport a")
+    LocalDateTime findLastArchivedAt();
+}
@@ -1,5 +1,8 @@
 package com.campus.incident.repository;
 
+import com.campus.incident.dispatch.ClaimTicket;
+import com.campus.incident.dto.IncidentGroupSummary;
+import com.campus.incident.dto.IncidentSummary;
 import com.campus.incident.entity.IncidentReport;
 import com.campus.incident.entity.IncidentStatus;
 import com.campus.incident.entity.IncidentCategory;
@@ -7,15 +10,28 @@ import com.campus.incident.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
-public interface IncidentReportRepository extends JpaRepository<IncidentReport, Long> {
+public interface IncidentReportRepository extends JpaRepository<IncidentReport, Long>, IncidentReportRepositoryCustom {
+    
+    // Parent with child counts: one grouped SELECT over the children
+    String GROUP_SELECT = "SELECT new com.campus.incident.dto.IncidentGroupSummary(" +
+            "p.id, p.title, p.status, p.priorityLevel, COUNT(c), " +
+            "SUM(CASE WHEN c.status IN ('RESOLVED', 'CLOSED', 'CANCELLED') THEN 1 ELSE 0 END)) " +
+            "FROM IncidentReport p ";
+    
+    // Summary projection: one joined SELECT, no TEXT columns, no lazy loads
+    String SUMMARY_SELECT = "SELECT new com.campus.incident.dto.IncidentSummary(" +
+            "ir.id, ir.title, ir.status, ir.priorityLevel, ir.isUrgent, c.name, a.fullName, ir.createdAt, ir.updatedAt) " +
+            "FROM IncidentReport ir JOIN ir.category c LEFT JOIN ir.assignedTo a ";
     
     // Basic queries
     List<IncidentReport> findByStatus(IncidentStatus status);
@@ -74,7 +90,7 @@ public interface IncidentReportRepository extends JpaRepository<IncidentReport,
     
     List<IncidentReport> findByUpdatedAtAfter(LocalDateTime date);
     
-    @Query("SELECT ir FROM IncidentReport ir WHERE ir.estimatedResolutionDate < :currentDate AND ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED')")
+    @Query("SELECT ir FROM IncidentReport ir WHERE ir.estimatedResolutionDate < :currentDate AND ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED', 'ON_HOLD')")
     List<IncidentReport> findOverdueIncidents(@Param("currentDate") LocalDateTime currentDate);
     
     // Priority and urgency queries
@@ -96,6 +112,118 @@ public interface IncidentReportRepository extends JpaRepository<IncidentReport,
     @Query("SELECT COUNT(ir) FROM IncidentReport ir WHERE ir.assignedTo.id = :assignedToId AND ir.status IN ('ASSIGNED', 'IN_PROGRESS')")
     long countActiveAssignmentsByUser(@Param("assignedToId") Long assignedToId);
     
+    // Priority-weighted open workload per assignee (used to seed the WorkloadBalancer)
+    @Query("SELECT ir.assignedTo.id, SUM(COALESCE(ir.priorityLevel, 1)) FROM IncidentReport ir " +
+           "WHERE ir.status IN ('ASSIGNED', 'IN_PROGRESS') AND ir.assignedTo IS NOT NULL GROUP BY ir.assignedTo.id")
+    List<Object[]> sumActiveWorkloadByAssignee();
+    
+    // Claim-next dispatch: unassigned, claimable incidents in dispatch order
+    @Query("SELECT new com.campus.incident.dispatch.ClaimTicket(ir.id, ir.priorityLevel, ir.createdAt) " +
+           "FROM IncidentReport ir WHERE ir.assignedTo IS NULL AND ir.status IN ('REPORTED', 'UNDER_REVIEW') " +
+           "ORDER BY ir.priorityLevel DESC, ir.createdAt ASC, ir.id ASC")
+    List<ClaimTicket> findClaimTickets(Pageable pageable);
+    
+    // Conditional claim: only one concurrent caller can see 1 row updated
+    @Modifying
+    @Query("UPDATE IncidentReport ir SET ir.assignedTo = :assignee, ir.updatedAt = :now " +
+           "WHERE ir.id = :id AND ir.assignedTo IS NULL AND ir.status IN ('REPORTED', 'UNDER_REVIEW')")
+    int claimIfUnassigned(@Param("id") Long id, @Param("assignee") User assignee, @Param("now") LocalDateTime now);
+    
+    // Text of active incidents, used once at startup to seed the DuplicateIndex
+    @Query("SELECT ir.id, ir.title, ir.description, ir.locationDetails FROM IncidentReport ir " +
+           "WHERE ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED')")
+    List<Object[]> findActiveDuplicateIndexRows();
+    
+    // Active and total incidents per location, used once at startup to seed the LocationIndex
+    @Query("SELECT ir.locationPath, ir.locationDetails, " +
+           "SUM(CASE WHEN ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED') THEN 1 ELSE 0 END), COUNT(ir) " +
+           "FROM IncidentReport ir GROUP BY ir.locationPath, ir.locationDetails")
+    List<Object[]> countIncidentsByLocation();
+    
+    // Parent / child grouping
+    @Query("SELECT COUNT(ir) > 0 FROM IncidentReport ir WHERE ir.parent.id = :parentId")
+    boolean existsByParentId(@Param("parentId") Long parentId);
+    
+    @Query("SELECT ir.parent.id FROM IncidentReport ir WHERE ir.id = :id")
+    Long findParentIdById(@Param("id") Long id);
+    
+    @Query(GROUP_SELECT + "LEFT JOIN IncidentReport c ON c.parent = p WHERE p.id = :parentId " +
+           "GROUP BY p.id, p.title, p.status, p.priorityLevel")
+    IncidentGroupSummary findGroupSummary(@Param("parentId") Long parentId);
+    
+    @Query(value = GROUP_SELECT + "JOIN IncidentReport c ON c.parent = p " +
+                   "GROUP BY p.id, p.title, p.status, p.priorityLevel",
+           countQuery = "SELECT COUNT(DISTINCT c.parent.id) FROM IncidentReport c WHERE c.parent IS NOT NULL")
+    Page<IncidentGroupSummary> findGroupSummaries(Pageable pageable);
+    
+    // Children that a propagated status change will move, per category and priority (for trend counters)
+    @Query("SELECT ir.category.id, ir.priorityLevel, COUNT(ir) FROM IncidentReport ir " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom " +
+           "GROUP BY ir.category.id, ir.priorityLevel")
+    List<Object[]> countOpenChildrenByCategoryAndPriority(@Param("parentId") Long parentId,
+                                                          @Param("allowedFrom") Collection<IncidentStatus> allowedFrom);
+    
+    // Children that a propagated status change will move, with their current status (for the journal)
+    @Query("SELECT ir.id, ir.status FROM IncidentReport ir " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom")
+    List<Object[]> findOpenChildStatuses(@Param("parentId") Long parentId, @Param("allowedFrom") Collection<IncidentStatus> allowedFrom);
+    
+    // Time the children a propagated status change will move have spent in their current status:
+    // (status, count, sum, max) in seconds, for the time-in-status aggregates
+    @Query("SELECT ir.status, COUNT(ir), SUM((:now - ir.statusChangedAt) by second), " +
+           "MAX((:now - ir.statusChangedAt) by second) FROM IncidentReport ir " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom " +
+           "AND ir.statusChangedAt IS NOT NULL GROUP BY ir.status")
+    List<Object[]> sumOpenChildTimeInStatus(@Param("parentId") Long parentId, @Param("allowedFrom") Collection<IncidentStatus> allowedFrom,
+                                            @Param("now") LocalDateTime now);
+    
+    // SLA clocks of the children a propagated status change will move
+    @Query("SELECT ir.id, ir.category.id, ir.estimatedResolutionDate, ir.status, ir.slaPausedAt, ir.category.name, " +
+           "ir.isUrgent, ir.priorityLevel FROM IncidentReport ir " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom")
+    List<Object[]> findOpenChildSlaClocks(@Param("parentId") Long parentId, @Param("allowedFrom") Collection<IncidentStatus> allowedFrom);
+    
+    // Stops the SLA clock of children about to be moved to ON_HOLD
+    @Modifying
+    @Query("UPDATE IncidentReport ir SET ir.slaPausedAt = :now " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom")
+    int pauseChildClocks(@Param("parentId") Long parentId, @Param("allowedFrom") Collection<IncidentStatus> allowedFrom,
+                         @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE IncidentReport ir SET ir.estimatedResolutionDate = :deadline, ir.slaPausedAt = null WHERE ir.id = :id")
+    int resumeClock(@Param("id") Long id, @Param("deadline") LocalDateTime deadline);
+    
+    // Status propagation to children, run before moveChildrenToStatus so the previous status is still visible.
+    // Only children whose status the workflow lets move to newStatus (allowedFrom) follow the parent;
+    // the same set filters every propagation query so counters and journal match the rows moved.
+    @Modifying
+    @Query("INSERT INTO StatusUpdate (incident, previousStatus, newStatus, updatedBy, notes, transitionReason, updatedAt, " +
+           "timeInPreviousStatusSeconds) " +
+           "SELECT ir, ir.status, :newStatus, :updatedBy, :notes, :reason, :now, " +
+           "(:now - ir.statusChangedAt) by second FROM IncidentReport ir " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom")
+    int insertChildStatusUpdates(@Param("parentId") Long parentId, @Param("newStatus") IncidentStatus newStatus,
+                                 @Param("allowedFrom") Collection<IncidentStatus> allowedFrom,
+                                 @Param("updatedBy") User updatedBy, @Param("notes") String notes,
+                                 @Param("reason") String reason, @Param("now") LocalDateTime now);
+    
+    @Modifying
+    @Query("UPDATE IncidentReport ir SET ir.status = :newStatus, ir.updatedAt = :now, ir.statusChangedAt = :now " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom")
+    int moveChildrenToStatus(@Param("parentId") Long parentId, @Param("newStatus") IncidentStatus newStatus,
+                             @Param("allowedFrom") Collection<IncidentStatus> allowedFrom, @Param("now") LocalDateTime now);
+    
+    // Same as moveChildrenToStatus for resolved statuses; separate because Hibernate cannot
+    // type a nullable parameter inside COALESCE in a SET clause
+    @Modifying
+    @Query("UPDATE IncidentReport ir SET ir.status = :newStatus, ir.updatedAt = :now, ir.statusChangedAt = :now, " +
+           "ir.actualResolutionDate = :resolvedAt " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom")
+    int moveChildrenToResolvedStatus(@Param("parentId") Long parentId, @Param("newStatus") IncidentStatus newStatus,
+                                     @Param("allowedFrom") Collection<IncidentStatus> allowedFrom,
+                                     @Param("resolvedAt") LocalDateTime resolvedAt, @Param("now") LocalDateTime now);
+    
     // Dashboard queries
     @Query("SELECT ir.status, COUNT(ir) FROM IncidentReport ir GROUP BY ir.status")
     List<Object[]> getIncidentCountByStatus();
@@ -115,4 +243,110 @@ public interface IncidentReportRepository extends JpaRepository<IncidentReport,
     
     @Query("SELECT ir FROM IncidentReport ir WHERE ir.status IN ('ASSIGNED', 'IN_PROGRESS') ORDER BY ir.priorityLevel DESC, ir.createdAt ASC")
     List<IncidentReport> findActiveIncidents();
+    
+    // Summary projections for list views
+    @Query(value = SUMMARY_SELECT,
+           countQuery = "SELECT COUNT(ir) FROM IncidentReport ir")
+    Page<IncidentSummary> findAllSummaries(Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE ir.reporter.id = :reporterId",
+           countQuery = "SELECT COUNT(ir) FROM IncidentReport ir WHERE ir.reporter.id = :reporterId")
+    Page<IncidentSummary> findSummariesByReporterId(@Param("reporterId") Long reporterId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE a.id = :assignedToId",
+           countQuery = "SELECT COUNT(ir) FROM IncidentReport ir WHERE ir.assignedTo.id = :assignedToId")
+    Page<IncidentSummary> findSummariesByAssignedToId(@Param("assignedToId") Long assignedToId, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE ir.status IN :statuses AND a IS NULL",
+           countQuery = "SELECT COUNT(ir) FROM IncidentReport ir WHERE ir.status IN :statuses AND ir.assignedTo IS NULL")
+    Page<IncidentSummary> findUnassignedSummariesByStatusIn(@Param("statuses") List<IncidentStatus> statuses, Pageable pageable);
+    
+    @Query(value = SUMMARY_SELECT + "WHERE " +
+           "ir.title LIKE %:searchTerm% OR " +
+           "ir.description LIKE %:searchTerm% OR " +
+           "ir.locationDetails LIKE %:searchTerm%",
+           countQuery = "SELECT COUNT(ir) FROM IncidentReport ir WHERE " +
+           "ir.title LIKE %:searchTerm% OR " +
+           "ir.description LIKE %:searchTerm% OR " +
+           "ir.locationDetails LIKE %:searchTerm%")
+    Page<IncidentSummary> searchSummaries(@Param("searchTerm") String searchTerm, Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE ir.status = :status")
+    List<IncidentSummary> findSummariesByStatus(@Param("status") IncidentStatus status);
+    
+    @Query(SUMMARY_SELECT + "WHERE c.id = :categoryId")
+    List<IncidentSummary> findSummariesByCategoryId(@Param("categoryId") Long categoryId);
+    
+    @Query(SUMMARY_SELECT + "WHERE ir.reporter.id = :reporterId")
+    List<IncidentSummary> findSummariesByReporterId(@Param("reporterId") Long reporterId);
+    
+    @Query(SUMMARY_SELECT + "WHERE a.id = :assignedToId")
+    List<IncidentSummary> findSummariesByAssignedToId(@Param("assignedToId") Long assignedToId);
+    
+    @Query(SUMMARY_SELECT + "WHERE ir.priorityLevel >= :minPriority AND ir.status IN :statuses")
+    List<IncidentSummary> findSummariesByMinPriorityAndStatusIn(@Param("minPriority") Integer minPriority,
+                                                                @Param("statuses") List<IncidentStatus> statuses);
+    
+    @Query(SUMMARY_SELECT + "WHERE ir.isUrgent = true")
+    List<IncidentSummary> findUrgentSummaries();
+    
+    @Query(SUMMARY_SELECT + "WHERE ir.estimatedResolutionDate < :currentDate AND ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED', 'ON_HOLD')")
+    List<IncidentSummary> findOverdueSummaries(@Param("currentDate") LocalDateTime currentDate);
+    
+    @Query(value = SUMMARY_SELECT + "ORDER BY ir.updatedAt DESC",
+           countQuery = "SELECT COUNT(ir) FROM IncidentReport ir")
+    Page<IncidentSummary> findRecentSummaries(Pageable pageable);
+    
+    @Query(SUMMARY_SELECT + "WHERE ir.status IN ('REPORTED', 'UNDER_REVIEW') ORDER BY ir.createdAt ASC")
+    List<IncidentSummary> findPendingSummaries();
+    
+    @Query(SUMMARY_SELECT + "WHERE ir.status IN ('ASSIGNED', 'IN_PROGRESS') ORDER BY ir.priorityLevel DESC, ir.createdAt ASC")
+    List<IncidentSummary> findActiveSummaries();
+    
+    @Query("SELECT COUNT(ir) FROM IncidentReport ir WHERE ir.isUrgent = true")
+    long countUrgent();
+    
+    @Query("SELECT COUNT(ir) FROM IncidentReport ir WHERE ir.estimatedResolutionDate < :currentDate AND ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED', 'ON_HOLD')")
+    long countOverdue(@Param("currentDate") LocalDateTime currentDate);
+    
+    // SLA engine seed: running clocks and the outcome of already resolved incidents
+    @Query("SELECT ir.id, ir.category.id, ir.estimatedResolutionDate, ir.status FROM IncidentReport ir " +
+           "WHERE ir.estimatedResolutionDate IS NOT NULL AND ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED')")
+    List<Object[]> findOpenSlaClocks();
+    
+    // Lifetime totals, so archived incidents count too
+    @Query(value = "SELECT s.category_id, " +
+           "SUM(CASE WHEN s.actual_resolution_date > s.estimated_resolution_date THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN s.actual_resolution_date <= s.estimated_resolution_date THEN 1 ELSE 0 END) FROM (" +
+           "SELECT category_id, estimated_resolution_date, actual_resolution_date FROM incident_reports " +
+           "WHERE estimated_resolution_date IS NOT NULL AND actual_resolution_date IS NOT NULL " +
+           "AND status IN ('RESOLVED', 'CLOSED') UNION ALL " +
+           "SELECT category_id, estimated_resolution_date, actual_resolution_date FROM incident_reports_archive " +
+           "WHERE estimated_resolution_date IS NOT NULL AND actual_resolution_date IS NOT NULL " +
+           "AND status IN ('RESOLVED', 'CLOSED')) s GROUP BY s.category_id", nativeQuery = true)
+    List<Object[]> countSlaOutcomesByCategory();
+    
+    // Resolution-time sketch backfill: (category, assignee, created, resolved or closed) per finished incident
+    @Query("SELECT ir.category.id, a.id, ir.createdAt, ir.actualResolutionDate FROM IncidentReport ir " +
+           "LEFT JOIN ir.assignedTo a WHERE ir.actualResolutionDate IS NOT NULL AND ir.status IN ('RESOLVED', 'CLOSED')")
+    List<Object[]> findResolutionSamples();
+    
+    @Query("SELECT ir.category.id, a.id, ir.createdAt, su.updatedAt FROM StatusUpdate su JOIN su.incident ir " +
+           "LEFT JOIN ir.assignedTo a WHERE su.newStatus = 'CLOSED'")
+    List<Object[]> findClosingSamples();
+    
+    // Children a propagated status change will move, for the resolution-time sketches
+    @Query("SELECT ir.category.id, a.id, ir.createdAt FROM IncidentReport ir LEFT JOIN ir.assignedTo a " +
+           "WHERE ir.parent.id = :parentId AND ir.status IN :allowedFrom")
+    List<Object[]> findOpenChildResolutionSamples(@Param("parentId") Long parentId,
+                                                  @Param("allowedFrom") Collection<IncidentStatus> allowedFrom);
+    
+    // Time-in-status aggregates seed: (previous status, count, sum, max) in seconds
+    @Query("SELECT su.previousStatus, COUNT(su), SUM(su.timeInPreviousStatusSeconds), MAX(su.timeInPreviousStatusSeconds) " +
+           "FROM StatusUpdate su WHERE su.timeInPreviousStatusSeconds IS NOT NULL GROUP BY su.previousStatus")
+    List<Object[]> sumTimeInStatus();
+    
+    @Query("SELECT su.previousStatus, COUNT(su), SUM(su.timeInPreviousStatusSeconds), MAX(su.timeInPreviousStatusSeconds) " +
+           "FROM ArchivedStatusUpdate su WHERE su.timeInPreviousStatusSeconds IS NOT NULL GROUP BY su.previousStatus")
+    List<Object[]> sumArchivedTimeInStatus();
 }
@@ -0,0 +1,26 @@
+package com.campus.incident.repository;
+
+import com.campus.incident.dto.IncidentField;
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.dto.TimelineCursor;
+import com.campus.incident.dto.TimelineEntry;
+import com.campus.incident.entity.IncidentReport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface IncidentReportRepositoryCustom {
+
+    // Selects only the requested columns (plus the joins they need)
+    Page<Map<String, Object>> findProjected(Set<IncidentField> fields, Specification<IncidentReport> spec, Pageable pageable);
+
+    // Summaries from incident_reports UNION ALL incident_reports_archive; both filters are optional
+    Page<IncidentSummary> findSummariesIncludingArchived(Long reporterId, String searchTerm, Pageable pageable);
+
+    // Resolution logs and status updates merged in (timestamp, id, kind) order, strictly after the cursor
+    List<TimelineEntry> findTimeline(Long incidentId, TimelineCursor after, int limit);
+}
@@ -0,0 +1,265 @@
+package com.campus.incident.repository;
+
+import com.campus.incident.dto.IncidentField;
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.dto.TimelineCursor;
+import com.campus.incident.dto.TimelineEntry;
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Custom fragment of IncidentReportRepository
+public class IncidentReportRepositoryImpl implements IncidentReportRepositoryCustom {
+
+    // Timeline branches share one column layout; enum and TEXT columns are cast so both sides union as VARCHAR
+    // (notes without a length, so long notes come back whole)
+    private static final String TIMELINE_LOGS = "SELECT CAST('LOG' AS VARCHAR(6)) AS kind, rl.id AS id, " +
+            "rl.performed_at AS ts, u.full_name AS actor_name, rl.action AS action, CAST(rl.notes AS VARCHAR) AS notes, " +
+            "CAST(rl.log_type AS VARCHAR(32)) AS log_type, CAST(NULL AS VARCHAR(32)) AS previous_status, " +
+            "CAST(NULL AS VARCHAR(32)) AS new_status, rl.time_spent_minutes AS time_spent_minutes, " +
+            "rl.cost_incurred AS cost_incurred, rl.materials_used AS materials_used " +
+            "FROM resolution_logs rl LEFT JOIN users u ON u.id = rl.performed_by_id WHERE rl.incident_id = :incidentId";
+
+    private static final String TIMELINE_STATUS_UPDATES = "SELECT CAST('STATUS' AS VARCHAR(6)), su.id, " +
+            "su.updated_at, u.full_name, CAST(NULL AS VARCHAR(200)), CAST(su.notes AS VARCHAR), CAST(NULL AS VARCHAR(32)), " +
+            "CAST(su.previous_status AS VARCHAR(32)), CAST(su.new_status AS VARCHAR(32)), CAST(NULL AS INTEGER), " +
+            "CAST(NULL AS DOUBLE PRECISION), CAST(NULL AS VARCHAR(500)) " +
+            "FROM status_updates su LEFT JOIN users u ON u.id = su.updated_by_id WHERE su.incident_id = :incidentId";
+
+    // Same columns as the IncidentSummary projection, for either the hot or the archive table
+    private static final String SUMMARY_COLUMNS = "SELECT ir.id, ir.title, ir.status, ir.priority_level, ir.is_urgent, " +
+            "c.name AS category_name, a.full_name AS assignee_name, ir.created_at, ir.updated_at FROM ";
+    private static final String SUMMARY_JOINS = " ir JOIN incident_categories c ON c.id = ir.category_id " +
+            "LEFT JOIN users a ON a.id = ir.assigned_to_id";
+
+    // Sortable IncidentSummary properties -> union column
+    private static final Map<String, String> SUMMARY_SORT_COLUMNS = Map.of(
+            "id", "id",
+            "title", "title",
+            "status", "status",
+            "priorityLevel", "priority_level",
+            "isUrgent", "is_urgent",
+            "categoryName", "category_name",
+            "assigneeName", "assignee_name",
+            "createdAt", "created_at",
+            "updatedAt", "updated_at");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Map<String, Object>> findProjected(Set<IncidentField> fields, Specification<IncidentReport> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<IncidentReport> root = query.from(IncidentReport.class);
+
+        // Only join the associations that a requested field actually needs
+        Map<String, Join<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>();
+        List<IncidentField> ordered = new ArrayList<>(fields);
+        for (IncidentField field : ordered) {
+            if (field.getAssociation() == null) {
+                selections.add(root.get(field.getAttribute()));
+            } else {
+                Join<?, ?> join = joins.computeIfAbsent(field.getAssociation(), a -> root.join(a, JoinType.LEFT));
+                selections.add(join.get(field.getAttribute()));
+            }
+        }
+        query.multiselect(selections);
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+
+        List<Map<String, Object>> content = new ArrayList<>();
+        for (Tuple tuple : typedQuery.getResultList()) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < ordered.size(); i++) {
+                row.put(ordered.get(i).getJsonName(), tuple.get(i));
+            }
+            content.add(row);
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    private long count(Specification<IncidentReport> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<IncidentReport> root = query.from(IncidentReport.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Page<IncidentSummary> findSummariesIncludingArchived(Long reporterId, String searchTerm, Pageable pageable) {
+        String filter = summaryFilter(reporterId, searchTerm);
+        String sql = "SELECT * FROM (" +
+                SUMMARY_COLUMNS + "incident_reports" + SUMMARY_JOINS + filter +
+                " UNION ALL " +
+                SUMMARY_COLUMNS + "incident_reports_archive" + SUMMARY_JOINS + filter +
+                ") s" + summaryOrderBy(pageable.getSort());
+
+        Query query = entityManager.createNativeQuery(sql);
+        bindSummaryFilter(query, reporterId, searchTerm);
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<IncidentSummary> content = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            content.add(new IncidentSummary(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    IncidentStatus.valueOf(row[2].toString()),
+                    row[3] != null ? ((Number) row[3]).intValue() : null,
+                    Boolean.TRUE.equals(row[4]),
+                    (String) row[5],
+                    (String) row[6],
+                    toLocalDateTime(row[7]),
+                    toLocalDateTime(row[8])));
+        }
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countSummariesIncludingArchived(reporterId, searchTerm));
+    }
+
+    private long countSummariesIncludingArchived(Long reporterId, String searchTerm) {
+        String filter = summaryFilter(reporterId, searchTerm);
+        Query query = entityManager.createNativeQuery(
+                "SELECT (SELECT COUNT(*) FROM incident_reports ir" + filter + ") + " +
+                "(SELECT COUNT(*) FROM incident_reports_archive ir" + filter + ")");
+        bindSummaryFilter(query, reporterId, searchTerm);
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    private static String summaryFilter(Long reporterId, String searchTerm) {
+        List<String> conditions = new ArrayList<>();
+        if (reporterId != null) {
+            conditions.add("ir.reporter_id = :reporterId");
+        }
+        if (searchTerm != null && !searchTerm.isEmpty()) {
+            conditions.add("(ir.title LIKE :pattern OR ir.description LIKE :pattern OR ir.location_details LIKE :pattern)");
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    private static void bindSummaryFilter(Query query, Long reporterId, String searchTerm) {
+        if (reporterId != null) {
+            query.setParameter("reporterId", reporterId);
+        }
+        if (searchTerm != null && !searchTerm.isEmpty()) {
+            query.setParameter("pattern", "%" + searchTerm + "%");
+        }
+    }
+
+    // Only whitelisted properties reach the SQL; unknown ones fall back to newest first
+    private static String summaryOrderBy(Sort sort) {
+        List<String> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            String column = SUMMARY_SORT_COLUMNS.get(order.getProperty());
+            if (column != null) {
+                orders.add(column + (order.isAscending() ? " ASC" : " DESC"));
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add("created_at DESC");
+        }
+        orders.add("id");
+        return " ORDER BY " + String.join(", ", orders);
+    }
+
+    // Each branch walks its (incident_id, time, id) index from the cursor and stops after
+    // limit rows, so the outer sort only merges at most 2 * limit rows in one statement
+    @Override
+    public List<TimelineEntry> findTimeline(Long incidentId, TimelineCursor after, int limit) {
+        String logKeyset = "";
+        String statusKeyset = "";
+        if (after != null) {
+            logKeyset = " AND (rl.performed_at > :ts OR (rl.performed_at = :ts AND rl.id > :lastLogId))";
+            statusKeyset = " AND (su.updated_at > :ts OR (su.updated_at = :ts AND su.id > :lastStatusId))";
+        }
+        Query query = entityManager.createNativeQuery(
+                "SELECT * FROM ((" + TIMELINE_LOGS + logKeyset +
+                " ORDER BY rl.performed_at, rl.id FETCH FIRST :limit ROWS ONLY) UNION ALL (" +
+                TIMELINE_STATUS_UPDATES + statusKeyset +
+                " ORDER BY su.updated_at, su.id FETCH FIRST :limit ROWS ONLY)) t " +
+                "ORDER BY t.ts, t.id, t.kind FETCH FIRST :limit ROWS ONLY");
+        query.setParameter("incidentId", incidentId);
+        query.setParameter("limit", limit);
+        if (after != null) {
+            query.setParameter("ts", after.getTimestamp());
+            query.setParameter("lastLogId", after.lastIdFor(TimelineEntry.Kind.LOG));
+            query.setParameter("lastStatusId", after.lastIdFor(TimelineEntry.Kind.STATUS));
+        }
+
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            entries.add(new TimelineEntry(
+                    TimelineEntry.Kind.valueOf(row[0].toString().trim()),
+                    ((Number) row[1]).longValue(),
+                    toLocalDateTime(row[2]),
+                    (String) row[3],
+                    (String) row[4],
+                    (String) row[5],
+                    row[6] != null ? row[6].toString() : null,
+                    row[7] != null ? IncidentStatus.valueOf(row[7].toString()) : null,
+                    row[8] != null ? IncidentStatus.valueOf(row[8].toString()) : null,
+                    row[9] != null ? ((Number) row[9]).intValue() : null,
+                    row[10] != null ? ((Number) row[10]).doubleValue() : null,
+                    (String) row[11]));
+        }
+        return entries;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
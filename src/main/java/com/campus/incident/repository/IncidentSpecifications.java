@@ -0,0 +1,55 @@
+package com.campus.incident.repository;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.User;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Reusable filters for dynamic (projected) incident queries
+public final class IncidentSpecifications {
+
+    private IncidentSpecifications() {}
+
+    public static Specification<IncidentReport> hasId(Long id) {
+        return (root, query, cb) -> cb.equal(root.get("id"), id);
+    }
+
+    public static Specification<IncidentReport> reportedBy(Long reporterId) {
+        return (root, query, cb) -> cb.equal(root.get("reporter").get("id"), reporterId);
+    }
+
+    public static Specification<IncidentReport> assignedTo(Long assignedToId) {
+        return (root, query, cb) -> cb.equal(root.get("assignedTo").get("id"), assignedToId);
+    }
+
+    public static Specification<IncidentReport> unassignedWithStatusIn(List<IncidentStatus> statuses) {
+        return (root, query, cb) -> cb.and(root.get("status").in(statuses), cb.isNull(root.get("assignedTo")));
+    }
+
+    public static Specification<IncidentReport> matchesSearch(String searchTerm) {
+        return (root, query, cb) -> {
+            String pattern = "%" + searchTerm + "%";
+            return cb.or(
+                    cb.like(root.get("title"), pattern),
+                    cb.like(root.get("description"), pattern),
+                    cb.like(root.get("locationDetails"), pattern));
+        };
+    }
+
+    // Mirrors IncidentService.canUserViewIncident as a predicate
+    public static Specification<IncidentReport> viewableBy(User user) {
+        return (root, query, cb) -> {
+            if (user.getRole().isAdmin()) {
+                return null;
+            }
+            if (user.getRole().isMaintenance()) {
+                return cb.or(
+                        cb.equal(root.get("assignedTo").get("id"), user.getId()),
+                        cb.not(root.get("status").in(IncidentStatus.RESOLVED, IncidentStatus.CLOSED)));
+            }
+            return cb.equal(root.get("reporter").get("id"), user.getId());
+        };
+    }
+}
@@ -0,0 +1,141 @@
+package com.campus.incident.repository;
+
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.IncidentView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+// The incident_view read model. Rows are (re)projected from the normalized
+// tables with set-based DELETE + INSERT ... SELECT; list and dashboard
+// queries then read the single flat table without joins.
+@Repository
+public interface IncidentViewRepository extends JpaRepository<IncidentView, Long> {
+
+    String PROJECT_SELECT = "INSERT INTO IncidentView (id, title, description, locationDetails, status, priorityLevel, " +
+            "isUrgent, categoryId, categoryName, reporterId, assignedToId, assigneeName, estimatedResolutionDate, " +
+            "overdue, resolutionLogCount, statusUpdateCount, createdAt, updatedAt, projectedAt) " +
+            "SELECT ir.id, ir.title, ir.description, ir.locationDetails, ir.status, ir.priorityLevel, " +
+            "ir.isUrgent, c.id, c.name, ir.reporter.id, a.id, a.fullName, ir.estimatedResolutionDate, " +
+            "CASE WHEN ir.estimatedResolutionDate < :now AND ir.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED', 'ON_HOLD') " +
+            "THEN true ELSE false END, " +
+            "(SELECT COUNT(rl) FROM ResolutionLog rl WHERE rl.incident = ir), " +
+            "(SELECT COUNT(su) FROM StatusUpdate su WHERE su.incident = ir), " +
+            "ir.createdAt, ir.updatedAt, :now " +
+            "FROM IncidentReport ir JOIN ir.category c LEFT JOIN ir.assignedTo a ";
+
+    String VIEW_SELECT = "SELECT new com.campus.incident.dto.IncidentSummary(" +
+            "v.id, v.title, v.status, v.priorityLevel, v.isUrgent, v.categoryName, v.assigneeName, " +
+            "v.createdAt, v.updatedAt, v.overdue, v.resolutionLogCount, v.statusUpdateCount) " +
+            "FROM IncidentView v ";
+
+    // Projection maintenance
+
+    @Modifying
+    @Query("DELETE FROM IncidentView v WHERE v.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(PROJECT_SELECT + "WHERE ir.id IN :ids")
+    int projectIncidents(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IncidentView v")
+    int deleteAllRows();
+
+    @Modifying
+    @Query(PROJECT_SELECT)
+    int projectAll(@Param("now") LocalDateTime now);
+
+    // Open incidents whose estimated resolution date has passed since they were projected
+    @Modifying
+    @Query("UPDATE IncidentView v SET v.overdue = true WHERE v.overdue = false " +
+           "AND v.estimatedResolutionDate < :now AND v.status NOT IN ('RESOLVED', 'CLOSED', 'CANCELLED', 'ON_HOLD')")
+    int markOverdue(@Param("now") LocalDateTime now);
+
+    // List views
+
+    @Query(value = VIEW_SELECT,
+           countQuery = "SELECT COUNT(v) FROM IncidentView v")
+    Page<IncidentSummary> findAllSummaries(Pageable pageable);
+
+    @Query(value = VIEW_SELECT + "WHERE v.reporterId = :reporterId",
+           countQuery = "SELECT COUNT(v) FROM IncidentView v WHERE v.reporterId = :reporterId")
+    Page<IncidentSummary> findSummariesByReporterId(@Param("reporterId") Long reporterId, Pageable pageable);
+
+    @Query(value = VIEW_SELECT + "WHERE v.assignedToId = :assignedToId",
+           countQuery = "SELECT COUNT(v) FROM IncidentView v WHERE v.assignedToId = :assignedToId")
+    Page<IncidentSummary> findSummariesByAssignedToId(@Param("assignedToId") Long assignedToId, Pageable pageable);
+
+    @Query(value = VIEW_SELECT + "WHERE v.status IN :statuses AND v.assignedToId IS NULL",
+           countQuery = "SELECT COUNT(v) FROM IncidentView v WHERE v.status IN :statuses AND v.assignedToId IS NULL")
+    Page<IncidentSummary> findUnassignedSummariesByStatusIn(@Param("statuses") List<IncidentStatus> statuses, Pageable pageable);
+
+    @Query(value = VIEW_SELECT + "WHERE " +
+           "v.title LIKE %:searchTerm% OR " +
+           "v.description LIKE %:searchTerm% OR " +
+           "v.locationDetails LIKE %:searchTerm%",
+           countQuery = "SELECT COUNT(v) FROM IncidentView v WHERE " +
+           "v.title LIKE %:searchTerm% OR " +
+           "v.description LIKE %:searchTerm% OR " +
+           "v.locationDetails LIKE %:searchTerm%")
+    Page<IncidentSummary> searchSummaries(@Param("searchTerm") String searchTerm, Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE v.status = :status")
+    List<IncidentSummary> findSummariesByStatus(@Param("status") IncidentStatus status);
+
+    @Query(VIEW_SELECT + "WHERE v.categoryId = :categoryId")
+    List<IncidentSummary> findSummariesByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query(VIEW_SELECT + "WHERE v.reporterId = :reporterId")
+    List<IncidentSummary> findSummariesByReporterId(@Param("reporterId") Long reporterId);
+
+    @Query(VIEW_SELECT + "WHERE v.assignedToId = :assignedToId")
+    List<IncidentSummary> findSummariesByAssignedToId(@Param("assignedToId") Long assignedToId);
+
+    @Query(VIEW_SELECT + "WHERE v.priorityLevel >= :minPriority AND v.status IN :statuses")
+    List<IncidentSummary> findSummariesByMinPriorityAndStatusIn(@Param("minPriority") Integer minPriority,
+                                                                @Param("statuses") List<IncidentStatus> statuses);
+
+    @Query(VIEW_SELECT + "WHERE v.isUrgent = true")
+    List<IncidentSummary> findUrgentSummaries();
+
+    @Query(VIEW_SELECT + "WHERE v.overdue = true")
+    List<IncidentSummary> findOverdueSummaries();
+
+    @Query(value = VIEW_SELECT + "ORDER BY v.updatedAt DESC",
+           countQuery = "SELECT COUNT(v) FROM IncidentView v")
+    Page<IncidentSummary> findRecentSummaries(Pageable pageable);
+
+    @Query(VIEW_SELECT + "WHERE v.status IN ('REPORTED', 'UNDER_REVIEW') ORDER BY v.createdAt ASC")
+    List<IncidentSummary> findPendingSummaries();
+
+    @Query(VIEW_SELECT + "WHERE v.status IN ('ASSIGNED', 'IN_PROGRESS') ORDER BY v.priorityLevel DESC, v.createdAt ASC")
+    List<IncidentSummary> findActiveSummaries();
+
+    // Dashboard counts
+
+    @Query("SELECT v.status, COUNT(v) FROM IncidentView v GROUP BY v.status")
+    List<Object[]> countByStatus();
+
+    @Query("SELECT v.categoryName, COUNT(v) FROM IncidentView v GROUP BY v.categoryName")
+    List<Object[]> countByCategory();
+
+    @Query("SELECT v.priorityLevel, COUNT(v) FROM IncidentView v GROUP BY v.priorityLevel ORDER BY v.priorityLevel DESC")
+    List<Object[]> countByPriority();
+
+    @Query("SELECT COUNT(v) FROM IncidentView v WHERE v.isUrgent = true")
+    long countUrgent();
+
+    @Query("SELECT COUNT(v) FROM IncidentView v WHERE v.overdue = true")
+    long countOverdue();
+}
@@ -0,0 +1,17 @@
+package com.campus.incident.repository;
+
+import com.campus.incident.entity.ResolutionMetric;
+import com.campus.incident.entity.ResolutionSketch;
+import com.campus.incident.entity.SketchDimension;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+@Repository
+public interface ResolutionSketchRepository extends JpaRepository<ResolutionSketch, Long> {
+
+    Optional<ResolutionSketch> findByMetricAndDimensionAndDimensionIdAndMonthStart(
+            ResolutionMetric metric, SketchDimension dimension, Long dimensionId, LocalDate monthStart);
+}
@@ -0,0 +1,41 @@
+package com.campus.incident.repository;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.TrendGranularity;
+import com.campus.incident.entity.TrendRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TrendRollupRepository extends JpaRepository<TrendRollup, Long> {
+
+    List<TrendRollup> findByGranularityAndBucketStartGreaterThanEqual(TrendGranularity granularity, LocalDateTime from);
+
+    // Adds a delta to an existing bucket row; 0 means the row does not exist yet
+    @Modifying
+    @Query("UPDATE TrendRollup r SET r.count = r.count + :delta WHERE r.granularity = :granularity " +
+           "AND r.bucketStart = :bucketStart AND r.categoryId = :categoryId " +
+           "AND r.priorityLevel = :priorityLevel AND r.status = :status")
+    int addToCount(@Param("granularity") TrendGranularity granularity, @Param("bucketStart") LocalDateTime bucketStart,
+                   @Param("categoryId") Long categoryId, @Param("priorityLevel") Integer priorityLevel,
+                   @Param("status") IncidentStatus status, @Param("delta") long delta);
+
+    // Bucket totals per status in [from, to), optionally filtered by category / priority / status
+    @Query("SELECT r.bucketStart, r.status, SUM(r.count) FROM TrendRollup r " +
+           "WHERE r.granularity = :granularity AND r.bucketStart >= :from AND r.bucketStart < :to " +
+           "AND (:categoryId IS NULL OR r.categoryId = :categoryId) " +
+           "AND (:priorityLevel IS NULL OR r.priorityLevel = :priorityLevel) " +
+           "AND (:status IS NULL OR r.status = :status) " +
+           "GROUP BY r.bucketStart, r.status")
+    List<Object[]> sumByBucketAndStatus(@Param("granularity") TrendGranularity granularity,
+                                        @Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                        @Param("categoryId") Long categoryId,
+                                        @Param("priorityLevel") Integer priorityLevel,
+                                        @Param("status") IncidentStatus status);
+}
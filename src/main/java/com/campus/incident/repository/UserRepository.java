@@ -2,8 +2,10 @@ package com.campus.incident.repository;
 
 import com.campus.incident.entity.User;
 import com.campus.incident.entity.UserRole;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -13,10 +15,19 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     
+    // Query-cached; results are invalidated whenever the users table changes
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "user-queries")
+    })
     Optional<User> findByUsername(String username);
     
     Optional<User> findByEmail(String email);
     
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+        @QueryHint(name = "org.hibernate.cacheRegion", value = "user-queries")
+    })
     List<User> findByRole(UserRole role);
     
     List<User> findByIsActive(boolean isActive);
@@ -0,0 +1,290 @@
+package com.campus.incident.resolution;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.ResolutionMetric;
+import com.campus.incident.entity.ResolutionSketch;
+import com.campus.incident.entity.SketchDimension;
+import com.campus.incident.repository.IncidentCategoryRepository;
+import com.campus.incident.repository.IncidentReportRepository;
+import com.campus.incident.repository.ResolutionSketchRepository;
+import com.campus.incident.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Resolution times (minutes from creation) as one t-digest per (category, month)
+// and (worker, month), for time-to-resolve and time-to-close. Sketches are
+// updated as incidents finish and written to resolution_time_sketches
+// periodically; MTTR and quantile queries merge the sketches of the requested
+// months and never read incident history.
+@Component
+public class ResolutionTimeStore {
+
+    @Autowired
+    private ResolutionSketchRepository sketchRepository;
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    @Autowired
+    private IncidentCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<Key, TDigest> sketches = new HashMap<>();
+    private final Set<Key> dirty = new HashSet<>();
+
+    // Load persisted sketches; an empty table is backfilled once from finished incidents
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<ResolutionSketch> rows = sketchRepository.findAll();
+        if (rows.isEmpty()) {
+            backfill();
+            return;
+        }
+        synchronized (this) {
+            sketches.clear();
+            for (ResolutionSketch row : rows) {
+                sketches.put(new Key(row.getMetric(), row.getDimension(), row.getDimensionId(),
+                        YearMonth.from(row.getMonthStart())), TDigest.fromBytes(row.getDigest()));
+            }
+        }
+    }
+
+    // Computes every sketch from incidents and status updates; only runs against an empty sketch table
+    private void backfill() {
+        List<Object[]> resolved = incidentRepository.findResolutionSamples();
+        List<Object[]> closed = incidentRepository.findClosingSamples();
+        synchronized (this) {
+            sketches.clear();
+            dirty.clear();
+            for (Object[] row : resolved) {
+                record(ResolutionMetric.TIME_TO_RESOLVE, (Long) row[0], (Long) row[1],
+                        (LocalDateTime) row[2], (LocalDateTime) row[3]);
+            }
+            for (Object[] row : closed) {
+                record(ResolutionMetric.TIME_TO_CLOSE, (Long) row[0], (Long) row[1],
+                        (LocalDateTime) row[2], (LocalDateTime) row[3]);
+            }
+        }
+        flush();
+    }
+
+    // Adds the incident's elapsed time since creation once the transaction commits
+    public void recordAfterCommit(IncidentReport incident, ResolutionMetric metric, LocalDateTime finishedAt) {
+        Long categoryId = incident.getCategory() != null ? incident.getCategory().getId() : null;
+        Long workerId = incident.getAssignedTo() != null ? incident.getAssignedTo().getId() : null;
+        recordAfterCommit(metric, categoryId, workerId, incident.getCreatedAt(), finishedAt);
+    }
+
+    public void recordAfterCommit(ResolutionMetric metric, Long categoryId, Long workerId,
+                                  LocalDateTime createdAt, LocalDateTime finishedAt) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                record(metric, categoryId, workerId, createdAt, finishedAt);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                synchronized (ResolutionTimeStore.this) {
+                    record(metric, categoryId, workerId, createdAt, finishedAt);
+                }
+            }
+        });
+    }
+
+    private void record(ResolutionMetric metric, Long categoryId, Long workerId,
+                        LocalDateTime createdAt, LocalDateTime finishedAt) {
+        if (createdAt == null || finishedAt == null || finishedAt.isBefore(createdAt)) {
+            return;
+        }
+        double minutes = Duration.between(createdAt, finishedAt).getSeconds() / 60.0;
+        YearMonth month = YearMonth.from(finishedAt);
+        if (categoryId != null) {
+            add(new Key(metric, SketchDimension.CATEGORY, categoryId, month), minutes);
+        }
+        if (workerId != null) {
+            add(new Key(metric, SketchDimension.WORKER, workerId, month), minutes);
+        }
+    }
+
+    private void add(Key key, double minutes) {
+        sketches.computeIfAbsent(key, k -> new TDigest()).add(minutes);
+        dirty.add(key);
+    }
+
+    // Writes changed sketches; failed writes are retried next time
+    @Scheduled(fixedDelayString = "${incident.resolution-times.flush-interval-ms:60000}")
+    public void flush() {
+        Map<Key, byte[]> batch = new HashMap<>();
+        Map<Key, Long> counts = new HashMap<>();
+        synchronized (this) {
+            if (dirty.isEmpty()) {
+                return;
+            }
+            for (Key key : dirty) {
+                TDigest digest = sketches.get(key);
+                batch.put(key, digest.toBytes());
+                counts.put(key, digest.size());
+            }
+            dirty.clear();
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> batch.forEach((key, bytes) -> {
+                ResolutionSketch row = sketchRepository.findByMetricAndDimensionAndDimensionIdAndMonthStart(
+                                key.metric, key.dimension, key.id, key.month.atDay(1))
+                        .orElseGet(() -> new ResolutionSketch(key.metric, key.dimension, key.id, key.month.atDay(1)));
+                row.setDigest(bytes);
+                row.setSampleCount(counts.get(key));
+                row.setUpdatedAt(now);
+                sketchRepository.save(row);
+            }));
+        } catch (RuntimeException e) {
+            System.err.println("Failed to flush resolution-time sketches, will retry: " + e.getMessage());
+            synchronized (this) {
+                dirty.addAll(batch.keySet());
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // MTTR and quantiles over the months [from, to], overall and per category / worker
+    // (just the given one when id is set), optionally broken down by month
+    public Map<String, Object> query(ResolutionMetric metric, SketchDimension dimension, Long id,
+                                     YearMonth from, YearMonth to, double[] quantiles, boolean monthly) {
+        TDigest overall = new TDigest();
+        Map<Long, TDigest> merged = new TreeMap<>();
+        Map<Long, Map<YearMonth, TDigest>> byMonth = new HashMap<>();
+        synchronized (this) {
+            for (Map.Entry<Key, TDigest> entry : sketches.entrySet()) {
+                Key key = entry.getKey();
+                if (key.metric != metric || key.dimension != dimension || (id != null && !id.equals(key.id))
+                        || key.month.isBefore(from) || key.month.isAfter(to)) {
+                    continue;
+                }
+                overall.merge(entry.getValue());
+                merged.computeIfAbsent(key.id, k -> new TDigest()).merge(entry.getValue());
+                if (monthly) {
+                    TDigest copy = new TDigest();
+                    copy.merge(entry.getValue());
+                    byMonth.computeIfAbsent(key.id, k -> new TreeMap<>()).put(key.month, copy);
+                }
+            }
+        }
+
+        Map<Long, String> names = new HashMap<>();
+        if (dimension == SketchDimension.CATEGORY) {
+            categoryRepository.findAllById(merged.keySet()).forEach(c -> names.put(c.getId(), c.getName()));
+        } else {
+            userRepository.findAllById(merged.keySet()).forEach(u -> names.put(u.getId(), u.getFullName()));
+        }
+
+        List<Map<String, Object>> groups = new ArrayList<>();
+        merged.forEach((key, digest) -> {
+            Map<String, Object> group = new LinkedHashMap<>();
+            group.put("id", key);
+            group.put("name", names.get(key));
+            group.putAll(summarize(digest, quantiles));
+            if (monthly) {
+                List<Map<String, Object>> months = new ArrayList<>();
+                byMonth.get(key).forEach((month, monthDigest) -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("month", month.toString());
+                    row.putAll(summarize(monthDigest, quantiles));
+                    months.add(row);
+                });
+                group.put("months", months);
+            }
+            groups.add(group);
+        });
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("metric", metric);
+        result.put("by", dimension);
+        result.put("from", from.toString());
+        result.put("to", to.toString());
+        result.put("overall", summarize(overall, quantiles));
+        result.put("groups", groups);
+        return result;
+    }
+
+    private static Map<String, Object> summarize(TDigest digest, double[] quantiles) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", digest.size());
+        if (digest.size() == 0) {
+            return summary;
+        }
+        summary.put("meanMinutes", round(digest.mean()));
+        summary.put("minMinutes", round(digest.min()));
+        summary.put("maxMinutes", round(digest.max()));
+        Map<String, Double> values = new LinkedHashMap<>();
+        for (double q : quantiles) {
+            values.put("p" + BigDecimal.valueOf(q * 100).stripTrailingZeros().toPlainString(), round(digest.quantile(q)));
+        }
+        summary.put("quantileMinutes", values);
+        return summary;
+    }
+
+    private static double round(double minutes) {
+        return Math.round(minutes * 10) / 10.0;
+    }
+
+    private static final class Key {
+        private final ResolutionMetric metric;
+        private final SketchDimension dimension;
+        private final long id;
+        private final YearMonth month;
+
+        Key(ResolutionMetric metric, SketchDimension dimension, long id, YearMonth month) {
+            this.metric = metric;
+            this.dimension = dimension;
+            this.id = id;
+            this.month = month;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key other)) {
+                return false;
+            }
+            return metric == other.metric && dimension == other.dimension && id == other.id
+                    && month.equals(other.month);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(metric, dimension, id, month);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.campus.incident.resolution;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// Merging t-digest (Dunning): a mergeable quantile sketch of at most ~compression
+// centroids, tighter at the tails than in the middle (arcsine scale function).
+// New values are buffered and folded in on demand; two digests merge by
+// compressing the union of their centroids. Not thread-safe; ResolutionTimeStore
+// guards access.
+final class TDigest {
+
+    static final int DEFAULT_COMPRESSION = 200;
+
+    private static final byte FORMAT = 1;
+
+    private final int compression;
+    private double[] means;
+    private long[] weights;
+    private int centroids;
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    private double[] buffer;
+    private int buffered;
+
+    TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    TDigest(int compression) {
+        if (compression < 10) {
+            throw new IllegalArgumentException("compression must be at least 10");
+        }
+        this.compression = compression;
+        this.means = new double[2 * compression];
+        this.weights = new long[2 * compression];
+        this.buffer = new double[5 * compression];
+    }
+
+    void add(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Cannot add NaN");
+        }
+        if (buffered == buffer.length) {
+            compress();
+        }
+        buffer[buffered++] = value;
+        count++;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    // Folds another digest into this one; the other digest is left unchanged
+    void merge(TDigest other) {
+        other.compress();
+        if (other.count == 0) {
+            return;
+        }
+        compress();
+        double[] mergedMeans = Arrays.copyOf(means, centroids + other.centroids);
+        long[] mergedWeights = Arrays.copyOf(weights, centroids + other.centroids);
+        System.arraycopy(other.means, 0, mergedMeans, centroids, other.centroids);
+        System.arraycopy(other.weights, 0, mergedWeights, centroids, other.centroids);
+        count += other.count;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        rebuild(mergedMeans, mergedWeights, centroids + other.centroids);
+    }
+
+    long size() {
+        return count;
+    }
+
+    double min() {
+        return count == 0 ? Double.NaN : min;
+    }
+
+    double max() {
+        return count == 0 ? Double.NaN : max;
+    }
+
+    double mean() {
+        compress();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        double sum = 0;
+        for (int i = 0; i < centroids; i++) {
+            sum += means[i] * weights[i];
+        }
+        return sum / count;
+    }
+
+    // Estimated value at quantile q in [0, 1], interpolating between centroid centres
+    double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("quantile must be in [0, 1]");
+        }
+        compress();
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (centroids == 1) {
+            return means[0];
+        }
+        double index = q * count;
+        if (index < weights[0] / 2.0) {
+            // Between the minimum and the first centroid's centre
+            return min + (index / (weights[0] / 2.0)) * (means[0] - min);
+        }
+        double cumulative = 0;
+        for (int i = 0; i < centroids - 1; i++) {
+            double centre = cumulative + weights[i] / 2.0;
+            double gap = (weights[i] + weights[i + 1]) / 2.0;
+            if (index < centre + gap) {
+                return means[i] + (index - centre) / gap * (means[i + 1] - means[i]);
+            }
+            cumulative += weights[i];
+        }
+        int last = centroids - 1;
+        double centre = count - weights[last] / 2.0;
+        double tail = count - centre;
+        return tail <= 0 ? max : means[last] + Math.min(1, (index - centre) / tail) * (max - means[last]);
+    }
+
+    // Compact form: header, then each centroid as a float mean and a varint weight
+    byte[] toBytes() {
+        compress();
+        ByteBuffer out = ByteBuffer.allocate(1 + 2 + 8 + 8 + 8 + 4 + centroids * (4 + 10));
+        out.put(FORMAT);
+        out.putShort((short) compression);
+        out.putLong(count);
+        out.putDouble(min);
+        out.putDouble(max);
+        out.putInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            out.putFloat((float) means[i]);
+            long weight = weights[i];
+            while ((weight & ~0x7FL) != 0) {
+                out.put((byte) ((weight & 0x7F) | 0x80));
+                weight >>>= 7;
+            }
+            out.put((byte) weight);
+        }
+        return Arrays.copyOf(out.array(), out.position());
+    }
+
+    static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        if (in.get() != FORMAT) {
+            throw new IllegalArgumentException("Unknown digest format");
+        }
+        TDigest digest = new TDigest(in.getShort());
+        digest.count = in.getLong();
+        digest.min = in.getDouble();
+        digest.max = in.getDouble();
+        int centroids = in.getInt();
+        if (centroids > digest.means.length) {
+            digest.means = new double[centroids];
+            digest.weights = new long[centroids];
+        }
+        for (int i = 0; i < centroids; i++) {
+            digest.means[i] = in.getFloat();
+            long weight = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = in.get();
+                weight |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            digest.weights[i] = weight;
+        }
+        digest.centroids = centroids;
+        return digest;
+    }
+
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+        double[] mergedMeans = Arrays.copyOf(means, centroids + buffered);
+        long[] mergedWeights = Arrays.copyOf(weights, centroids + buffered);
+        for (int i = 0; i < buffered; i++) {
+            mergedMeans[centroids + i] = buffer[i];
+            mergedWeights[centroids + i] = 1;
+        }
+        int total = centroids + buffered;
+        buffered = 0;
+        rebuild(mergedMeans, mergedWeights, total);
+    }
+
+    // Sorts candidate centroids by mean and greedily merges neighbours while the
+    // merged centroid spans at most one unit of the scale function
+    private void rebuild(double[] candidateMeans, long[] candidateWeights, int size) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(candidateMeans[a], candidateMeans[b]));
+
+        double[] newMeans = new double[Math.max(means.length, 8)];
+        long[] newWeights = new long[newMeans.length];
+        int out = 0;
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += candidateWeights[i];
+        }
+
+        double weightSoFar = 0;
+        double lowerK = scale(0);
+        double currentMean = candidateMeans[order[0]];
+        long currentWeight = candidateWeights[order[0]];
+        for (int i = 1; i < size; i++) {
+            int next = order[i];
+            long proposed = currentWeight + candidateWeights[next];
+            if (scale((weightSoFar + proposed) / total) - lowerK <= 1) {
+                currentMean += (candidateMeans[next] - currentMean) * candidateWeights[next] / proposed;
+                currentWeight = proposed;
+            } else {
+                if (out == newMeans.length) {
+                    newMeans = Arrays.copyOf(newMeans, out * 2);
+                    newWeights = Arrays.copyOf(newWeights, out * 2);
+                }
+                newMeans[out] = currentMean;
+                newWeights[out++] = currentWeight;
+                weightSoFar += currentWeight;
+                lowerK = scale(weightSoFar / total);
+                currentMean = candidateMeans[next];
+                currentWeight = candidateWeights[next];
+            }
+        }
+        if (out == newMeans.length) {
+            newMeans = Arrays.copyOf(newMeans, out * 2);
+            newWeights = Arrays.copyOf(newWeights, out * 2);
+        }
+        newMeans[out] = currentMean;
+        newWeights[out++] = currentWeight;
+
+        means = newMeans;
+        weights = newWeights;
+        centroids = out;
+    }
+
+    // k1 scale function: centroids are small near q = 0 and q = 1
+    private double scale(double q) {
+        return compression / (2 * Math.PI) * Math.asin(2 * Math.min(1, Math.max(0, q)) - 1);
+    }
+}
@@ -1,5 +1,10 @@
 package com.campus.incident.service;
 
+import com.campus.incident.dto.IncidentField;
+import com.campus.incident.dto.IncidentGroupSummary;
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.dto.TimelineCursor;
+import com.campus.incident.dto.TimelinePage;
 import com.campus.incident.entity.IncidentReport;
 import com.campus.incident.entity.IncidentStatus;
 import com.campus.incident.entity.User;
@@ -9,6 +14,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 public interface IncidentService {
     
@@ -28,6 +34,9 @@ public interface IncidentService {
 
     IncidentReport assignIncident(Long incidentId, Long assigneeId, User assigner);
     
+    // Pull-based dispatch: claims the best unassigned incident, or null if none is left
+    IncidentReport claimNextIncident(User worker);
+    
     IncidentReport startWork(Long incidentId, User worker);
     
     IncidentReport pauseWork(Long incidentId, User worker, String reason);
@@ -36,6 +45,16 @@ public interface IncidentService {
     
     IncidentReport closeIncident(Long incidentId, User closer, String closureNotes);
     
+    // Incident grouping (status changes on a parent propagate to its children)
+    IncidentReport setParentIncident(Long incidentId, Long parentId, User user);
+    
+    IncidentGroupSummary getIncidentGroup(Long parentId);
+    
+    Page<IncidentGroupSummary> getIncidentGroups(Pageable pageable);
+    
+    // Resolution logs and status changes in time order, one keyset page after the cursor (null for the first)
+    TimelinePage getIncidentTimeline(Long incidentId, TimelineCursor after, int limit);
+    
     // Resolution logging
     void addResolutionLog(Long incidentId, String action, String notes, User performer);
     
@@ -46,27 +65,36 @@ public interface IncidentService {
     void addMaterialLog(Long incidentId, String materials, String notes, User performer);
     
     // Search and filtering
-    Page<IncidentReport> getIncidentsWithFilters(Pageable pageable, IncidentStatus status, Long categoryId, 
+    Page<IncidentSummary> getIncidentsWithFilters(Pageable pageable, IncidentStatus status, Long categoryId, 
                                                 Long reporterId, Long assignedToId, Integer priorityLevel, 
-                                                Boolean isUrgent, String search, User currentUser);
+                                                Boolean isUrgent, String search, boolean includeArchived,
+                                                User currentUser);
+    
+    Page<IncidentSummary> searchIncidents(String searchTerm, boolean includeArchived, Pageable pageable);
+    
+    // Sparse fieldsets (only the requested columns are selected)
+    Map<String, Object> getIncidentFields(Long id, Set<IncidentField> fields, User currentUser);
+    
+    Page<Map<String, Object>> getIncidentFieldsWithFilters(Pageable pageable, Set<IncidentField> fields,
+                                                           Long assignedToId, User currentUser);
     
-    Page<IncidentReport> searchIncidents(String searchTerm, Pageable pageable);
+    Page<Map<String, Object>> searchIncidentFields(String searchTerm, Set<IncidentField> fields, Pageable pageable);
     
     Page<IncidentReport> searchIncidentsByStatus(String searchTerm, List<IncidentStatus> statuses, Pageable pageable);
     
-    List<IncidentReport> getIncidentsByStatus(IncidentStatus status);
+    List<IncidentSummary> getIncidentsByStatus(IncidentStatus status);
     
-    List<IncidentReport> getIncidentsByCategory(Long categoryId);
+    List<IncidentSummary> getIncidentsByCategory(Long categoryId);
     
-    List<IncidentReport> getIncidentsByReporter(Long reporterId);
+    List<IncidentSummary> getIncidentsByReporter(Long reporterId);
     
-    List<IncidentReport> getIncidentsByAssignee(Long assigneeId);
+    List<IncidentSummary> getIncidentsByAssignee(Long assigneeId);
     
-    List<IncidentReport> getIncidentsByPriority(Integer minPriority);
+    List<IncidentSummary> getIncidentsByPriority(Integer minPriority);
     
-    List<IncidentReport> getUrgentIncidents();
+    List<IncidentSummary> getUrgentIncidents();
     
-    List<IncidentReport> getOverdueIncidents();
+    List<IncidentSummary> getOverdueIncidents();
     
     // Dashboard and reporting
     Map<String, Object> getDashboardStatistics();
@@ -77,11 +105,11 @@ public interface IncidentService {
     
     Map<String, Long> getIncidentCountByPriority();
     
-    List<IncidentReport> getRecentIncidents(int limit);
+    List<IncidentSummary> getRecentIncidents(int limit);
     
-    List<IncidentReport> getPendingIncidents();
+    List<IncidentSummary> getPendingIncidents();
     
-    List<IncidentReport> getActiveIncidents();
+    List<IncidentSummary> getActiveIncidents();
     
     // Business logic
     boolean canUserViewIncident(IncidentReport incident, User user);
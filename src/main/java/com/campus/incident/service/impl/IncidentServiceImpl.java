@@ -1,12 +1,41 @@
 package com.campus.incident.service.impl;
 
+import com.campus.incident.assignment.AssignmentProperties;
+import com.campus.incident.assignment.WorkloadBalancer;
+import com.campus.incident.assignment.WorkloadBalancer.Contribution;
+import com.campus.incident.dispatch.ClaimQueue;
+import com.campus.incident.dispatch.ClaimTicket;
+import com.campus.incident.duplicate.DuplicateIndex;
+import com.campus.incident.duplicate.DuplicateMatch;
+import com.campus.incident.duplicate.DuplicateProperties;
+import com.campus.incident.dto.IncidentField;
+import com.campus.incident.dto.IncidentGroupSummary;
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.dto.TimelineCursor;
+import com.campus.incident.dto.TimelineEntry;
+import com.campus.incident.dto.TimelinePage;
 import com.campus.incident.entity.*;
+import com.campus.incident.jfr.IncidentLifecycleEvent;
+import com.campus.incident.jfr.PermissionCheckEvent;
+import com.campus.incident.journal.IncidentJournal;
+import com.campus.incident.journal.JournalEvent;
+import com.campus.incident.location.LocationIndex;
+import com.campus.incident.location.LocationIndex.Presence;
 import com.campus.incident.repository.IncidentReportRepository;
+import com.campus.incident.resolution.ResolutionTimeStore;
+import com.campus.incident.readmodel.IncidentViewProjector;
+import com.campus.incident.repository.IncidentSpecifications;
+import com.campus.incident.repository.IncidentViewRepository;
 import com.campus.incident.repository.UserRepository;
 import com.campus.incident.service.IncidentService;
+import com.campus.incident.sla.SlaEngine;
+import com.campus.incident.timeinstatus.TimeInStatusStats;
+import com.campus.incident.trend.TrendStore;
+import com.campus.incident.workflow.WorkflowEngine;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +43,10 @@ import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
+// Projection, count and search reads are read-only transactions: Hibernate keeps
+// no snapshots and never flushes, and with a replica configured they may be
+// served from it. Methods returning managed IncidentReport entities stay
+// read-write, since under open-in-view callers may go on to modify them.
 @Service
 @Transactional
 public class IncidentServiceImpl implements IncidentService {
@@ -24,8 +57,52 @@ public class IncidentServiceImpl implements IncidentService {
     @Autowired
     private UserRepository userRepository;
     
+    @Autowired
+    private WorkflowEngine workflowEngine;
+    
+    @Autowired
+    private WorkloadBalancer workloadBalancer;
+    
+    @Autowired
+    private AssignmentProperties assignmentProperties;
+    
+    @Autowired
+    private ClaimQueue claimQueue;
+    
+    @Autowired
+    private DuplicateIndex duplicateIndex;
+    
+    @Autowired
+    private DuplicateProperties duplicateProperties;
+    
+    @Autowired
+    private LocationIndex locationIndex;
+    
+    @Autowired
+    private TrendStore trendStore;
+    
+    @Autowired
+    private IncidentJournal journal;
+    
+    // List and dashboard reads go to the incident_view read model once it is built
+    @Autowired
+    private IncidentViewRepository viewRepository;
+    
+    @Autowired
+    private IncidentViewProjector readModel;
+    
+    @Autowired
+    private SlaEngine slaEngine;
+    
+    @Autowired
+    private ResolutionTimeStore resolutionTimes;
+    
+    @Autowired
+    private TimeInStatusStats timeInStatus;
+    
     @Override
     public IncidentReport createIncident(IncidentReport incident, User reporter) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("create");
         // Set initial values
         incident.setReporter(reporter);
         incident.setStatus(IncidentStatus.REPORTED);
@@ -48,12 +125,33 @@ public class IncidentServiceImpl implements IncidentService {
             incident.setPriorityLevel(incident.getCategory().getPriorityLevel());
         }
         
+        incident.setLocationPath(locationIndex.resolvePath(incident.getLocationPath(), incident.getLocationDetails()));
+        slaEngine.startClock(incident, incident.getCreatedAt());
+        
         // Save incident
         IncidentReport savedIncident = incidentRepository.save(incident);
         
         // Add initial status update
         savedIncident.addResolutionLog("Incident reported", "Initial incident report created", reporter);
         
+        if (duplicateProperties.isEnabled()) {
+            flagDuplicates(savedIncident);
+        }
+        
+        if (assignmentProperties.isAutoAssign()) {
+            autoAssign(savedIncident);
+        }
+        if (savedIncident.getAssignedTo() == null) {
+            claimQueue.offerAfterCommit(savedIncident);
+        }
+        duplicateIndex.indexAfterCommit(savedIncident);
+        locationIndex.recordChange(Presence.NONE, locationIndex.presenceOf(savedIncident));
+        trendStore.recordAfterCommit(savedIncident, IncidentStatus.REPORTED);
+        slaEngine.recordAfterCommit(savedIncident);
+        timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+        journal.appendAfterCommit(JournalEvent.created(savedIncident, reporter));
+        event.finish(savedIncident, null, reporter);
+        
         return savedIncident;
     }
     
@@ -65,6 +163,7 @@ public class IncidentServiceImpl implements IncidentService {
     
     @Override
     public IncidentReport updateIncident(Long id, IncidentReport incidentDetails, User updater) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("update");
         IncidentReport existingIncident = getIncidentById(id);
         
         // Check permissions
@@ -72,6 +171,9 @@ public class IncidentServiceImpl implements IncidentService {
             throw new RuntimeException("User not authorized to update this incident");
         }
         
+        Contribution before = Contribution.of(existingIncident);
+        Presence beforeLocation = locationIndex.presenceOf(existingIncident);
+        
         // Update allowed fields
         if (incidentDetails.getTitle() != null) {
             existingIncident.setTitle(incidentDetails.getTitle());
@@ -81,6 +183,7 @@ public class IncidentServiceImpl implements IncidentService {
         }
         if (incidentDetails.getLocationDetails() != null) {
             existingIncident.setLocationDetails(incidentDetails.getLocationDetails());
+            existingIncident.setLocationPath(locationIndex.resolvePath(null, incidentDetails.getLocationDetails()));
         }
         if (incidentDetails.getCategory() != null) {
             existingIncident.setCategory(incidentDetails.getCategory());
@@ -103,11 +206,19 @@ public class IncidentServiceImpl implements IncidentService {
         // Add update log
         existingIncident.addResolutionLog("Incident updated", "Incident details modified by " + updater.getUsername(), updater);
         
-        return incidentRepository.save(existingIncident);
+        IncidentReport savedIncident = incidentRepository.save(existingIncident);
+        workloadBalancer.recordChange(before, Contribution.of(savedIncident));
+        duplicateIndex.indexAfterCommit(savedIncident);
+        locationIndex.recordChange(beforeLocation, locationIndex.presenceOf(savedIncident));
+        slaEngine.recordAfterCommit(savedIncident);
+        journal.appendAfterCommit(JournalEvent.updated(savedIncident, updater));
+        event.finish(savedIncident, savedIncident.getStatus(), updater);
+        return savedIncident;
     }
     
     @Override
     public void deleteIncident(Long id, User deleter) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("delete");
         IncidentReport incident = getIncidentById(id);
         
         if (!canUserDeleteIncident(incident, deleter)) {
@@ -120,6 +231,11 @@ public class IncidentServiceImpl implements IncidentService {
         }
         
         incidentRepository.delete(incident);
+        duplicateIndex.removeAfterCommit(id);
+        locationIndex.recordChange(locationIndex.presenceOf(incident), Presence.NONE);
+        slaEngine.removeAfterCommit(id);
+        journal.appendAfterCommit(JournalEvent.deleted(id, incident.getStatus(), deleter));
+        event.finish(id, incident.getStatus(), null, deleter);
     }
 
     @Override
@@ -129,34 +245,47 @@ public class IncidentServiceImpl implements IncidentService {
 
     @Override
     public IncidentReport updateIncidentStatus(Long incidentId, IncidentStatus newStatus, User updater, String notes) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("updateStatus");
         IncidentReport incident = getIncidentById(incidentId);
         
         if (!canUserUpdateIncident(incident, updater)) {
             throw new RuntimeException("User not authorized to update this incident");
         }
         
-        if (!incident.canTransitionTo(newStatus)) {
-            throw new RuntimeException("Invalid status transition from " + incident.getStatus() + " to " + newStatus);
-        }
+        requireTransition(incident, updater, newStatus);
         
+        Contribution before = Contribution.of(incident);
+        Presence beforeLocation = locationIndex.presenceOf(incident);
         IncidentStatus oldStatus = incident.getStatus();
-        incident.updateStatus(newStatus, updater, notes);
+        incident.applyStatus(newStatus, updater, notes);
         incident.setUpdatedAt(LocalDateTime.now());
+        slaEngine.applyStatusChange(incident, oldStatus, newStatus, incident.getUpdatedAt());
 
         // Add resolution log
         incident.addResolutionLog("Status updated",
                 "Status changed from " + oldStatus.getDisplayName() + " to " + newStatus.getDisplayName(), updater);
 
         IncidentReport savedIncident = incidentRepository.save(incident);
+        workloadBalancer.recordChange(before, Contribution.of(savedIncident));
+        duplicateIndex.indexAfterCommit(savedIncident);
+        locationIndex.recordChange(beforeLocation, locationIndex.presenceOf(savedIncident));
+        trendStore.recordAfterCommit(savedIncident, newStatus);
+        slaEngine.recordAfterCommit(savedIncident);
+        recordResolutionTime(savedIncident, newStatus);
+        timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+        journal.appendAfterCommit(JournalEvent.statusChanged(incidentId, oldStatus, newStatus, updater, notes));
+        propagateToChildren(savedIncident, newStatus, updater, notes);
         
         // Send notifications
         sendStatusUpdateNotification(savedIncident, oldStatus, newStatus);
+        event.finish(savedIncident, oldStatus, updater);
         
         return savedIncident;
     }
     
     @Override
     public IncidentReport assignIncident(Long incidentId, Long assigneeId, User assigner) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("assign");
         IncidentReport incident = getIncidentById(incidentId);
         User assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new RuntimeException("Assignee not found"));
@@ -169,6 +298,8 @@ public class IncidentServiceImpl implements IncidentService {
             throw new RuntimeException("Assignee must have maintenance role");
         }
         
+        Contribution before = Contribution.of(incident);
+        IncidentStatus oldStatus = incident.getStatus();
         incident.assignTo(assignee);
         incident.setUpdatedAt(LocalDateTime.now());
         
@@ -177,15 +308,64 @@ public class IncidentServiceImpl implements IncidentService {
                 "Incident assigned to " + assignee.getUsername(), assigner);
         
         IncidentReport savedIncident = incidentRepository.save(incident);
+        workloadBalancer.recordChange(before, Contribution.of(savedIncident));
+        if (savedIncident.getStatus() != oldStatus) {
+            trendStore.recordAfterCommit(savedIncident, savedIncident.getStatus());
+        }
+        timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+        journal.appendAfterCommit(JournalEvent.assigned(savedIncident, oldStatus, assigner));
         
         // Send assignment notification
         sendAssignmentNotification(savedIncident, assignee);
+        event.finish(savedIncident, oldStatus, assigner);
         
         return savedIncident;
     }
     
+    @Override
+    public IncidentReport claimNextIncident(User worker) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("claim");
+        if (!worker.getRole().isMaintenance()) {
+            throw new RuntimeException("Only maintenance staff can claim incidents");
+        }
+        
+        ClaimTicket ticket;
+        while ((ticket = claimQueue.poll()) != null) {
+            claimQueue.restoreOnRollback(ticket);
+            
+            // Stale tickets (claimed, assigned or cancelled meanwhile) update no rows
+            if (incidentRepository.claimIfUnassigned(ticket.getIncidentId(), worker, LocalDateTime.now()) == 0) {
+                continue;
+            }
+            
+            // The claim holds the row lock, so the status read here cannot change under us
+            IncidentReport incident = getIncidentById(ticket.getIncidentId());
+            if (!canReachAssigned(incident)) {
+                incident.setAssignedTo(null);
+                continue;
+            }
+            Contribution before = Contribution.of(incident);
+            IncidentStatus oldStatus = incident.getStatus();
+            moveToAssigned(incident, worker, worker, "Reviewed for claim", "Claimed from the queue");
+            incident.addResolutionLog("Incident claimed",
+                    "Incident claimed by " + worker.getUsername(), worker);
+            
+            IncidentReport savedIncident = incidentRepository.save(incident);
+            workloadBalancer.recordChange(before, Contribution.of(savedIncident));
+            timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+            journal.appendAfterCommit(JournalEvent.assigned(savedIncident, oldStatus, worker));
+            
+            sendAssignmentNotification(savedIncident, worker);
+            event.finish(savedIncident, oldStatus, worker);
+            
+            return savedIncident;
+        }
+        return null;
+    }
+    
     @Override
     public IncidentReport startWork(Long incidentId, User worker) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("startWork");
         IncidentReport incident = getIncidentById(incidentId);
         
         if (!incident.getAssignedTo().equals(worker)) {
@@ -196,17 +376,25 @@ public class IncidentServiceImpl implements IncidentService {
             throw new RuntimeException("Incident must be in ASSIGNED status to start work");
         }
         
-        incident.updateStatus(IncidentStatus.IN_PROGRESS, worker, "Work started");
+        requireTransition(incident, worker, IncidentStatus.IN_PROGRESS);
+        incident.applyStatus(IncidentStatus.IN_PROGRESS, worker, "Work started");
         incident.setUpdatedAt(LocalDateTime.now());
         
         // Add work start log
         incident.addResolutionLog("Work started", "Maintenance work has begun", worker);
         
-        return incidentRepository.save(incident);
+        IncidentReport savedIncident = incidentRepository.save(incident);
+        trendStore.recordAfterCommit(savedIncident, IncidentStatus.IN_PROGRESS);
+        timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+        journal.appendAfterCommit(JournalEvent.statusChanged(incidentId, IncidentStatus.ASSIGNED,
+                IncidentStatus.IN_PROGRESS, worker, "Work started"));
+        event.finish(savedIncident, IncidentStatus.ASSIGNED, worker);
+        return savedIncident;
     }
     
     @Override
     public IncidentReport pauseWork(Long incidentId, User worker, String reason) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("pauseWork");
         IncidentReport incident = getIncidentById(incidentId);
         
         if (!incident.getAssignedTo().equals(worker)) {
@@ -217,17 +405,29 @@ public class IncidentServiceImpl implements IncidentService {
             throw new RuntimeException("Incident must be in IN_PROGRESS status to pause work");
         }
         
-        incident.updateStatus(IncidentStatus.ON_HOLD, worker, reason);
+        Contribution before = Contribution.of(incident);
+        requireTransition(incident, worker, IncidentStatus.ON_HOLD);
+        incident.applyStatus(IncidentStatus.ON_HOLD, worker, reason);
         incident.setUpdatedAt(LocalDateTime.now());
+        slaEngine.applyStatusChange(incident, IncidentStatus.IN_PROGRESS, IncidentStatus.ON_HOLD, incident.getUpdatedAt());
         
         // Add pause log
         incident.addResolutionLog("Work paused", "Work put on hold: " + reason, worker);
         
-        return incidentRepository.save(incident);
+        IncidentReport savedIncident = incidentRepository.save(incident);
+        workloadBalancer.recordChange(before, Contribution.of(savedIncident));
+        trendStore.recordAfterCommit(savedIncident, IncidentStatus.ON_HOLD);
+        slaEngine.recordAfterCommit(savedIncident);
+        timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+        journal.appendAfterCommit(JournalEvent.statusChanged(incidentId, IncidentStatus.IN_PROGRESS,
+                IncidentStatus.ON_HOLD, worker, reason));
+        event.finish(savedIncident, IncidentStatus.IN_PROGRESS, worker);
+        return savedIncident;
     }
     
     @Override
     public IncidentReport completeWork(Long incidentId, User worker, String resolutionNotes) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("completeWork");
         IncidentReport incident = getIncidentById(incidentId);
         
         if (!incident.getAssignedTo().equals(worker)) {
@@ -238,18 +438,33 @@ public class IncidentServiceImpl implements IncidentService {
             throw new RuntimeException("Incident must be in IN_PROGRESS status to complete work");
         }
         
-        incident.updateStatus(IncidentStatus.RESOLVED, worker, resolutionNotes);
+        Contribution before = Contribution.of(incident);
+        Presence beforeLocation = locationIndex.presenceOf(incident);
+        requireTransition(incident, worker, IncidentStatus.RESOLVED);
+        incident.applyStatus(IncidentStatus.RESOLVED, worker, resolutionNotes);
         incident.setActualResolutionDate(LocalDateTime.now());
         incident.setUpdatedAt(LocalDateTime.now());
         
         // Add completion log
         incident.addResolutionLog("Work completed", "Issue resolved: " + resolutionNotes, worker);
         
-        return incidentRepository.save(incident);
+        IncidentReport savedIncident = incidentRepository.save(incident);
+        workloadBalancer.recordChange(before, Contribution.of(savedIncident));
+        duplicateIndex.indexAfterCommit(savedIncident);
+        locationIndex.recordChange(beforeLocation, locationIndex.presenceOf(savedIncident));
+        trendStore.recordAfterCommit(savedIncident, IncidentStatus.RESOLVED);
+        slaEngine.recordAfterCommit(savedIncident);
+        recordResolutionTime(savedIncident, IncidentStatus.RESOLVED);
+        timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+        journal.appendAfterCommit(JournalEvent.statusChanged(incidentId, IncidentStatus.IN_PROGRESS,
+                IncidentStatus.RESOLVED, worker, resolutionNotes));
+        event.finish(savedIncident, IncidentStatus.IN_PROGRESS, worker);
+        return savedIncident;
     }
     
     @Override
     public IncidentReport closeIncident(Long incidentId, User closer, String closureNotes) {
+        IncidentLifecycleEvent event = IncidentLifecycleEvent.begin("close");
         IncidentReport incident = getIncidentById(incidentId);
         
         if (!canUserUpdateIncident(incident, closer)) {
@@ -260,20 +475,90 @@ public class IncidentServiceImpl implements IncidentService {
             throw new RuntimeException("Incident must be in RESOLVED status to close");
         }
         
-        incident.updateStatus(IncidentStatus.CLOSED, closer, closureNotes);
+        requireTransition(incident, closer, IncidentStatus.CLOSED);
+        incident.applyStatus(IncidentStatus.CLOSED, closer, closureNotes);
         incident.setUpdatedAt(LocalDateTime.now());
         
         // Add closure log
         incident.addResolutionLog("Incident closed", "Incident officially closed: " + closureNotes, closer);
         
+        IncidentReport savedIncident = incidentRepository.save(incident);
+        duplicateIndex.indexAfterCommit(savedIncident);
+        trendStore.recordAfterCommit(savedIncident, IncidentStatus.CLOSED);
+        recordResolutionTime(savedIncident, IncidentStatus.CLOSED);
+        timeInStatus.recordAfterCommit(savedIncident.takeTransitions());
+        journal.appendAfterCommit(JournalEvent.statusChanged(incidentId, IncidentStatus.RESOLVED,
+                IncidentStatus.CLOSED, closer, closureNotes));
+        propagateToChildren(savedIncident, IncidentStatus.CLOSED, closer, closureNotes);
+        event.finish(savedIncident, IncidentStatus.RESOLVED, closer);
+        return savedIncident;
+    }
+    
+    @Override
+    public IncidentReport setParentIncident(Long incidentId, Long parentId, User user) {
+        IncidentReport incident = getIncidentById(incidentId);
+        
+        if (!canUserUpdateIncident(incident, user)) {
+            throw new RuntimeException("User not authorized to update this incident");
+        }
+        
+        if (parentId == null) {
+            incident.setParent(null);
+            incident.addResolutionLog("Incident ungrouped", "Removed from its parent incident", user);
+            return incidentRepository.save(incident);
+        }
+        
+        // Groups are one level deep: a parent is never a child, and a child never has children
+        if (parentId.equals(incidentId)) {
+            throw new RuntimeException("Incident cannot be its own parent");
+        }
+        if (incidentRepository.existsByParentId(incidentId)) {
+            throw new RuntimeException("Incident " + incidentId + " already has child incidents");
+        }
+        IncidentReport parent = getIncidentById(parentId);
+        if (parent.getParent() != null) {
+            throw new RuntimeException("Incident " + parentId + " is itself a child incident");
+        }
+        
+        incident.setParent(parent);
+        incident.addResolutionLog("Incident grouped", "Linked to parent incident #" + parentId, user);
         return incidentRepository.save(incident);
     }
     
+    @Override
+    @Transactional(readOnly = true)
+    public IncidentGroupSummary getIncidentGroup(Long parentId) {
+        IncidentGroupSummary group = incidentRepository.findGroupSummary(parentId);
+        if (group == null) {
+            throw new RuntimeException("Incident not found with id: " + parentId);
+        }
+        return group;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<IncidentGroupSummary> getIncidentGroups(Pageable pageable) {
+        return incidentRepository.findGroupSummaries(pageable);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public TimelinePage getIncidentTimeline(Long incidentId, TimelineCursor after, int limit) {
+        // One extra row tells whether another page exists
+        List<TimelineEntry> entries = incidentRepository.findTimeline(incidentId, after, limit + 1);
+        if (entries.size() <= limit) {
+            return new TimelinePage(entries, null);
+        }
+        List<TimelineEntry> page = entries.subList(0, limit);
+        return new TimelinePage(new ArrayList<>(page), TimelineCursor.after(page.get(limit - 1)).encode());
+    }
+    
     @Override
     public void addResolutionLog(Long incidentId, String action, String notes, User performer) {
         IncidentReport incident = getIncidentById(incidentId);
         incident.addResolutionLog(action, notes, performer);
         incidentRepository.save(incident);
+        journal.appendAfterCommit(JournalEvent.logAdded(incidentId, action, performer));
     }
     
     @Override
@@ -286,6 +571,7 @@ public class IncidentServiceImpl implements IncidentService {
         
         incident.getResolutionLogs().add(timeLog);
         incidentRepository.save(incident);
+        journal.appendAfterCommit(JournalEvent.logAdded(incidentId, timeLog.getAction(), performer));
     }
     
     @Override
@@ -298,6 +584,7 @@ public class IncidentServiceImpl implements IncidentService {
         
         incident.getResolutionLogs().add(costLog);
         incidentRepository.save(incident);
+        journal.appendAfterCommit(JournalEvent.logAdded(incidentId, costLog.getAction(), performer));
     }
     
     @Override
@@ -310,35 +597,105 @@ public class IncidentServiceImpl implements IncidentService {
         
         incident.getResolutionLogs().add(materialLog);
         incidentRepository.save(incident);
+        journal.appendAfterCommit(JournalEvent.logAdded(incidentId, materialLog.getAction(), performer));
     }
     
     @Override
-    public Page<IncidentReport> getIncidentsWithFilters(Pageable pageable, IncidentStatus status, Long categoryId, 
-                                                       Long reporterId, Long assignedToId, Integer priorityLevel, 
-                                                       Boolean isUrgent, String search, User currentUser) {
+    @Transactional(readOnly = true)
+    public Page<IncidentSummary> getIncidentsWithFilters(Pageable pageable, IncidentStatus status, Long categoryId, 
+                                                        Long reporterId, Long assignedToId, Integer priorityLevel, 
+                                                        Boolean isUrgent, String search, boolean includeArchived,
+                                                        User currentUser) {
         
         // Apply role-based filtering
         if (currentUser.getRole() == UserRole.REPORTER) {
             // Reporters can only see their own incidents
-            return incidentRepository.findByReporter(currentUser, pageable);
+            if (includeArchived) {
+                return incidentRepository.findSummariesIncludingArchived(currentUser.getId(), null, pageable);
+            }
+            if (readModel.isServing()) {
+                return viewRepository.findSummariesByReporterId(currentUser.getId(), pageable);
+            }
+            return incidentRepository.findSummariesByReporterId(currentUser.getId(), pageable);
         } else if (currentUser.getRole() == UserRole.MAINTENANCE) {
             // Maintenance can see assigned incidents and available ones
+            List<IncidentStatus> assignable = Arrays.asList(IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW);
             if (assignedToId != null && assignedToId.equals(currentUser.getId())) {
-                return incidentRepository.findByAssignedTo(currentUser, pageable);
+                return readModel.isServing()
+                        ? viewRepository.findSummariesByAssignedToId(currentUser.getId(), pageable)
+                        : incidentRepository.findSummariesByAssignedToId(currentUser.getId(), pageable);
             } else {
                 // Show incidents that can be assigned to this user
-                return incidentRepository.findByStatusInAndAssignedToIsNull(
-                    Arrays.asList(IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW), pageable);
+                return readModel.isServing()
+                        ? viewRepository.findUnassignedSummariesByStatusIn(assignable, pageable)
+                        : incidentRepository.findUnassignedSummariesByStatusIn(assignable, pageable);
             }
         } else {
             // Admin can see all incidents with full filtering
-            return incidentRepository.findAll(pageable);
+            if (includeArchived) {
+                return incidentRepository.findSummariesIncludingArchived(null, null, pageable);
+            }
+            if (readModel.isServing()) {
+                return viewRepository.findAllSummaries(pageable);
+            }
+            return incidentRepository.findAllSummaries(pageable);
+        }
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<IncidentSummary> searchIncidents(String searchTerm, boolean includeArchived, Pageable pageable) {
+        if (includeArchived) {
+            return incidentRepository.findSummariesIncludingArchived(null, searchTerm, pageable);
+        }
+        if (readModel.isServing()) {
+            return viewRepository.searchSummaries(searchTerm, pageable);
+        }
+        return incidentRepository.searchSummaries(searchTerm, pageable);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Object> getIncidentFields(Long id, Set<IncidentField> fields, User currentUser) {
+        Specification<IncidentReport> spec = IncidentSpecifications.hasId(id)
+                .and(IncidentSpecifications.viewableBy(currentUser));
+        List<Map<String, Object>> rows = incidentRepository.findProjected(fields, spec, Pageable.ofSize(1)).getContent();
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+        
+        // Distinguish a missing incident from one the user may not see
+        if (!incidentRepository.existsById(id)) {
+            throw new RuntimeException("Incident not found with id: " + id);
+        }
+        return null;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getIncidentFieldsWithFilters(Pageable pageable, Set<IncidentField> fields,
+                                                                  Long assignedToId, User currentUser) {
+        // Same role-based visibility as getIncidentsWithFilters
+        Specification<IncidentReport> spec;
+        if (currentUser.getRole() == UserRole.REPORTER) {
+            spec = IncidentSpecifications.reportedBy(currentUser.getId());
+        } else if (currentUser.getRole() == UserRole.MAINTENANCE) {
+            if (assignedToId != null && assignedToId.equals(currentUser.getId())) {
+                spec = IncidentSpecifications.assignedTo(currentUser.getId());
+            } else {
+                spec = IncidentSpecifications.unassignedWithStatusIn(
+                    Arrays.asList(IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW));
+            }
+        } else {
+            spec = null;
         }
+        return incidentRepository.findProjected(fields, spec, pageable);
     }
     
     @Override
-    public Page<IncidentReport> searchIncidents(String searchTerm, Pageable pageable) {
-        return incidentRepository.searchIncidents(searchTerm, pageable);
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> searchIncidentFields(String searchTerm, Set<IncidentField> fields, Pageable pageable) {
+        return incidentRepository.findProjected(fields, IncidentSpecifications.matchesSearch(searchTerm), pageable);
     }
     
     @Override
@@ -347,52 +704,102 @@ public class IncidentServiceImpl implements IncidentService {
     }
     
     @Override
-    public List<IncidentReport> getIncidentsByStatus(IncidentStatus status) {
-        return incidentRepository.findByStatus(status);
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getIncidentsByStatus(IncidentStatus status) {
+        if (readModel.isServing()) {
+            return viewRepository.findSummariesByStatus(status);
+        }
+        return incidentRepository.findSummariesByStatus(status);
     }
     
     @Override
-    public List<IncidentReport> getIncidentsByCategory(Long categoryId) {
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getIncidentsByCategory(Long categoryId) {
         if (categoryId == null) {
             return new ArrayList<>();
         }
-        return incidentRepository.findByCategoryId(categoryId);
+        if (readModel.isServing()) {
+            return viewRepository.findSummariesByCategoryId(categoryId);
+        }
+        return incidentRepository.findSummariesByCategoryId(categoryId);
     }
     
     @Override
-    public List<IncidentReport> getIncidentsByReporter(Long reporterId) {
-        User reporter = userRepository.findById(reporterId)
-                .orElseThrow(() -> new RuntimeException("Reporter not found"));
-        return incidentRepository.findByReporter(reporter);
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getIncidentsByReporter(Long reporterId) {
+        if (!userRepository.existsById(reporterId)) {
+            throw new RuntimeException("Reporter not found");
+        }
+        if (readModel.isServing()) {
+            return viewRepository.findSummariesByReporterId(reporterId);
+        }
+        return incidentRepository.findSummariesByReporterId(reporterId);
     }
     
     @Override
-    public List<IncidentReport> getIncidentsByAssignee(Long assigneeId) {
-        User assignee = userRepository.findById(assigneeId)
-                .orElseThrow(() -> new RuntimeException("Assignee not found"));
-        return incidentRepository.findByAssignedTo(assignee);
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getIncidentsByAssignee(Long assigneeId) {
+        if (!userRepository.existsById(assigneeId)) {
+            throw new RuntimeException("Assignee not found");
+        }
+        if (readModel.isServing()) {
+            return viewRepository.findSummariesByAssignedToId(assigneeId);
+        }
+        return incidentRepository.findSummariesByAssignedToId(assigneeId);
     }
     
     @Override
-    public List<IncidentReport> getIncidentsByPriority(Integer minPriority) {
-        return incidentRepository.findByPriorityLevelGreaterThanEqualAndStatusIn(minPriority, 
-                Arrays.asList(IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW, IncidentStatus.ASSIGNED, IncidentStatus.IN_PROGRESS));
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getIncidentsByPriority(Integer minPriority) {
+        List<IncidentStatus> open = Arrays.asList(IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW,
+                IncidentStatus.ASSIGNED, IncidentStatus.IN_PROGRESS);
+        if (readModel.isServing()) {
+            return viewRepository.findSummariesByMinPriorityAndStatusIn(minPriority, open);
+        }
+        return incidentRepository.findSummariesByMinPriorityAndStatusIn(minPriority, open);
     }
     
     @Override
-    public List<IncidentReport> getUrgentIncidents() {
-        return incidentRepository.findByIsUrgent(true);
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getUrgentIncidents() {
+        if (readModel.isServing()) {
+            return viewRepository.findUrgentSummaries();
+        }
+        return incidentRepository.findUrgentSummaries();
     }
     
     @Override
-    public List<IncidentReport> getOverdueIncidents() {
-        return incidentRepository.findOverdueIncidents(LocalDateTime.now());
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getOverdueIncidents() {
+        if (readModel.isServing()) {
+            return viewRepository.findOverdueSummaries();
+        }
+        return incidentRepository.findOverdueSummaries(LocalDateTime.now());
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Object> getDashboardStatistics() {
         Map<String, Object> stats = new HashMap<>();
         
+        if (readModel.isServing()) {
+            // One grouped query over the view instead of a count per status
+            Map<IncidentStatus, Long> byStatus = new EnumMap<>(IncidentStatus.class);
+            for (Object[] row : viewRepository.countByStatus()) {
+                byStatus.put((IncidentStatus) row[0], (Long) row[1]);
+            }
+            stats.put("totalIncidents", byStatus.values().stream().mapToLong(Long::longValue).sum());
+            stats.put("activeIncidents", byStatus.getOrDefault(IncidentStatus.REPORTED, 0L) +
+                                        byStatus.getOrDefault(IncidentStatus.UNDER_REVIEW, 0L) +
+                                        byStatus.getOrDefault(IncidentStatus.ASSIGNED, 0L) +
+                                        byStatus.getOrDefault(IncidentStatus.IN_PROGRESS, 0L));
+            stats.put("resolvedIncidents", byStatus.getOrDefault(IncidentStatus.RESOLVED, 0L));
+            stats.put("closedIncidents", byStatus.getOrDefault(IncidentStatus.CLOSED, 0L));
+            stats.put("overdueIncidents", viewRepository.countOverdue());
+            stats.put("urgentIncidents", viewRepository.countUrgent());
+            return stats;
+        }
+        
         stats.put("totalIncidents", incidentRepository.count());
         stats.put("activeIncidents", incidentRepository.countByStatus(IncidentStatus.REPORTED) + 
                                     incidentRepository.countByStatus(IncidentStatus.UNDER_REVIEW) +
@@ -400,15 +807,17 @@ public class IncidentServiceImpl implements IncidentService {
                                     incidentRepository.countByStatus(IncidentStatus.IN_PROGRESS));
         stats.put("resolvedIncidents", incidentRepository.countByStatus(IncidentStatus.RESOLVED));
         stats.put("closedIncidents", incidentRepository.countByStatus(IncidentStatus.CLOSED));
-        stats.put("overdueIncidents", getOverdueIncidents().size());
-        stats.put("urgentIncidents", getUrgentIncidents().size());
+        stats.put("overdueIncidents", incidentRepository.countOverdue(LocalDateTime.now()));
+        stats.put("urgentIncidents", incidentRepository.countUrgent());
         
         return stats;
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Long> getIncidentCountByStatus() {
-        List<Object[]> results = incidentRepository.getIncidentCountByStatus();
+        List<Object[]> results = readModel.isServing()
+                ? viewRepository.countByStatus() : incidentRepository.getIncidentCountByStatus();
         return results.stream()
                 .collect(Collectors.toMap(
                         row -> ((IncidentStatus) row[0]).getDisplayName(),
@@ -417,8 +826,10 @@ public class IncidentServiceImpl implements IncidentService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Long> getIncidentCountByCategory() {
-        List<Object[]> results = incidentRepository.getIncidentCountByCategory();
+        List<Object[]> results = readModel.isServing()
+                ? viewRepository.countByCategory() : incidentRepository.getIncidentCountByCategory();
         return results.stream()
                 .collect(Collectors.toMap(
                         row -> (String) row[0],
@@ -427,8 +838,10 @@ public class IncidentServiceImpl implements IncidentService {
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Map<String, Long> getIncidentCountByPriority() {
-        List<Object[]> results = incidentRepository.getIncidentCountByPriority();
+        List<Object[]> results = readModel.isServing()
+                ? viewRepository.countByPriority() : incidentRepository.getIncidentCountByPriority();
         return results.stream()
                 .collect(Collectors.toMap(
                         row -> "Priority " + row[0],
@@ -437,23 +850,40 @@ public class IncidentServiceImpl implements IncidentService {
     }
     
     @Override
-    public List<IncidentReport> getRecentIncidents(int limit) {
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getRecentIncidents(int limit) {
         Pageable pageable = Pageable.ofSize(limit);
-        return incidentRepository.findRecentIncidents(pageable).getContent();
+        if (readModel.isServing()) {
+            return viewRepository.findRecentSummaries(pageable).getContent();
+        }
+        return incidentRepository.findRecentSummaries(pageable).getContent();
     }
     
     @Override
-    public List<IncidentReport> getPendingIncidents() {
-        return incidentRepository.findPendingIncidents();
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getPendingIncidents() {
+        if (readModel.isServing()) {
+            return viewRepository.findPendingSummaries();
+        }
+        return incidentRepository.findPendingSummaries();
     }
     
     @Override
-    public List<IncidentReport> getActiveIncidents() {
-        return incidentRepository.findActiveIncidents();
+    @Transactional(readOnly = true)
+    public List<IncidentSummary> getActiveIncidents() {
+        if (readModel.isServing()) {
+            return viewRepository.findActiveSummaries();
+        }
+        return incidentRepository.findActiveSummaries();
     }
     
     @Override
     public boolean canUserViewIncident(IncidentReport incident, User user) {
+        PermissionCheckEvent event = PermissionCheckEvent.begin("view");
+        return event.finish(incident, user, isViewAllowed(incident, user));
+    }
+    
+    private static boolean isViewAllowed(IncidentReport incident, User user) {
         // Admins can view all incidents
         if (user.getRole().isAdmin()) {
             return true;
@@ -471,6 +901,11 @@ public class IncidentServiceImpl implements IncidentService {
     
     @Override
     public boolean canUserUpdateIncident(IncidentReport incident, User user) {
+        PermissionCheckEvent event = PermissionCheckEvent.begin("update");
+        return event.finish(incident, user, isUpdateAllowed(incident, user));
+    }
+    
+    private static boolean isUpdateAllowed(IncidentReport incident, User user) {
         // Admins can update all incidents
         if (user.getRole().isAdmin()) {
             return true;
@@ -488,21 +923,168 @@ public class IncidentServiceImpl implements IncidentService {
     
     @Override
     public boolean canUserDeleteIncident(IncidentReport incident, User user) {
+        PermissionCheckEvent event = PermissionCheckEvent.begin("delete");
+        return event.finish(incident, user, isDeleteAllowed(incident, user));
+    }
+    
+    private static boolean isDeleteAllowed(IncidentReport incident, User user) {
         // Only admins can delete incidents
         return user.getRole().isAdmin();
     }
     
     @Override
     public List<IncidentStatus> getAvailableStatusTransitions(IncidentReport incident, User user) {
-        List<IncidentStatus> availableTransitions = new ArrayList<>();
+        return workflowEngine.getAvailableTransitions(incident, user.getRole());
+    }
+    
+    // Moves the open children of a parent incident to its new status with one
+    // INSERT ... SELECT for the StatusUpdate rows and one UPDATE, never loading the children.
+    // Only children whose status the parent's workflow lets the updater move to newStatus
+    // follow; the rest (e.g. a child already RESOLVED when the parent goes back to ASSIGNED,
+    // or an ON_HOLD child when the parent is RESOLVED) keep their status.
+    private void propagateToChildren(IncidentReport parent, IncidentStatus newStatus, User updater, String notes) {
+        Set<IncidentStatus> allowedFrom = workflowEngine.getSourceStatuses(parent, updater.getRole(), newStatus);
+        if (allowedFrom.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> moving = incidentRepository.countOpenChildrenByCategoryAndPriority(parent.getId(), allowedFrom);
+        if (moving.isEmpty()) {
+            return;
+        }
+        List<Object[]> children = journal.isEnabled() || !newStatus.isActive()
+                ? incidentRepository.findOpenChildStatuses(parent.getId(), allowedFrom) : List.of();
+        slaEngine.propagateToChildren(parent.getId(), newStatus, allowedFrom, now);
+        ResolutionMetric metric = resolutionMetricOf(newStatus);
+        List<Object[]> finishing = metric != null
+                ? incidentRepository.findOpenChildResolutionSamples(parent.getId(), allowedFrom) : List.of();
+        List<Object[]> leaving = incidentRepository.sumOpenChildTimeInStatus(parent.getId(), allowedFrom, now);
+        int propagated = incidentRepository.insertChildStatusUpdates(parent.getId(), newStatus, allowedFrom, updater,
+                notes, "Propagated from parent incident #" + parent.getId(), now);
+        if (propagated == 0) {
+            return;
+        }
+        if (newStatus.isResolved()) {
+            incidentRepository.moveChildrenToResolvedStatus(parent.getId(), newStatus, allowedFrom, now, now);
+        } else {
+            incidentRepository.moveChildrenToStatus(parent.getId(), newStatus, allowedFrom, now);
+        }
         
-        for (IncidentStatus status : IncidentStatus.values()) {
-            if (incident.canTransitionTo(status)) {
-                availableTransitions.add(status);
+        // The in-memory views were bypassed by the set-based update
+        workloadBalancer.rebuildAfterCommit();
+        locationIndex.rebuildAfterCommit();
+        for (Object[] row : moving) {
+            trendStore.recordAfterCommit((Long) row[0], (Integer) row[1], newStatus, ((Number) row[2]).longValue());
+        }
+        for (Object[] row : leaving) {
+            timeInStatus.recordAfterCommit((IncidentStatus) row[0], ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue(), ((Number) row[3]).longValue());
+        }
+        for (Object[] child : finishing) {
+            resolutionTimes.recordAfterCommit(metric, (Long) child[0], (Long) child[1], (LocalDateTime) child[2], now);
+        }
+        for (Object[] child : children) {
+            if (journal.isEnabled()) {
+                journal.appendAfterCommit(JournalEvent.statusChanged((Long) child[0], (IncidentStatus) child[1],
+                        newStatus, updater, "Propagated from parent incident #" + parent.getId()));
+            }
+            if (!newStatus.isActive()) {
+                duplicateIndex.removeAfterCommit((Long) child[0]);
             }
         }
+    }
+    
+    // Feeds the resolution-time sketches when an incident reaches RESOLVED or CLOSED
+    private void recordResolutionTime(IncidentReport incident, IncidentStatus status) {
+        ResolutionMetric metric = resolutionMetricOf(status);
+        if (metric != null) {
+            resolutionTimes.recordAfterCommit(incident, metric, status == IncidentStatus.RESOLVED
+                    ? incident.getActualResolutionDate() : incident.getUpdatedAt());
+        }
+    }
+    
+    private static ResolutionMetric resolutionMetricOf(IncidentStatus status) {
+        return switch (status) {
+            case RESOLVED -> ResolutionMetric.TIME_TO_RESOLVE;
+            case CLOSED -> ResolutionMetric.TIME_TO_CLOSE;
+            default -> null;
+        };
+    }
+    
+    // Attaches likely duplicates to the response and optionally groups the incident under the best match
+    private void flagDuplicates(IncidentReport incident) {
+        List<DuplicateMatch> matches = duplicateIndex.findDuplicates(incident.getTitle(), incident.getDescription(),
+                incident.getLocationDetails(), duplicateProperties.getThreshold(), duplicateProperties.getMaxResults());
+        if (matches.isEmpty()) {
+            return;
+        }
+        incident.setPossibleDuplicates(matches);
+        
+        DuplicateMatch best = matches.get(0);
+        if (duplicateProperties.isAutoLink() && best.getSimilarity() >= duplicateProperties.getAutoLinkThreshold()) {
+            // Group under the match's parent when the match is itself a child
+            Long parentId = incidentRepository.findParentIdById(best.getIncidentId());
+            Long groupId = parentId != null ? parentId : best.getIncidentId();
+            incident.setParent(incidentRepository.getReferenceById(groupId));
+            incident.addResolutionLog("Possible duplicate",
+                    String.format("Grouped under incident #%d as a likely duplicate of #%d (similarity %.2f)",
+                            groupId, best.getIncidentId(), best.getSimilarity()),
+                    incident.getReporter());
+        }
+    }
+    
+    // Assigns a new incident to the least-loaded maintenance user whose skills match its category.
+    // The move follows the workflow (through UNDER_REVIEW when REPORTED cannot go straight to
+    // ASSIGNED) checked with the system's ADMIN role, and is recorded as made by the reporter;
+    // when the workflow has no such path the incident is left for the claim queue.
+    private void autoAssign(IncidentReport incident) {
+        if (!canReachAssigned(incident)) {
+            return;
+        }
+        
+        String categoryName = incident.getCategory() != null ? incident.getCategory().getName() : null;
+        WorkloadBalancer.Worker worker = workloadBalancer.assignLeastLoaded(categoryName,
+                incident.getPriorityLevel() != null ? incident.getPriorityLevel() : 1);
+        if (worker == null) {
+            return;
+        }
         
-        return availableTransitions;
+        // Proxy reference: attaching the assignee issues no SELECT
+        User assignee = userRepository.getReferenceById(worker.getUserId());
+        User reporter = incident.getReporter();
+        moveToAssigned(incident, assignee, reporter, "Reviewed for auto-assignment", "Auto-assigned by workload");
+        incident.addResolutionLog("Incident assigned",
+                "Incident auto-assigned to " + worker.getUsername(), reporter);
+        
+        sendAssignmentNotification(incident, assignee);
+    }
+    
+    // Whether the workflow lets a system assignment reach ASSIGNED, directly or through UNDER_REVIEW
+    private boolean canReachAssigned(IncidentReport incident) {
+        return workflowEngine.canTransition(incident, UserRole.ADMIN, IncidentStatus.ASSIGNED)
+                || (workflowEngine.canTransition(incident, UserRole.ADMIN, IncidentStatus.UNDER_REVIEW)
+                        && workflowEngine.canTransition(incident, UserRole.ADMIN,
+                                IncidentStatus.UNDER_REVIEW, IncidentStatus.ASSIGNED));
+    }
+    
+    // Caller checks canReachAssigned first. Not assignTo(), which moves only out of UNDER_REVIEW by the
+    // entity's own table and records the assignee as the updater
+    private void moveToAssigned(IncidentReport incident, User assignee, User updatedBy,
+                                String reviewNotes, String notes) {
+        if (!workflowEngine.canTransition(incident, UserRole.ADMIN, IncidentStatus.ASSIGNED)) {
+            incident.applyStatus(IncidentStatus.UNDER_REVIEW, updatedBy, reviewNotes);
+            trendStore.recordAfterCommit(incident, IncidentStatus.UNDER_REVIEW);
+        }
+        incident.setAssignedTo(assignee);
+        incident.applyStatus(IncidentStatus.ASSIGNED, updatedBy, notes);
+        trendStore.recordAfterCommit(incident, IncidentStatus.ASSIGNED);
+    }
+    
+    // Validates a transition against the workflow that applies to this incident and role
+    private void requireTransition(IncidentReport incident, User user, IncidentStatus newStatus) {
+        if (!workflowEngine.canTransition(incident, user.getRole(), newStatus)) {
+            throw new RuntimeException("Invalid status transition from " + incident.getStatus() + " to " + newStatus);
+        }
     }
     
     @Override
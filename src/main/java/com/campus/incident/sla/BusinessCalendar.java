@@ -0,0 +1,115 @@
+package com.campus.incident.sla;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+
+// Working time of an SLA calendar: fixed daily hours on working days, minus
+// holidays, or every hour when always open. Deadlines add working time to a
+// start instant; pauses measure the working time left before a deadline.
+final class BusinessCalendar {
+
+    static final BusinessCalendar ALWAYS_OPEN = new BusinessCalendar(true, LocalTime.MIN, LocalTime.MAX,
+            EnumSet.allOf(DayOfWeek.class), Set.of());
+
+    // Longest span searched for working time (guards calendars with no working days)
+    private static final int MAX_DAYS = 3660;
+
+    private final boolean alwaysOpen;
+    private final LocalTime open;
+    private final LocalTime close;
+    private final Set<DayOfWeek> days;
+    private final Set<LocalDate> holidays;
+
+    private BusinessCalendar(boolean alwaysOpen, LocalTime open, LocalTime close, Set<DayOfWeek> days,
+                             Set<LocalDate> holidays) {
+        this.alwaysOpen = alwaysOpen;
+        this.open = open;
+        this.close = close;
+        this.days = days;
+        this.holidays = holidays;
+    }
+
+    static BusinessCalendar of(SlaProperties.Calendar config) {
+        if (config.isAlwaysOpen()) {
+            return ALWAYS_OPEN;
+        }
+        LocalTime open = LocalTime.parse(config.getOpen());
+        LocalTime close = LocalTime.parse(config.getClose());
+        if (!close.isAfter(open) || config.getDays() == null || config.getDays().isEmpty()) {
+            throw new IllegalStateException("SLA calendar needs working days and close after open");
+        }
+        Set<LocalDate> holidays = new HashSet<>();
+        for (String holiday : config.getHolidays()) {
+            holidays.add(LocalDate.parse(holiday));
+        }
+        return new BusinessCalendar(false, open, close, EnumSet.copyOf(config.getDays()), holidays);
+    }
+
+    // The instant at which the given amount of working time after start has elapsed
+    LocalDateTime plus(LocalDateTime start, Duration work) {
+        if (alwaysOpen) {
+            return start.plus(work);
+        }
+        long remaining = work.getSeconds();
+        LocalDateTime at = start;
+        for (int i = 0; i < MAX_DAYS; i++) {
+            LocalDate day = at.toLocalDate();
+            if (isWorkingDay(day)) {
+                LocalDateTime dayOpen = day.atTime(open);
+                LocalDateTime dayClose = day.atTime(close);
+                if (at.isBefore(dayOpen)) {
+                    at = dayOpen;
+                }
+                if (at.isBefore(dayClose)) {
+                    long available = Duration.between(at, dayClose).getSeconds();
+                    if (remaining <= available) {
+                        return at.plusSeconds(remaining);
+                    }
+                    remaining -= available;
+                }
+            }
+            at = day.plusDays(1).atStartOfDay();
+        }
+        throw new IllegalStateException("SLA calendar has no working time within " + MAX_DAYS + " days");
+    }
+
+    // Working time in [from, to); zero when to is not after from
+    Duration between(LocalDateTime from, LocalDateTime to) {
+        if (!to.isAfter(from)) {
+            return Duration.ZERO;
+        }
+        if (alwaysOpen) {
+            return Duration.between(from, to);
+        }
+        long seconds = 0;
+        for (LocalDate day = from.toLocalDate(); !day.isAfter(to.toLocalDate()); day = day.plusDays(1)) {
+            if (!isWorkingDay(day)) {
+                continue;
+            }
+            LocalDateTime start = max(from, day.atTime(open));
+            LocalDateTime end = min(to, day.atTime(close));
+            if (end.isAfter(start)) {
+                seconds += Duration.between(start, end).getSeconds();
+            }
+        }
+        return Duration.ofSeconds(seconds);
+    }
+
+    private boolean isWorkingDay(LocalDate day) {
+        return days.contains(day.getDayOfWeek()) && !holidays.contains(day);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
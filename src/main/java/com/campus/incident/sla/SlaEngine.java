@@ -0,0 +1,288 @@
+package com.campus.incident.sla;
+
+import com.campus.incident.entity.IncidentCategory;
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.repository.IncidentCategoryRepository;
+import com.campus.incident.repository.IncidentReportRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Service-level agreement clocks. A deadline is computed when an incident is
+// created (category estimate x priority / urgency factors, counted in working
+// time of the incident's calendar), stopped while the incident is ON_HOLD and
+// pushed out by the remaining working time when it resumes. Per-category
+// breach counters and time-to-breach buckets are built once and then kept
+// current by the service layer, so the SLA dashboard never reads incidents.
+@Component
+public class SlaEngine {
+
+    static final String ALWAYS = "always";
+    static final String BUSINESS_HOURS = "business-hours";
+
+    private static final int DEFAULT_ESTIMATE_HOURS = 24;
+
+    @Autowired
+    private SlaProperties properties;
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    @Autowired
+    private IncidentCategoryRepository categoryRepository;
+
+    private final Map<String, BusinessCalendar> calendars = new HashMap<>();
+    private SlaTracker tracker;
+    private String[] bucketLabels;
+
+    @PostConstruct
+    void init() {
+        calendars.put(ALWAYS, BusinessCalendar.ALWAYS_OPEN);
+        calendars.put(BUSINESS_HOURS, BusinessCalendar.of(new SlaProperties.Calendar()));
+        properties.getCalendars().forEach((name, config) -> calendars.put(name, BusinessCalendar.of(config)));
+        calendar(properties.getDefaultCalendar());
+        calendar(properties.getUrgentCalendar());
+        properties.getCategoryCalendars().values().forEach(this::calendar);
+
+        List<Integer> hours = properties.getBucketHours();
+        long[] bounds = new long[hours.size()];
+        bucketLabels = new String[hours.size() + 2];
+        bucketLabels[SlaTracker.BREACHED] = "breached";
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = hours.get(i) * 3600L;
+            if (i > 0 && bounds[i] <= bounds[i - 1]) {
+                throw new IllegalStateException("incident.sla.bucket-hours must be ascending");
+            }
+            bucketLabels[i + 1] = "<=" + hours.get(i) + "h";
+        }
+        bucketLabels[bounds.length + 1] = bounds.length > 0 ? ">" + hours.get(bounds.length - 1) + "h" : "open";
+        tracker = new SlaTracker(bounds);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    // Sets the deadline of a new incident unless one was supplied
+    public void startClock(IncidentReport incident, LocalDateTime now) {
+        if (!isEnabled() || incident.getEstimatedResolutionDate() != null || incident.getCategory() == null) {
+            return;
+        }
+        IncidentCategory category = incident.getCategory();
+        Integer estimate = category.getEstimatedResolutionTimeHours();
+        double hours = (estimate != null ? estimate : DEFAULT_ESTIMATE_HOURS)
+                * properties.getPriorityFactors().getOrDefault(incident.getPriorityLevel(), 1.0)
+                * (incident.isUrgent() ? properties.getUrgentFactor() : 1.0);
+        Duration target = Duration.ofSeconds(Math.max(60, Math.round(hours * 3600)));
+        BusinessCalendar calendar = calendarFor(category.getName(), incident.isUrgent(), incident.getPriorityLevel());
+        incident.setEstimatedResolutionDate(calendar.plus(now, target));
+    }
+
+    // Stops the clock when the incident goes ON_HOLD and restarts it, with the
+    // working time that was left at the pause, when it comes back
+    public void applyStatusChange(IncidentReport incident, IncidentStatus from, IncidentStatus to, LocalDateTime now) {
+        if (!isEnabled() || from == to) {
+            return;
+        }
+        if (to == IncidentStatus.ON_HOLD) {
+            incident.setSlaPausedAt(now);
+        } else if (from == IncidentStatus.ON_HOLD) {
+            String categoryName = incident.getCategory() != null ? incident.getCategory().getName() : null;
+            if (to.isActive()) {
+                incident.setEstimatedResolutionDate(resume(incident.getEstimatedResolutionDate(),
+                        incident.getSlaPausedAt(), now, categoryName, incident.isUrgent(), incident.getPriorityLevel()));
+            }
+            incident.setSlaPausedAt(null);
+        }
+    }
+
+    // The set-based counterpart of applyStatusChange for children moved with their parent;
+    // must run before the children's status is updated
+    public void propagateToChildren(Long parentId, IncidentStatus newStatus, Set<IncidentStatus> allowedFrom,
+                                    LocalDateTime now) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<Object[]> children = incidentRepository.findOpenChildSlaClocks(parentId, allowedFrom);
+        if (newStatus == IncidentStatus.ON_HOLD) {
+            incidentRepository.pauseChildClocks(parentId, allowedFrom, now);
+        }
+        for (Object[] child : children) {
+            Long id = (Long) child[0];
+            LocalDateTime deadline = (LocalDateTime) child[2];
+            if (child[3] == IncidentStatus.ON_HOLD && newStatus != IncidentStatus.ON_HOLD) {
+                if (newStatus.isActive()) {
+                    deadline = resume(deadline, (LocalDateTime) child[4], now, (String) child[5],
+                            (Boolean) child[6], (Integer) child[7]);
+                }
+                incidentRepository.resumeClock(id, deadline);
+            }
+            recordAfterCommit(id, (Long) child[1], deadline, newStatus);
+        }
+    }
+
+    public void recordAfterCommit(IncidentReport incident) {
+        Long categoryId = incident.getCategory() != null ? incident.getCategory().getId() : null;
+        recordAfterCommit(incident.getId(), categoryId, incident.getEstimatedResolutionDate(), incident.getStatus());
+    }
+
+    public void recordAfterCommit(Long id, Long categoryId, LocalDateTime deadline, IncidentStatus status) {
+        if (!isEnabled() || id == null || categoryId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(id, categoryId, deadline, status);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(id, categoryId, deadline, status);
+            }
+        });
+    }
+
+    public void removeAfterCommit(Long id) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            remove(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                remove(id);
+            }
+        });
+    }
+
+    synchronized void record(Long id, Long categoryId, LocalDateTime deadline, IncidentStatus status) {
+        tracker.upsert(id, categoryId, deadline, status, LocalDateTime.now());
+    }
+
+    synchronized void remove(Long id) {
+        tracker.remove(id);
+    }
+
+    // Open clocks plus breach / met totals of already resolved incidents, archived ones included
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        if (!isEnabled()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        tracker.clear();
+        for (Object[] row : incidentRepository.countSlaOutcomesByCategory()) {
+            tracker.seedTotals(((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+                    ((Number) row[2]).longValue());
+        }
+        for (Object[] row : incidentRepository.findOpenSlaClocks()) {
+            tracker.upsert((Long) row[0], (Long) row[1], (LocalDateTime) row[2], (IncidentStatus) row[3], now);
+        }
+    }
+
+    // Moves clocks whose time-to-breach bucket boundary has passed
+    @Scheduled(fixedDelayString = "${incident.sla.advance-interval-ms:60000}")
+    public synchronized void advance() {
+        if (isEnabled()) {
+            tracker.advance(LocalDateTime.now());
+        }
+    }
+
+    public Map<String, Object> getDashboard() {
+        List<Map<String, Object>> categories = new ArrayList<>();
+        long breachedOpen = 0;
+        long breachedTotal = 0;
+        long metTotal = 0;
+        synchronized (this) {
+            tracker.advance(LocalDateTime.now());
+            Map<Long, String> names = new HashMap<>();
+            categoryRepository.findAllById(tracker.counters().keySet())
+                    .forEach(category -> names.put(category.getId(), category.getName()));
+
+            for (Map.Entry<Long, SlaTracker.Counters> entry : tracker.counters().entrySet()) {
+                SlaTracker.Counters counters = entry.getValue();
+                Map<String, Long> buckets = new LinkedHashMap<>();
+                long open = counters.paused;
+                for (int i = 0; i < counters.buckets.length; i++) {
+                    buckets.put(bucketLabels[i], counters.buckets[i]);
+                    open += counters.buckets[i];
+                }
+
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("categoryId", entry.getKey());
+                row.put("categoryName", names.get(entry.getKey()));
+                row.put("open", open);
+                row.put("paused", counters.paused);
+                row.put("timeToBreach", buckets);
+                row.put("breachedTotal", counters.breachedTotal);
+                row.put("metTotal", counters.metTotal);
+                row.put("compliancePercent", compliance(counters.metTotal, counters.breachedTotal));
+                categories.add(row);
+
+                breachedOpen += counters.buckets[SlaTracker.BREACHED];
+                breachedTotal += counters.breachedTotal;
+                metTotal += counters.metTotal;
+            }
+        }
+        categories.sort((a, b) -> Long.compare((Long) a.get("categoryId"), (Long) b.get("categoryId")));
+
+        Map<String, Object> dashboard = new LinkedHashMap<>();
+        dashboard.put("breachedOpen", breachedOpen);
+        dashboard.put("breachedTotal", breachedTotal);
+        dashboard.put("metTotal", metTotal);
+        dashboard.put("compliancePercent", compliance(metTotal, breachedTotal));
+        dashboard.put("categories", categories);
+        return dashboard;
+    }
+
+    private LocalDateTime resume(LocalDateTime deadline, LocalDateTime pausedAt, LocalDateTime now,
+                                 String categoryName, Boolean urgent, Integer priorityLevel) {
+        if (deadline == null || pausedAt == null) {
+            return deadline;
+        }
+        BusinessCalendar calendar = calendarFor(categoryName, Boolean.TRUE.equals(urgent), priorityLevel);
+        Duration remaining = calendar.between(pausedAt, deadline);
+        // Already breached when paused: the original deadline stands
+        return remaining.isZero() ? deadline : calendar.plus(now, remaining);
+    }
+
+    private BusinessCalendar calendarFor(String categoryName, boolean urgent, Integer priorityLevel) {
+        String name = categoryName != null ? properties.getCategoryCalendars().get(categoryName) : null;
+        if (name == null) {
+            name = urgent || (priorityLevel != null && priorityLevel >= 4)
+                    ? properties.getUrgentCalendar() : properties.getDefaultCalendar();
+        }
+        return calendar(name);
+    }
+
+    private BusinessCalendar calendar(String name) {
+        BusinessCalendar calendar = calendars.get(name);
+        if (calendar == null) {
+            throw new IllegalStateException("Unknown SLA calendar: " + name);
+        }
+        return calendar;
+    }
+
+    private static Double compliance(long met, long breached) {
+        long total = met + breached;
+        return total == 0 ? null : Math.round(met * 1000.0 / total) / 10.0;
+    }
+}
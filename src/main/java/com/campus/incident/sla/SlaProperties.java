@@ -0,0 +1,95 @@
+package com.campus.incident.sla;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@ConfigurationProperties(prefix = "incident.sla")
+public class SlaProperties {
+
+    // Compute deadlines on create, pause them while ON_HOLD and track breaches
+    private boolean enabled = true;
+
+    // Calendar used unless the category or urgency selects another
+    private String defaultCalendar = "business-hours";
+
+    // Calendar for urgent and critical (priority 4) incidents
+    private String urgentCalendar = "always";
+
+    // Named working-time calendars
+    private Map<String, Calendar> calendars = new HashMap<>();
+
+    // Category name -> calendar name, overriding the default
+    private Map<String, String> categoryCalendars = new HashMap<>();
+
+    // Priority level -> multiplier applied to the category's estimated resolution hours
+    private Map<Integer, Double> priorityFactors = new HashMap<>(Map.of(1, 1.0, 2, 1.0, 3, 0.5, 4, 0.25));
+
+    // Further multiplier for incidents flagged urgent
+    private double urgentFactor = 0.5;
+
+    // Upper bounds (hours left until the deadline) of the time-to-breach buckets
+    private List<Integer> bucketHours = new ArrayList<>(List.of(1, 4, 8, 24));
+
+    public boolean isEnabled() { return enabled; }
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getDefaultCalendar() { return defaultCalendar; }
+    public void setDefaultCalendar(String defaultCalendar) { this.defaultCalendar = defaultCalendar; }
+
+    public String getUrgentCalendar() { return urgentCalendar; }
+    public void setUrgentCalendar(String urgentCalendar) { this.urgentCalendar = urgentCalendar; }
+
+    public Map<String, Calendar> getCalendars() { return calendars; }
+    public void setCalendars(Map<String, Calendar> calendars) { this.calendars = calendars; }
+
+    public Map<String, String> getCategoryCalendars() { return categoryCalendars; }
+    public void setCategoryCalendars(Map<String, String> categoryCalendars) { this.categoryCalendars = categoryCalendars; }
+
+    public Map<Integer, Double> getPriorityFactors() { return priorityFactors; }
+    public void setPriorityFactors(Map<Integer, Double> priorityFactors) { this.priorityFactors = priorityFactors; }
+
+    public double getUrgentFactor() { return urgentFactor; }
+    public void setUrgentFactor(double urgentFactor) { this.urgentFactor = urgentFactor; }
+
+    public List<Integer> getBucketHours() { return bucketHours; }
+    public void setBucketHours(List<Integer> bucketHours) { this.bucketHours = bucketHours; }
+
+    public static class Calendar {
+
+        // Every hour of every day counts
+        private boolean alwaysOpen = false;
+
+        // Working hours each working day, "HH:mm"
+        private String open = "08:00";
+        private String close = "18:00";
+
+        private Set<DayOfWeek> days = EnumSet.range(DayOfWeek.MONDAY, DayOfWeek.FRIDAY);
+
+        // ISO dates (yyyy-MM-dd) that are not worked
+        private List<String> holidays = new ArrayList<>();
+
+        public boolean isAlwaysOpen() { return alwaysOpen; }
+        public void setAlwaysOpen(boolean alwaysOpen) { this.alwaysOpen = alwaysOpen; }
+
+        public String getOpen() { return open; }
+        public void setOpen(String open) { this.open = open; }
+
+        public String getClose() { return close; }
+        public void setClose(String close) { this.close = close; }
+
+        public Set<DayOfWeek> getDays() { return days; }
+        public void setDays(Set<DayOfWeek> days) { this.days = days; }
+
+        public List<String> getHolidays() { return holidays; }
+        public void setHolidays(List<String> holidays) { this.holidays = holidays; }
+    }
+}
@@ -0,0 +1,186 @@
+package com.campus.incident.sla;
+
+import com.campus.incident.entity.IncidentStatus;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+// Per-category SLA counters for open incidents, kept current incrementally.
+// Each running clock sits in one time-to-breach bucket (index 0 = breached,
+// then one bucket per configured bound, then "beyond the last bound") and in
+// a queue ordered by the instant it next crosses into a lower bucket, so
+// advancing time only touches the incidents whose bucket actually changes.
+// Not thread-safe; SlaEngine guards access.
+class SlaTracker {
+
+    static final int BREACHED = 0;
+
+    private final long[] boundSeconds;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final TreeSet<Entry> crossings = new TreeSet<>((a, b) -> a.nextCrossing != b.nextCrossing
+            ? Long.compare(a.nextCrossing, b.nextCrossing)
+            : Long.compare(a.id, b.id));
+    private final Map<Long, Counters> counters = new HashMap<>();
+
+    SlaTracker(long[] boundSeconds) {
+        this.boundSeconds = boundSeconds.clone();
+    }
+
+    int bucketCount() {
+        return boundSeconds.length + 2;
+    }
+
+    // Brings one incident's clock in line with its committed state
+    void upsert(long id, long categoryId, LocalDateTime deadline, IncidentStatus status, LocalDateTime now) {
+        Entry previous = entries.get(id);
+        boolean breachCounted = previous != null && previous.breachCounted;
+        remove(id);
+
+        if (deadline == null) {
+            return;
+        }
+        long deadlineSeconds = seconds(deadline);
+        long nowSeconds = seconds(now);
+        if (!status.isActive()) {
+            // Counted once, when a running clock stops (RESOLVED -> CLOSED is not a second resolution)
+            if (status.isResolved() && previous != null && !breachCounted) {
+                Counters totals = countersFor(categoryId);
+                if (nowSeconds > deadlineSeconds) {
+                    totals.breachedTotal++;
+                } else {
+                    totals.metTotal++;
+                }
+            }
+            return;
+        }
+
+        Entry entry = new Entry(id, categoryId, deadlineSeconds);
+        entry.breachCounted = breachCounted;
+        entry.paused = status == IncidentStatus.ON_HOLD;
+        entries.put(id, entry);
+        Counters totals = countersFor(categoryId);
+        if (entry.paused) {
+            totals.paused++;
+            // A stopped clock keeps its bucket-free state until it is resumed
+            return;
+        }
+        place(entry, nowSeconds, totals);
+    }
+
+    void remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return;
+        }
+        Counters totals = counters.get(entry.categoryId);
+        if (entry.paused) {
+            totals.paused--;
+        } else {
+            totals.buckets[entry.bucket]--;
+            crossings.remove(entry);
+        }
+    }
+
+    // Moves every clock whose next bucket boundary has passed
+    int advance(LocalDateTime now) {
+        long nowSeconds = seconds(now);
+        int moved = 0;
+        while (!crossings.isEmpty() && crossings.first().nextCrossing <= nowSeconds) {
+            Entry entry = crossings.pollFirst();
+            Counters totals = counters.get(entry.categoryId);
+            totals.buckets[entry.bucket]--;
+            place(entry, nowSeconds, totals);
+            moved++;
+        }
+        return moved;
+    }
+
+    // Breach / met totals of incidents resolved before the tracker was built
+    void seedTotals(long categoryId, long breached, long met) {
+        Counters totals = countersFor(categoryId);
+        totals.breachedTotal += breached;
+        totals.metTotal += met;
+    }
+
+    void clear() {
+        entries.clear();
+        crossings.clear();
+        counters.clear();
+    }
+
+    Map<Long, Counters> counters() {
+        return counters;
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void place(Entry entry, long nowSeconds, Counters totals) {
+        long remaining = entry.deadline - nowSeconds;
+        int bucket = bucketOf(remaining);
+        entry.bucket = bucket;
+        totals.buckets[bucket]++;
+        if (bucket == BREACHED) {
+            if (!entry.breachCounted) {
+                entry.breachCounted = true;
+                totals.breachedTotal++;
+            }
+            return;
+        }
+        // Leaves this bucket once the remaining time drops to the bucket's lower bound
+        long lowerBound = bucket == 1 ? 0 : boundSeconds[bucket - 2];
+        entry.nextCrossing = entry.deadline - lowerBound;
+        crossings.add(entry);
+    }
+
+    private int bucketOf(long remainingSeconds) {
+        if (remainingSeconds <= 0) {
+            return BREACHED;
+        }
+        for (int i = 0; i < boundSeconds.length; i++) {
+            if (remainingSeconds <= boundSeconds[i]) {
+                return i + 1;
+            }
+        }
+        return boundSeconds.length + 1;
+    }
+
+    private Counters countersFor(long categoryId) {
+        return counters.computeIfAbsent(categoryId, c -> new Counters(bucketCount()));
+    }
+
+    private static long seconds(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static final class Counters {
+        final long[] buckets;
+        long paused;
+        long breachedTotal;
+        long metTotal;
+
+        Counters(int bucketCount) {
+            this.buckets = new long[bucketCount];
+        }
+    }
+
+    private static final class Entry {
+        final long id;
+        final long categoryId;
+        final long deadline;
+        boolean paused;
+        boolean breachCounted;
+        int bucket;
+        long nextCrossing;
+
+        Entry(long id, long categoryId, long deadline) {
+            this.id = id;
+            this.categoryId = categoryId;
+            this.deadline = deadline;
+        }
+    }
+}
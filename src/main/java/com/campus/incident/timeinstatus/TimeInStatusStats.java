@@ -0,0 +1,103 @@
+package com.campus.incident.timeinstatus;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.StatusUpdate;
+import com.campus.incident.repository.IncidentReportRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Running count / sum / max of the time incidents spent in each status before
+// leaving it, taken from the duration stored on every StatusUpdate. Seeded once
+// from live and archived status updates, then advanced by the service layer as
+// transitions commit, so bottleneck reports are O(statuses).
+@Component
+public class TimeInStatusStats {
+
+    @Autowired
+    private IncidentReportRepository incidentRepository;
+
+    private final int statuses = IncidentStatus.values().length;
+    private final long[] counts = new long[statuses];
+    private final long[] sums = new long[statuses];
+    private final long[] maxima = new long[statuses];
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> live = incidentRepository.sumTimeInStatus();
+        List<Object[]> archived = incidentRepository.sumArchivedTimeInStatus();
+        synchronized (this) {
+            clear();
+            live.forEach(this::add);
+            archived.forEach(this::add);
+        }
+    }
+
+    public void recordAfterCommit(List<StatusUpdate> transitions) {
+        for (StatusUpdate transition : transitions) {
+            Long seconds = transition.getTimeInPreviousStatusSeconds();
+            if (seconds != null) {
+                recordAfterCommit(transition.getPreviousStatus(), 1, seconds, seconds);
+            }
+        }
+    }
+
+    // Adds count transitions out of the status totalling sum seconds, the longest being max
+    public void recordAfterCommit(IncidentStatus status, long count, long sum, long max) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(status, count, sum, max);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(status, count, sum, max);
+            }
+        });
+    }
+
+    synchronized void record(IncidentStatus status, long count, long sum, long max) {
+        int index = status.ordinal();
+        counts[index] += count;
+        sums[index] += sum;
+        maxima[index] = Math.max(maxima[index], max);
+    }
+
+    // Per status: transitions out of it and the average / longest / total time spent in it
+    public synchronized List<Map<String, Object>> getReport() {
+        List<Map<String, Object>> report = new ArrayList<>();
+        for (IncidentStatus status : IncidentStatus.values()) {
+            int index = status.ordinal();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("status", status);
+            row.put("transitions", counts[index]);
+            row.put("averageMinutes", counts[index] == 0 ? null : Math.round(sums[index] / 6.0 / counts[index]) / 10.0);
+            row.put("maxMinutes", Math.round(maxima[index] / 6.0) / 10.0);
+            row.put("totalHours", Math.round(sums[index] / 360.0) / 10.0);
+            report.add(row);
+        }
+        return report;
+    }
+
+    private void add(Object[] row) {
+        record((IncidentStatus) row[0], ((Number) row[1]).longValue(),
+                row[2] != null ? ((Number) row[2]).longValue() : 0,
+                row[3] != null ? ((Number) row[3]).longValue() : 0);
+    }
+
+    private void clear() {
+        for (int i = 0; i < statuses; i++) {
+            counts[i] = 0;
+            sums[i] = 0;
+            maxima[i] = 0;
+        }
+    }
+}
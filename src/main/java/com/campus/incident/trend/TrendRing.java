@@ -0,0 +1,106 @@
+package com.campus.incident.trend;
+
+import com.campus.incident.entity.TrendGranularity;
+
+import java.util.Arrays;
+
+// Fixed-size ring of the most recent buckets of one granularity. Each slot is a
+// primitive long[] of counters indexed by dimension (category, priority, status),
+// plus the part of each counter already written to the rollup table.
+// Not thread-safe; TrendStore guards access.
+final class TrendRing {
+
+    interface DeltaSink {
+        void accept(TrendGranularity granularity, long bucket, int dimension, long delta);
+    }
+
+    private final TrendGranularity granularity;
+    private final long[] buckets;
+    private long[][] counts;
+    private long[][] flushed;
+
+    TrendRing(TrendGranularity granularity, int dimensions) {
+        this.granularity = granularity;
+        int size = granularity.getRetainedBuckets();
+        this.buckets = new long[size];
+        Arrays.fill(buckets, -1);
+        this.counts = new long[size][dimensions];
+        this.flushed = new long[size][dimensions];
+    }
+
+    TrendGranularity getGranularity() {
+        return granularity;
+    }
+
+    int size() {
+        return buckets.length;
+    }
+
+    long bucketAt(int slot) {
+        return buckets[slot];
+    }
+
+    long count(int slot, int dimension) {
+        return dimension < counts[slot].length ? counts[slot][dimension] : 0;
+    }
+
+    void ensureDimensions(int dimensions) {
+        if (counts[0].length >= dimensions) {
+            return;
+        }
+        int capacity = Math.max(dimensions, counts[0].length * 2);
+        for (int slot = 0; slot < buckets.length; slot++) {
+            counts[slot] = Arrays.copyOf(counts[slot], capacity);
+            flushed[slot] = Arrays.copyOf(flushed[slot], capacity);
+        }
+    }
+
+    // Slot for the bucket, recycling the slot of an older bucket (its unflushed
+    // counts go to the sink first); -1 if the bucket is older than what the slot holds
+    int slot(long bucket, DeltaSink evicted) {
+        int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+        if (buckets[slot] == bucket) {
+            return slot;
+        }
+        if (buckets[slot] > bucket) {
+            return -1;
+        }
+        if (buckets[slot] >= 0) {
+            drain(slot, evicted);
+        }
+        buckets[slot] = bucket;
+        Arrays.fill(counts[slot], 0);
+        Arrays.fill(flushed[slot], 0);
+        return slot;
+    }
+
+    void add(int slot, int dimension, long delta) {
+        counts[slot][dimension] += delta;
+    }
+
+    // Loads a count that is already stored in the rollup table
+    void seed(int slot, int dimension, long count) {
+        counts[slot][dimension] += count;
+        flushed[slot][dimension] += count;
+    }
+
+    void drainAll(DeltaSink sink) {
+        for (int slot = 0; slot < buckets.length; slot++) {
+            if (buckets[slot] >= 0) {
+                drain(slot, sink);
+            }
+        }
+    }
+
+    private void drain(int slot, DeltaSink sink) {
+        long[] slotCounts = counts[slot];
+        long[] slotFlushed = flushed[slot];
+        for (int dimension = 0; dimension < slotCounts.length; dimension++) {
+            long delta = slotCounts[dimension] - slotFlushed[dimension];
+            if (delta != 0) {
+                sink.accept(granularity, buckets[slot], dimension, delta);
+                slotFlushed[dimension] = slotCounts[dimension];
+            }
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package com.campus.incident.trend;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.TrendGranularity;
+import com.campus.incident.entity.TrendRollup;
+import com.campus.incident.repository.TrendRollupRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Per-hour and per-day counts of incidents entering each status, keyed by
+// (category, priority, status). Recent buckets live in TrendRing primitive
+// arrays; older ones are in the incident_trend_rollups table, which the ring
+// writes to periodically and when a bucket ages out. Trend queries read only
+// these two sources, never incident_reports.
+@Component
+public class TrendStore {
+
+    @Autowired
+    private TrendRollupRepository rollupRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Map<TrendGranularity, TrendRing> rings = new EnumMap<>(TrendGranularity.class);
+    private final Map<Long, Integer> dimensions = new HashMap<>();
+    private long[] dimensionKeys = new long[64];
+    private int dimensionCount;
+
+    // Counts that left the ring but are not yet in the rollup table
+    private final List<Delta> pending = new ArrayList<>();
+    private final TrendRing.DeltaSink toPending = (granularity, bucket, dimension, delta) ->
+            pending.add(new Delta(granularity, bucket, dimensionKeys[dimension], delta));
+
+    public TrendStore() {
+        for (TrendGranularity granularity : TrendGranularity.values()) {
+            rings.put(granularity, new TrendRing(granularity, dimensionKeys.length));
+        }
+    }
+
+    // Reload the in-memory window from the rollup table
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        LocalDateTime now = LocalDateTime.now();
+        for (TrendGranularity granularity : TrendGranularity.values()) {
+            long oldest = granularity.bucketOf(now) - granularity.getRetainedBuckets() + 1;
+            List<TrendRollup> rows = rollupRepository.findByGranularityAndBucketStartGreaterThanEqual(
+                    granularity, granularity.startOf(oldest));
+            synchronized (this) {
+                TrendRing ring = rings.get(granularity);
+                for (TrendRollup row : rows) {
+                    int slot = ring.slot(granularity.bucketOf(row.getBucketStart()), toPending);
+                    if (slot >= 0) {
+                        ring.seed(slot, dimension(key(row.getCategoryId(), row.getPriorityLevel(), row.getStatus())),
+                                row.getCount());
+                    }
+                }
+            }
+        }
+    }
+
+    // Counts the incident entering the status once the transaction commits
+    public void recordAfterCommit(IncidentReport incident, IncidentStatus status) {
+        Long categoryId = incident.getCategory() != null ? incident.getCategory().getId() : null;
+        recordAfterCommit(categoryId, incident.getPriorityLevel(), status, 1);
+    }
+
+    public void recordAfterCommit(Long categoryId, Integer priorityLevel, IncidentStatus status, long count) {
+        long key = key(categoryId, priorityLevel, status);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(LocalDateTime.now(), key, count);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(LocalDateTime.now(), key, count);
+            }
+        });
+    }
+
+    synchronized void record(LocalDateTime at, long key, long count) {
+        int dimension = dimension(key);
+        for (TrendRing ring : rings.values()) {
+            int slot = ring.slot(ring.getGranularity().bucketOf(at), toPending);
+            if (slot >= 0) {
+                ring.add(slot, dimension, count);
+            }
+        }
+    }
+
+    // Writes everything not yet in the rollup table; failed writes are retried next time
+    @Scheduled(fixedDelayString = "${incident.trends.flush-interval-ms:60000}")
+    public void flush() {
+        List<Delta> batch;
+        synchronized (this) {
+            for (TrendRing ring : rings.values()) {
+                ring.drainAll(toPending);
+            }
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = new ArrayList<>(pending);
+            pending.clear();
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(this::write));
+        } catch (RuntimeException e) {
+            System.err.println("Failed to flush incident trends, will retry: " + e.getMessage());
+            synchronized (this) {
+                pending.addAll(0, batch);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // Buckets in [from, to) with counts per status; empty buckets are omitted
+    public List<Map<String, Object>> query(TrendGranularity granularity, LocalDateTime from, LocalDateTime to,
+                                           Long categoryId, Integer priorityLevel, IncidentStatus status) {
+        long fromBucket = granularity.bucketOf(from);
+        TreeMap<Long, Map<IncidentStatus, Long>> buckets = new TreeMap<>();
+
+        // History from the rollup table; buckets still held in memory are replaced below
+        for (Object[] row : rollupRepository.sumByBucketAndStatus(granularity, granularity.startOf(fromBucket), to,
+                categoryId, priorityLevel, status)) {
+            addTo(buckets, granularity.bucketOf((LocalDateTime) row[0]), (IncidentStatus) row[1],
+                    ((Number) row[2]).longValue());
+        }
+
+        synchronized (this) {
+            TrendRing ring = rings.get(granularity);
+            Set<Long> inMemory = new HashSet<>();
+            for (int slot = 0; slot < ring.size(); slot++) {
+                long bucket = ring.bucketAt(slot);
+                if (bucket < fromBucket || !granularity.startOf(bucket).isBefore(to)) {
+                    continue;
+                }
+                inMemory.add(bucket);
+                buckets.remove(bucket);
+                for (int dimension = 0; dimension < dimensionCount; dimension++) {
+                    long count = ring.count(slot, dimension);
+                    if (count != 0 && matches(dimensionKeys[dimension], categoryId, priorityLevel, status)) {
+                        addTo(buckets, bucket, statusOf(dimensionKeys[dimension]), count);
+                    }
+                }
+            }
+            for (Delta delta : pending) {
+                if (delta.granularity == granularity && !inMemory.contains(delta.bucket)
+                        && delta.bucket >= fromBucket && granularity.startOf(delta.bucket).isBefore(to)
+                        && matches(delta.key, categoryId, priorityLevel, status)) {
+                    addTo(buckets, delta.bucket, statusOf(delta.key), delta.count);
+                }
+            }
+        }
+
+        List<Map<String, Object>> result = new ArrayList<>();
+        buckets.forEach((bucket, byStatus) -> {
+            Map<String, Object> point = new LinkedHashMap<>();
+            point.put("bucketStart", granularity.startOf(bucket));
+            point.put("total", byStatus.values().stream().mapToLong(Long::longValue).sum());
+            point.put("byStatus", byStatus);
+            result.add(point);
+        });
+        return result;
+    }
+
+    private void write(Delta delta) {
+        Long categoryId = categoryOf(delta.key);
+        Integer priorityLevel = priorityOf(delta.key);
+        IncidentStatus status = statusOf(delta.key);
+        LocalDateTime bucketStart = delta.granularity.startOf(delta.bucket);
+        if (rollupRepository.addToCount(delta.granularity, bucketStart, categoryId, priorityLevel, status, delta.count) == 0) {
+            rollupRepository.save(new TrendRollup(delta.granularity, bucketStart, categoryId, priorityLevel, status, delta.count));
+        }
+    }
+
+    private int dimension(long key) {
+        Integer existing = dimensions.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (dimensionCount == dimensionKeys.length) {
+            dimensionKeys = Arrays.copyOf(dimensionKeys, dimensionKeys.length * 2);
+        }
+        int dimension = dimensionCount++;
+        dimensionKeys[dimension] = key;
+        dimensions.put(key, dimension);
+        for (TrendRing ring : rings.values()) {
+            ring.ensureDimensions(dimensionCount);
+        }
+        return dimension;
+    }
+
+    private static void addTo(Map<Long, Map<IncidentStatus, Long>> buckets, long bucket, IncidentStatus status, long count) {
+        buckets.computeIfAbsent(bucket, b -> new EnumMap<>(IncidentStatus.class)).merge(status, count, Long::sum);
+    }
+
+    // Dimension key: category id (0 = none) | priority | status ordinal
+    static long key(Long categoryId, Integer priorityLevel, IncidentStatus status) {
+        long category = categoryId != null ? categoryId : 0;
+        int priority = priorityLevel != null ? priorityLevel : 1;
+        return (category << 16) | ((long) (priority & 0xFF) << 8) | status.ordinal();
+    }
+
+    private static boolean matches(long key, Long categoryId, Integer priorityLevel, IncidentStatus status) {
+        return (categoryId == null || categoryOf(key).equals(categoryId))
+                && (priorityLevel == null || priorityOf(key).equals(priorityLevel))
+                && (status == null || statusOf(key) == status);
+    }
+
+    private static Long categoryOf(long key) {
+        return key >>> 16;
+    }
+
+    private static Integer priorityOf(long key) {
+        return (int) ((key >>> 8) & 0xFF);
+    }
+
+    private static IncidentStatus statusOf(long key) {
+        return IncidentStatus.values()[(int) (key & 0xFF)];
+    }
+
+    private static final class Delta {
+        private final TrendGranularity granularity;
+        private final long bucket;
+        private final long key;
+        private final long count;
+
+        Delta(TrendGranularity granularity, long bucket, long key, long count) {
+            this.granularity = granularity;
+            this.bucket = bucket;
+            this.key = key;
+            this.count = count;
+        }
+    }
+}
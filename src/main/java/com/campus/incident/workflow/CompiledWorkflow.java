@@ -0,0 +1,94 @@
+package com.campus.incident.workflow;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.UserRole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Immutable, precompiled form of a WorkflowDefinition. Transition checks are a
+// single mask test indexed by [role ordinal][from-status ordinal]; available
+// transitions are precomputed lists keyed by role and from-status.
+public final class CompiledWorkflow {
+
+    private static final IncidentStatus[] STATUSES = IncidentStatus.values();
+    private static final UserRole[] ROLES = UserRole.values();
+
+    private final String name;
+    private final long[][] masks;
+    private final Map<UserRole, Map<IncidentStatus, List<IncidentStatus>>> available = new EnumMap<>(UserRole.class);
+
+    private CompiledWorkflow(String name, long[][] masks) {
+        this.name = name;
+        this.masks = masks;
+        for (UserRole role : ROLES) {
+            Map<IncidentStatus, List<IncidentStatus>> byStatus = new EnumMap<>(IncidentStatus.class);
+            available.put(role, byStatus);
+            for (IncidentStatus from : STATUSES) {
+                long mask = masks[role.ordinal()][from.ordinal()];
+                List<IncidentStatus> targets = new ArrayList<>(Long.bitCount(mask));
+                for (IncidentStatus to : STATUSES) {
+                    if ((mask & bit(to)) != 0) {
+                        targets.add(to);
+                    }
+                }
+                byStatus.put(from, Collections.unmodifiableList(targets));
+            }
+        }
+    }
+
+    public static CompiledWorkflow compile(WorkflowDefinition definition) {
+        long[] transitionMasks = new long[STATUSES.length];
+        definition.getTransitions().forEach((from, targets) -> transitionMasks[from.ordinal()] = maskOf(targets));
+
+        long[][] masks = new long[ROLES.length][STATUSES.length];
+        for (UserRole role : ROLES) {
+            Set<IncidentStatus> allowedTargets = definition.getRoleTargets().get(role);
+            long roleMask = allowedTargets == null ? -1L : maskOf(allowedTargets);
+            for (IncidentStatus from : STATUSES) {
+                masks[role.ordinal()][from.ordinal()] = transitionMasks[from.ordinal()] & roleMask;
+            }
+        }
+        return new CompiledWorkflow(definition.getName(), masks);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean canTransition(UserRole role, IncidentStatus from, IncidentStatus to) {
+        return (masks[role.ordinal()][from.ordinal()] & bit(to)) != 0;
+    }
+
+    public List<IncidentStatus> availableTransitions(UserRole role, IncidentStatus from) {
+        return available.get(role).get(from);
+    }
+
+    // Statuses from which the role may move an incident to the given status
+    public Set<IncidentStatus> sourcesOf(UserRole role, IncidentStatus to) {
+        Set<IncidentStatus> sources = EnumSet.noneOf(IncidentStatus.class);
+        for (IncidentStatus from : STATUSES) {
+            if (canTransition(role, from, to)) {
+                sources.add(from);
+            }
+        }
+        return sources;
+    }
+
+    private static long maskOf(Set<IncidentStatus> statuses) {
+        long mask = 0L;
+        for (IncidentStatus status : statuses) {
+            mask |= bit(status);
+        }
+        return mask;
+    }
+
+    private static long bit(IncidentStatus status) {
+        return 1L << status.ordinal();
+    }
+}
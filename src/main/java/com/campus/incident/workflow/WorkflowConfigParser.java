@@ -0,0 +1,104 @@
+package com.campus.incident.workflow;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.UserRole;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.InputStream;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Parses workflow.yml into a compiled WorkflowSnapshot. Any unknown status,
+// role or workflow reference rejects the whole file.
+public final class WorkflowConfigParser {
+
+    private WorkflowConfigParser() {}
+
+    public static WorkflowSnapshot parse(InputStream input, String source) {
+        Object document = new Yaml().load(input);
+        if (document == null) {
+            throw new IllegalStateException("Workflow definition " + source + " is empty");
+        }
+        Map<String, Object> root = asMap(document, source);
+
+        Map<String, Object> workflows = asMap(root.get("workflows"), "workflows");
+        Map<String, CompiledWorkflow> compiled = new HashMap<>();
+        workflows.forEach((name, body) -> compiled.put(name, CompiledWorkflow.compile(parseWorkflow(name, asMap(body, name)))));
+
+        CompiledWorkflow defaultWorkflow = compiled.get("default");
+        if (defaultWorkflow == null) {
+            throw new IllegalStateException("Workflow definition " + source + " has no 'default' workflow");
+        }
+
+        Map<String, CompiledWorkflow> byCategory = new HashMap<>();
+        Object categories = root.get("categories");
+        if (categories != null) {
+            asMap(categories, "categories").forEach((category, workflowName) -> {
+                CompiledWorkflow workflow = compiled.get(String.valueOf(workflowName));
+                if (workflow == null) {
+                    throw new IllegalStateException("Category '" + category + "' refers to unknown workflow '" + workflowName + "'");
+                }
+                byCategory.put(category, workflow);
+            });
+        }
+
+        return new WorkflowSnapshot(defaultWorkflow, byCategory, source);
+    }
+
+    private static WorkflowDefinition parseWorkflow(String name, Map<String, Object> body) {
+        Map<IncidentStatus, Set<IncidentStatus>> transitions = new EnumMap<>(IncidentStatus.class);
+        asMap(body.get("transitions"), name + ".transitions").forEach((from, targets) ->
+                transitions.put(status(from), statuses(targets, name + ".transitions." + from)));
+
+        Map<UserRole, Set<IncidentStatus>> roleTargets = new EnumMap<>(UserRole.class);
+        Object roles = body.get("roles");
+        if (roles != null) {
+            asMap(roles, name + ".roles").forEach((role, targets) ->
+                    roleTargets.put(role(role), statuses(targets, name + ".roles." + role)));
+        }
+
+        return new WorkflowDefinition(name, transitions, roleTargets);
+    }
+
+    private static Set<IncidentStatus> statuses(Object value, String path) {
+        Set<IncidentStatus> result = EnumSet.noneOf(IncidentStatus.class);
+        if (value == null) {
+            return result;
+        }
+        if (!(value instanceof List<?> list)) {
+            throw new IllegalStateException("Expected a list of statuses at " + path);
+        }
+        for (Object item : list) {
+            result.add(status(String.valueOf(item)));
+        }
+        return result;
+    }
+
+    private static IncidentStatus status(String name) {
+        try {
+            return IncidentStatus.valueOf(name.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown incident status in workflow definition: " + name);
+        }
+    }
+
+    private static UserRole role(String name) {
+        try {
+            return UserRole.valueOf(name.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Unknown user role in workflow definition: " + name);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asMap(Object value, String path) {
+        if (!(value instanceof Map)) {
+            throw new IllegalStateException("Expected a mapping at " + path);
+        }
+        return (Map<String, Object>) value;
+    }
+}
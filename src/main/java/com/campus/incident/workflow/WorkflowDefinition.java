@@ -0,0 +1,57 @@
+package com.campus.incident.workflow;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.UserRole;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+// Source form of a workflow: allowed transitions per status, plus the target
+// statuses each role may move an incident into. Roles without an entry may use
+// every transition. Compiled into a CompiledWorkflow before use.
+public class WorkflowDefinition {
+
+    private final String name;
+    private final Map<IncidentStatus, Set<IncidentStatus>> transitions;
+    private final Map<UserRole, Set<IncidentStatus>> roleTargets;
+
+    public WorkflowDefinition(String name,
+                              Map<IncidentStatus, Set<IncidentStatus>> transitions,
+                              Map<UserRole, Set<IncidentStatus>> roleTargets) {
+        this.name = name;
+        this.transitions = Collections.unmodifiableMap(new EnumMap<>(transitions));
+        this.roleTargets = roleTargets.isEmpty()
+                ? Collections.emptyMap()
+                : Collections.unmodifiableMap(new EnumMap<>(roleTargets));
+    }
+
+    // The built-in lifecycle from IncidentStatus, with no role restrictions
+    public static WorkflowDefinition builtIn() {
+        Map<IncidentStatus, Set<IncidentStatus>> transitions = new EnumMap<>(IncidentStatus.class);
+        for (IncidentStatus from : IncidentStatus.values()) {
+            Set<IncidentStatus> targets = EnumSet.noneOf(IncidentStatus.class);
+            for (IncidentStatus to : IncidentStatus.values()) {
+                if (from.canTransitionTo(to)) {
+                    targets.add(to);
+                }
+            }
+            transitions.put(from, targets);
+        }
+        return new WorkflowDefinition("default", transitions, Collections.emptyMap());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Map<IncidentStatus, Set<IncidentStatus>> getTransitions() {
+        return transitions;
+    }
+
+    public Map<UserRole, Set<IncidentStatus>> getRoleTargets() {
+        return roleTargets;
+    }
+}
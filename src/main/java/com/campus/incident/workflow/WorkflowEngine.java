@@ -0,0 +1,92 @@
+package com.campus.incident.workflow;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.UserRole;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+// Holds the active workflow snapshot. Loaded at startup from
+// incident.workflow.location and replaced atomically by reload().
+@Component
+public class WorkflowEngine {
+
+    private final AtomicReference<WorkflowSnapshot> snapshot;
+
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    @Value("${incident.workflow.location:classpath:workflow.yml}")
+    private String location;
+
+    public WorkflowEngine() {
+        this(WorkflowSnapshot.builtIn());
+    }
+
+    public WorkflowEngine(WorkflowSnapshot initial) {
+        this.snapshot = new AtomicReference<>(initial);
+    }
+
+    @PostConstruct
+    void loadOnStartup() {
+        Resource resource = resourceLoader.getResource(location);
+        if (resource.exists()) {
+            reload();
+        } else {
+            System.out.println("Workflow definition " + location + " not found, using built-in workflow");
+        }
+    }
+
+    // Re-reads the definition; on any error the current snapshot stays active
+    public WorkflowSnapshot reload() {
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream input = resource.getInputStream()) {
+            WorkflowSnapshot loaded = WorkflowConfigParser.parse(input, location);
+            snapshot.set(loaded);
+            return loaded;
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read workflow definition " + location, e);
+        }
+    }
+
+    public WorkflowSnapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    public boolean canTransition(IncidentReport incident, UserRole role, IncidentStatus newStatus) {
+        return workflowFor(incident).canTransition(role, incident.getStatus(), newStatus);
+    }
+
+    // Checks a step of a multi-step move before the incident has left its current status
+    public boolean canTransition(IncidentReport incident, UserRole role, IncidentStatus from, IncidentStatus to) {
+        return workflowFor(incident).canTransition(role, from, to);
+    }
+
+    // Statuses that may follow this incident to newStatus, e.g. children of a parent being moved
+    public Set<IncidentStatus> getSourceStatuses(IncidentReport incident, UserRole role, IncidentStatus newStatus) {
+        return workflowFor(incident).sourcesOf(role, newStatus);
+    }
+
+    public List<IncidentStatus> getAvailableTransitions(IncidentReport incident, UserRole role) {
+        return workflowFor(incident).availableTransitions(role, incident.getStatus());
+    }
+
+    private CompiledWorkflow workflowFor(IncidentReport incident) {
+        WorkflowSnapshot current = snapshot.get();
+        // Avoid touching the (lazy) category when no per-category workflows are configured
+        if (current.getWorkflowsByCategory().isEmpty() || incident.getCategory() == null) {
+            return current.getDefaultWorkflow();
+        }
+        return current.forCategory(incident.getCategory().getName());
+    }
+}
@@ -0,0 +1,49 @@
+package com.campus.incident.workflow;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
+
+// Everything the engine needs for one generation of workflow configuration.
+// Swapped atomically on reload so readers never observe a half-built state.
+public final class WorkflowSnapshot {
+
+    private final CompiledWorkflow defaultWorkflow;
+    private final Map<String, CompiledWorkflow> workflowsByCategory;
+    private final String source;
+    private final LocalDateTime loadedAt;
+
+    public WorkflowSnapshot(CompiledWorkflow defaultWorkflow, Map<String, CompiledWorkflow> workflowsByCategory, String source) {
+        this.defaultWorkflow = defaultWorkflow;
+        this.workflowsByCategory = Collections.unmodifiableMap(workflowsByCategory);
+        this.source = source;
+        this.loadedAt = LocalDateTime.now();
+    }
+
+    public static WorkflowSnapshot builtIn() {
+        return new WorkflowSnapshot(CompiledWorkflow.compile(WorkflowDefinition.builtIn()), Collections.emptyMap(), "built-in");
+    }
+
+    public CompiledWorkflow forCategory(String categoryName) {
+        if (categoryName == null) {
+            return defaultWorkflow;
+        }
+        return workflowsByCategory.getOrDefault(categoryName, defaultWorkflow);
+    }
+
+    public CompiledWorkflow getDefaultWorkflow() {
+        return defaultWorkflow;
+    }
+
+    public Map<String, CompiledWorkflow> getWorkflowsByCategory() {
+        return workflowsByCategory;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public LocalDateTime getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,95 @@
+package com.campus.incident;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Load comparison between platform and virtual request threads. Opt-in only:
+//   mvn test -Dtest=ThreadModeLoadTest -Dloadtest=true -Dserver.threads.mode=platform
+//   mvn test -Dtest=ThreadModeLoadTest -Dloadtest=true -Dserver.threads.mode=virtual   (Java 21)
+// Each request authenticates with HTTP Basic, so it pays the BCrypt check plus JDBC reads.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class ThreadModeLoadTest {
+
+    private static final int CONCURRENT_CLIENTS = 2_000;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${server.threads.mode}")
+    private String mode;
+
+    @Test
+    void dashboardUnderConcurrentClients() throws Exception {
+        String credentials = Base64.getEncoder()
+                .encodeToString("admin:admin123".getBytes(StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/incidents/dashboard/stats"))
+                .header("Authorization", "Basic " + credentials)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        ExecutorService clientExecutor = Executors.newFixedThreadPool(64);
+        HttpClient client = HttpClient.newBuilder().executor(clientExecutor).build();
+        try {
+            List<CompletableFuture<Long>> calls = new ArrayList<>(CONCURRENT_CLIENTS);
+            long start = System.nanoTime();
+            for (int i = 0; i < CONCURRENT_CLIENTS; i++) {
+                long sent = System.nanoTime();
+                calls.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> response.statusCode() == 200 ? System.nanoTime() - sent : -1L));
+            }
+
+            List<Long> latencies = new ArrayList<>(CONCURRENT_CLIENTS);
+            int failures = 0;
+            for (CompletableFuture<Long> call : calls) {
+                long latency = call.join();
+                if (latency < 0) {
+                    failures++;
+                } else {
+                    latencies.add(latency);
+                }
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            latencies.sort(null);
+
+            System.out.printf("mode=%s clients=%d ok=%d failed=%d wall=%d ms throughput=%.0f req/s p50=%d ms p99=%d ms max=%d ms%n",
+                    mode, CONCURRENT_CLIENTS, latencies.size(), failures, elapsedMillis,
+                    latencies.size() * 1000.0 / Math.max(1, elapsedMillis),
+                    percentileMillis(latencies, 0.50), percentileMillis(latencies, 0.99),
+                    percentileMillis(latencies, 1.0));
+
+            assertThat(latencies).isNotEmpty();
+        } finally {
+            clientExecutor.shutdownNow();
+        }
+    }
+
+    private static long percentileMillis(List<Long> sortedNanos, double percentile) {
+        if (sortedNanos.isEmpty()) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+        return sortedNanos.get(Math.max(0, index)) / 1_000_000;
+    }
+}
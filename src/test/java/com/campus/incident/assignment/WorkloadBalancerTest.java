@@ -0,0 +1,87 @@
+package com.campus.incident.assignment;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.User;
+import com.campus.incident.entity.UserRole;
+import com.campus.incident.repository.IncidentReportRepository;
+import com.campus.incident.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class WorkloadBalancerTest {
+
+    @InjectMocks
+    private WorkloadBalancer workloadBalancer;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private IncidentReportRepository incidentRepository;
+
+    @Mock
+    private AssignmentProperties properties;
+
+    private User generalist;
+    private User plumber;
+
+    @BeforeEach
+    void setUp() {
+        generalist = maintenanceUser(2L, "maintenance1");
+        plumber = maintenanceUser(3L, "maintenance2");
+
+        when(userRepository.findByRoleAndIsActive(UserRole.MAINTENANCE, true)).thenReturn(Arrays.asList(generalist, plumber));
+        when(incidentRepository.sumActiveWorkloadByAssignee())
+                .thenReturn(Collections.singletonList(new Object[]{2L, 3L}));
+        when(properties.getSkills()).thenReturn(Map.of("maintenance2", List.of("Plumbing Issues")));
+
+        workloadBalancer.rebuild();
+    }
+
+    @Test
+    void whenCategoryMatchesSpecialist_thenLeastLoadedCandidateIsChosen() {
+        // Plumber (load 0) beats the generalist (load 3) for plumbing
+        assertThat(workloadBalancer.assignLeastLoaded("Plumbing Issues", 2).getUserId()).isEqualTo(3L);
+
+        // Other categories only go to generalists
+        assertThat(workloadBalancer.assignLeastLoaded("IT Issues", 1).getUserId()).isEqualTo(2L);
+    }
+
+    @Test
+    void whenWorkIsCompleted_thenLoadIsReleased() {
+        IncidentReport incident = new IncidentReport();
+        incident.setAssignedTo(generalist);
+        incident.setPriorityLevel(3);
+        incident.setStatus(IncidentStatus.IN_PROGRESS);
+        WorkloadBalancer.Contribution before = WorkloadBalancer.Contribution.of(incident);
+
+        incident.setStatus(IncidentStatus.RESOLVED);
+        workloadBalancer.recordChange(before, WorkloadBalancer.Contribution.of(incident));
+
+        assertThat(workloadBalancer.getWorkloads())
+                .extracting(row -> row.get("weightedLoad"))
+                .containsExactly(0L, 0L);
+    }
+
+    private static User maintenanceUser(Long id, String username) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername(username);
+        user.setRole(UserRole.MAINTENANCE);
+        return user;
+    }
+}
@@ -0,0 +1,101 @@
+package com.campus.incident.config;
+
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.entity.IncidentStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Compares encode time and bytes-on-wire of a 50-item /api/incidents page
+// across JSON, CBOR and Smile (raw and gzipped). Numbers are printed for
+// comparison; only the size ordering is asserted. Opt-in only:
+//   mvn test -Dtest=PayloadEncodingBenchmarkTest -Dbenchmark=true
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class PayloadEncodingBenchmarkTest {
+
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP_ROUNDS = 2_000;
+    private static final int MEASURED_ROUNDS = 5_000;
+
+    @Test
+    void compareEncodingsForFiftyItemPage() throws Exception {
+        Page<IncidentSummary> page = samplePage();
+
+        ObjectMapper json = configure(new ObjectMapper());
+        ObjectMapper cbor = configure(new CBORMapper());
+        ObjectMapper smile = configure(new SmileMapper());
+
+        byte[] jsonBytes = json.writeValueAsBytes(page);
+        byte[] cborBytes = cbor.writeValueAsBytes(page);
+        byte[] smileBytes = smile.writeValueAsBytes(page);
+
+        report("json", json, page, jsonBytes);
+        report("cbor", cbor, page, cborBytes);
+        report("smile", smile, page, smileBytes);
+
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    private static ObjectMapper configure(ObjectMapper mapper) {
+        mapper.findAndRegisterModules();
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return mapper;
+    }
+
+    private static void report(String name, ObjectMapper mapper, Page<IncidentSummary> page, byte[] encoded) throws IOException {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            mapper.writeValueAsBytes(page);
+        }
+        long avgMicros = (System.nanoTime() - start) / MEASURED_ROUNDS / 1_000;
+
+        System.out.printf("%-5s raw=%6d B  gzip=%6d B  encode=%4d us/page%n",
+                name, encoded.length, gzip(encoded).length, avgMicros);
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static Page<IncidentSummary> samplePage() {
+        IncidentStatus[] statuses = IncidentStatus.values();
+        List<IncidentSummary> content = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            content.add(new IncidentSummary(
+                    (long) i + 1,
+                    "Projector not working in Room " + (200 + i),
+                    statuses[i % statuses.length],
+                    (i % 4) + 1,
+                    i % 7 == 0,
+                    "Equipment Failure",
+                    i % 3 == 0 ? null : "John Smith",
+                    now.minusHours(i * 3L),
+                    now.minusHours(i)));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 500);
+    }
+}
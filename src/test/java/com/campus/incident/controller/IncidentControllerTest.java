@@ -1,15 +1,27 @@
 package com.campus.incident.controller;
 
+import com.campus.incident.config.ContentNegotiationConfig;
 import com.campus.incident.config.SecurityConfig;
+import com.campus.incident.dto.IncidentSummary;
 import com.campus.incident.config.DataInitializer;
 import com.campus.incident.entity.IncidentStatus;
 import com.campus.incident.entity.IncidentReport;
 import com.campus.incident.entity.User;
 import com.campus.incident.entity.UserRole;
+import com.campus.incident.idempotency.IdempotencyCache;
+import com.campus.incident.idempotency.IdempotencyProperties;
+import com.campus.incident.perf.PerfProperties;
+import com.campus.incident.perf.RequestLatencies;
+import com.campus.incident.ratelimit.RateLimitProperties;
+import com.campus.incident.ratelimit.RateLimiter;
 import com.campus.incident.repository.UserRepository;
 import com.campus.incident.repository.IncidentCategoryRepository;
 import com.campus.incident.repository.IncidentReportRepository;
 import com.campus.incident.service.IncidentService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -18,17 +30,29 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.AuditorAware; // ⬅️ IMPORT FOR THE FIX
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext; // ⬅️ IMPORT TO MOCK JPA METAMODEL
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(
@@ -38,7 +62,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
                 type = FilterType.ASSIGNABLE_TYPE,
                 classes = DataInitializer.class)
 )
-@Import({SecurityConfig.class}) // Loads the security rules
+@Import({SecurityConfig.class, ContentNegotiationConfig.class}) // Loads the security rules and binary encodings
 public class IncidentControllerTest {
 
     @Autowired
@@ -57,6 +81,20 @@ public class IncidentControllerTest {
     @MockBean
     private IncidentReportRepository incidentRepository;
 
+    // RateLimitFilter, IdempotencyFilter and LatencyFilter are picked up by the MVC slice; mocked properties leave them disabled
+    @MockBean
+    private RateLimiter rateLimiter;
+    @MockBean
+    private RateLimitProperties rateLimitProperties;
+    @MockBean
+    private IdempotencyCache idempotencyCache;
+    @MockBean
+    private IdempotencyProperties idempotencyProperties;
+    @MockBean
+    private RequestLatencies requestLatencies;
+    @MockBean
+    private PerfProperties perfProperties;
+
     // 💥 THE FIX: Mock the AuditorAware bean to bypass JPA Auditing initialization failure!
     @MockBean
     private AuditorAware<String> auditorAware;
@@ -110,4 +148,90 @@ public class IncidentControllerTest {
                         .param("status", "UNDER_REVIEW"))
                 .andExpect(status().isOk()); // Expect HTTP 200 OK
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "reporter", roles = {"REPORTER"})
+    void whenUnknownFieldRequested_thenIsBadRequest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/incidents")
+                        .param("fields", "id,status,passwordHash"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(incidentService);
+    }
+
+    @Test
+    void whenBasicCredentialsAreValid_thenRequestIsAuthenticated() throws Exception {
+        stubBasicLogin();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/incidents/user-info")
+                        .with(httpBasic("maintenance", "correct-password")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.username").value("maintenance"))
+                .andExpect(jsonPath("$.role").value("MAINTENANCE"));
+    }
+
+    @Test
+    void whenBasicPasswordIsWrong_thenIsUnauthorized() throws Exception {
+        stubBasicLogin();
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/api/incidents/user-info")
+                        .with(httpBasic("maintenance", "wrong-password")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(username = "reporter", roles = {"REPORTER"})
+    void whenBinaryEncodingIsAccepted_thenIncidentPageIsEncodedWithIt() throws Exception {
+        stubIncidentPage();
+
+        assertThat(firstTitle(MediaType.valueOf("application/cbor"), new CBORMapper()))
+                .isEqualTo("Projector not working");
+        assertThat(firstTitle(MediaType.valueOf("application/x-jackson-smile"), new SmileMapper()))
+                .isEqualTo("Projector not working");
+    }
+
+    @Test
+    @WithMockUser(username = "reporter", roles = {"REPORTER"})
+    void whenNoBinaryEncodingIsAccepted_thenIncidentPageFallsBackToJson() throws Exception {
+        stubIncidentPage();
+
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/incidents")
+                        .accept(MediaType.APPLICATION_JSON, MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+        JsonNode page = new ObjectMapper().readTree(result.getResponse().getContentAsByteArray());
+        assertThat(page.path("content").path(0).path("title").asText()).isEqualTo("Projector not working");
+    }
+
+    // HTTP Basic goes through SecurityConfig's credential checker, backed here by the mocked repository and encoder
+    private void stubBasicLogin() {
+        User maintenanceUser = new User();
+        maintenanceUser.setUsername("maintenance");
+        maintenanceUser.setPassword("encoded-password");
+        maintenanceUser.setRole(UserRole.MAINTENANCE);
+        when(userRepository.findByUsername("maintenance")).thenReturn(Optional.of(maintenanceUser));
+        when(passwordEncoder.matches("correct-password", "encoded-password")).thenReturn(true);
+    }
+
+    private void stubIncidentPage() {
+        User reporter = new User();
+        reporter.setUsername("reporter");
+        reporter.setRole(UserRole.REPORTER);
+        when(userRepository.findByUsername("reporter")).thenReturn(Optional.of(reporter));
+
+        IncidentSummary summary = new IncidentSummary(1L, "Projector not working", IncidentStatus.REPORTED, 2, false,
+                "Equipment Failure", null, LocalDateTime.now(), LocalDateTime.now());
+        when(incidentService.getIncidentsWithFilters(any(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(),
+                isNull(), anyBoolean(), any(User.class))).thenReturn(new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1));
+    }
+
+    private String firstTitle(MediaType encoding, ObjectMapper decoder) throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get("/api/incidents").accept(encoding))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(encoding))
+                .andReturn();
+        JsonNode page = decoder.readTree(result.getResponse().getContentAsByteArray());
+        return page.path("content").path(0).path("title").asText();
+    }
+}
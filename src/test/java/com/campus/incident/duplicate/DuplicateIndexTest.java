@@ -0,0 +1,50 @@
+package com.campus.incident.duplicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DuplicateIndexTest {
+
+    private DuplicateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new DuplicateIndex();
+        index.put(1L, "Burst pipe flooding corridor",
+                "Water pipe burst near the stairs and the corridor is flooding", "Science Building 2nd floor");
+        index.put(2L, "Projector not working",
+                "Projector in lecture hall shows no signal", "Main Hall room 101");
+    }
+
+    @Test
+    void whenSameProblemIsReportedAgain_thenOriginalIsReturned() {
+        List<DuplicateMatch> matches = index.findDuplicates("Burst pipe flooding corridor",
+                "Pipe burst near the stairs, corridor flooding with water", "Science Building 2nd floor", 0.4, 5);
+
+        assertThat(matches).extracting(DuplicateMatch::getIncidentId).containsExactly(1L);
+        assertThat(matches.get(0).getSimilarity()).isGreaterThanOrEqualTo(0.4);
+    }
+
+    @Test
+    void whenUnrelatedProblemIsReported_thenNothingIsReturned() {
+        List<DuplicateMatch> matches = index.findDuplicates("Broken window",
+                "Window glass cracked in the library", "Library ground floor", 0.4, 5);
+
+        assertThat(matches).isEmpty();
+    }
+
+    @Test
+    void whenIncidentIsRemoved_thenItIsNoLongerMatched() {
+        index.remove(1L);
+
+        List<DuplicateMatch> matches = index.findDuplicates("Burst pipe flooding corridor",
+                "Water pipe burst near the stairs and the corridor is flooding", "Science Building 2nd floor", 0.4, 5);
+
+        assertThat(matches).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
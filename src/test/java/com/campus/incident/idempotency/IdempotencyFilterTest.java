@@ -0,0 +1,160 @@
+package com.campus.incident.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class IdempotencyFilterTest {
+
+    private IdempotencyFilter filter;
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyProperties properties = new IdempotencyProperties();
+        IdempotencyCache cache = new IdempotencyCache();
+        ReflectionTestUtils.setField(cache, "properties", properties);
+        filter = new IdempotencyFilter();
+        ReflectionTestUtils.setField(filter, "cache", cache);
+        ReflectionTestUtils.setField(filter, "properties", properties);
+    }
+
+    @Test
+    void whenRequestIsRetried_thenStoredResponseIsReplayed() throws Exception {
+        MockHttpServletResponse first = perform("key-1", createIncident(null));
+        MockHttpServletResponse retry = perform("key-1", createIncident(null));
+
+        assertThat(executions.get()).isEqualTo(1);
+        assertThat(retry.getStatus()).isEqualTo(201);
+        assertThat(retry.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(retry.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+
+        perform("key-2", createIncident(null));
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void whenResponseIsServerError_thenRetryExecutesAgain() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        };
+        perform("key-1", failing);
+        perform("key-1", failing);
+
+        assertThat(executions.get()).isEqualTo(2);
+    }
+
+    @Test
+    void whenDuplicatesArriveConcurrently_thenTheyShareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<MockHttpServletResponse> leader = executor.submit(() -> perform("key-1", createIncident(release)));
+            while (executions.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<MockHttpServletResponse> duplicate = executor.submit(() -> perform("key-1", createIncident(release)));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+            assertThat(duplicate.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"id\":1}");
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void whenKeyIsReusedWithDifferentPayload_thenItIsRejected() throws Exception {
+        perform("key-1", "{\"title\":\"Leak\"}", createIncident(null));
+        MockHttpServletResponse same = perform("key-1", "{\"title\":\"Leak\"}", createIncident(null));
+        MockHttpServletResponse different = perform("key-1", "{\"title\":\"Fire\"}", createIncident(null));
+
+        assertThat(same.getStatus()).isEqualTo(201);
+        assertThat(different.getStatus()).isEqualTo(422);
+        assertThat(executions.get()).isEqualTo(1);
+    }
+
+    @Test
+    void whenLeaderThrows_thenOnlyOneWaiterRunsAgain() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain failsFirst = (request, response) -> {
+            if (executions.get() == 0) {
+                executions.incrementAndGet();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IllegalStateException("Database unavailable");
+            }
+            createIncident(null).doFilter(request, response);
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<MockHttpServletResponse> leader = executor.submit(() -> perform("key-1", failsFirst));
+            while (executions.get() == 0) {
+                Thread.onSpinWait();
+            }
+            Future<MockHttpServletResponse> first = executor.submit(() -> perform("key-1", failsFirst));
+            Future<MockHttpServletResponse> second = executor.submit(() -> perform("key-1", failsFirst));
+            Thread.sleep(50);
+            release.countDown();
+
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseInstanceOf(IllegalStateException.class);
+            assertThat(first.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"id\":2}");
+            assertThat(second.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"id\":2}");
+            assertThat(executions.get()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private FilterChain createIncident(CountDownLatch release) {
+        return (request, response) -> {
+            int id = executions.incrementAndGet();
+            if (release != null) {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setContentType("application/json");
+            http.getWriter().write("{\"id\":" + id + "}");
+        };
+    }
+
+    private MockHttpServletResponse perform(String key, FilterChain chain) throws Exception {
+        return perform(key, "{}", chain);
+    }
+
+    private MockHttpServletResponse perform(String key, String body, FilterChain chain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/incidents");
+        request.addHeader(IdempotencyFilter.KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
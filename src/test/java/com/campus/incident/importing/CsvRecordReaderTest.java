@@ -0,0 +1,38 @@
+package com.campus.incident.importing;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class CsvRecordReaderTest {
+
+    @Test
+    void whenFieldsAreQuoted_thenCommasQuotesAndLineBreaksAreKept() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "title,description\r\n\"Leak, library\",\"Staff said \"\"urgent\"\"\nsecond line\"\nLights,Out\n"));
+
+        assertThat(reader.next()).containsExactly("title", "description");
+        assertThat(reader.next()).containsExactly("Leak, library", "Staff said \"urgent\"\nsecond line");
+        assertThat(reader.getRecordLine()).isEqualTo(2);
+        assertThat(reader.next()).containsExactly("Lights", "Out");
+        assertThat(reader.getRecordLine()).isEqualTo(4);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void whenQuoteIsNotClosed_thenReadFails() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("title,\"unterminated"));
+
+        assertThrows(IOException.class, reader::next);
+    }
+
+    @Test
+    void fieldNamesAreNormalized() {
+        assertThat(IncidentImporter.normalizeKey("Assigned_To")).isEqualTo("assignedto");
+        assertThat(IncidentImporter.normalizeKey("priority-level")).isEqualTo("prioritylevel");
+    }
+}
@@ -0,0 +1,136 @@
+package com.campus.incident.importing;
+
+import com.campus.incident.repository.IncidentCategoryRepository;
+import com.campus.incident.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Posts NDJSON to the import endpoint and checks both the streamed report and what was committed
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {"incident.import.chunk-size=2", "incident.import.max-errors=4"})
+class IncidentImporterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private IncidentCategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void whenOneChunkFails_thenOtherChunksAreKeptAndEveryRejectionIsReported() throws Exception {
+        // Arrange: chunks are lines 1-2, 4-5 (5 has an over-long title) and 6; line 3 never parses
+        Long equipmentId = categoryRepository.findByName("Equipment Failure").orElseThrow().getId();
+        String body = String.join("\n",
+                "{\"title\":\"Chunked A\",\"description\":\"d\",\"category\":\"facility maintenance\","
+                        + "\"reporter\":\"admin\",\"status\":\"resolved\",\"createdAt\":\"2023-01-05T08:00:00\","
+                        + "\"updatedAt\":\"2023-01-09T10:00:00\",\"actualResolutionDate\":\"2023-01-08T12:00:00\"}",
+                "{\"title\":\"Chunked B\",\"description\":\"d\",\"categoryId\":" + equipmentId + "}",
+                "{\"title\":\"Chunked C\",\"description\":\"d\",\"category\":\"No Such Category\"}",
+                "{\"title\":\"Chunked D\",\"description\":\"d\",\"category\":\"Facility Maintenance\"}",
+                "{\"title\":\"Chunked E" + "x".repeat(300) + "\",\"description\":\"d\",\"category\":\"Facility Maintenance\"}",
+                "{\"title\":\"Chunked F\",\"description\":\"d\",\"category\":\"Facility Maintenance\"}");
+
+        // Act
+        List<JsonNode> report = importNdjson(body);
+
+        // Assert: the stream
+        assertThat(report).filteredOn(line -> line.get("type").asText().equals("error"))
+                .extracting(line -> line.get("line").asInt(), line -> line.get("message").asText().substring(0, 17))
+                .containsExactly(
+                        tuple(3, "Unknown category:"),
+                        tuple(4, "Chunk of 2 record"));
+        JsonNode summary = report.get(report.size() - 1);
+        assertThat(summary.get("type").asText()).isEqualTo("summary");
+        assertThat(summary.get("processed").asInt()).isEqualTo(6);
+        assertThat(summary.get("imported").asInt()).isEqualTo(3);
+        assertThat(summary.get("failed").asInt()).isEqualTo(3);
+        assertThat(summary.get("chunks").asInt()).isEqualTo(3);
+        assertThat(summary.get("aborted").asBoolean()).isFalse();
+
+        // Assert: the rows, with references resolved by name and id and the legacy timestamps kept
+        Long facilityId = categoryRepository.findByName("Facility Maintenance").orElseThrow().getId();
+        Long adminId = userRepository.findByUsername("admin").orElseThrow().getId();
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT title, category_id, reporter_id, status, created_at, updated_at FROM incident_reports " +
+                "WHERE title LIKE 'Chunked %' ORDER BY title");
+        assertThat(rows).extracting(row -> row.get("TITLE"), row -> ((Number) row.get("CATEGORY_ID")).longValue())
+                .containsExactly(
+                        tuple("Chunked A", facilityId),
+                        tuple("Chunked B", equipmentId),
+                        tuple("Chunked F", facilityId));
+        Map<String, Object> legacy = rows.get(0);
+        assertThat(((Number) legacy.get("REPORTER_ID")).longValue()).isEqualTo(adminId);
+        assertThat(legacy.get("STATUS")).isEqualTo("RESOLVED");
+        assertThat(legacy.get("CREATED_AT")).isEqualTo(Timestamp.valueOf("2023-01-05 08:00:00"));
+        assertThat(legacy.get("UPDATED_AT")).isEqualTo(Timestamp.valueOf("2023-01-09 10:00:00"));
+    }
+
+    @Test
+    void whenRejectionsReachMaxErrors_thenTheImportStopsReading() throws Exception {
+        // Arrange: max-errors is 4, so the valid record after the fourth bad line is never read
+        String body = String.join("\n",
+                "not json",
+                "[\"not an object\"]",
+                "{\"title\":\"Aborted A\",\"description\":\"d\"}",
+                "{\"title\":\"Aborted B\",\"description\":\"d\",\"category\":\"Facility Maintenance\",\"priority\":9}",
+                "{\"title\":\"Aborted C\",\"description\":\"d\",\"category\":\"Facility Maintenance\"}");
+
+        // Act
+        List<JsonNode> report = importNdjson(body);
+
+        // Assert
+        assertThat(report).filteredOn(line -> line.get("type").asText().equals("error"))
+                .extracting(line -> line.get("line").asInt())
+                .containsExactly(1, 2, 3, 4);
+        JsonNode summary = report.get(report.size() - 1);
+        assertThat(summary.get("processed").asInt()).isEqualTo(4);
+        assertThat(summary.get("imported").asInt()).isZero();
+        assertThat(summary.get("aborted").asBoolean()).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM incident_reports WHERE title LIKE 'Aborted %'", Long.class)).isZero();
+    }
+
+    private List<JsonNode> importNdjson(String body) throws Exception {
+        String response = mockMvc.perform(post("/api/admin/incidents/import")
+                        .contentType(ImportFormat.NDJSON_VALUE)
+                        .content(body)
+                        .with(httpBasic("admin", "admin123")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : response.split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,82 @@
+package com.campus.incident.jfr;
+
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.User;
+import com.campus.incident.repository.IncidentCategoryRepository;
+import com.campus.incident.repository.UserRepository;
+import com.campus.incident.service.IncidentService;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+// Records the custom events around real service calls and reads them back from the dump
+@SpringBootTest
+@ActiveProfiles("test")
+class IncidentEventsTest {
+
+    @Autowired
+    private IncidentService incidentService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private IncidentCategoryRepository categoryRepository;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void whenIncidentIsCreatedAndMoved_thenLifecyclePermissionAndRepositoryEventsAreRecorded() throws Exception {
+        User admin = userRepository.findByUsername("admin").orElseThrow();
+        IncidentReport incident = new IncidentReport();
+        incident.setTitle("Projector flickering in Room 101");
+        incident.setDescription("Flickers every few seconds");
+        incident.setCategory(categoryRepository.findAll().get(0));
+
+        Path dump = directory.resolve("events.jfr");
+        Long id;
+        try (Recording recording = new Recording()) {
+            recording.enable(IncidentLifecycleEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(PermissionCheckEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(RepositoryCallEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            id = incidentService.createIncident(incident, admin).getId();
+            incidentService.updateIncidentStatus(id, IncidentStatus.UNDER_REVIEW, admin);
+            recording.stop();
+            recording.dump(dump);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+
+        assertThat(named(events, "campus.incident.Lifecycle"))
+                .extracting(e -> e.getString("operation"), e -> e.getLong("incidentId"), e -> e.getString("oldStatus"),
+                        e -> e.getString("newStatus"), e -> e.getString("username"))
+                .containsExactly(
+                        tuple("create", id, null, "REPORTED", "admin"),
+                        tuple("updateStatus", id, "REPORTED", "UNDER_REVIEW", "admin"));
+        assertThat(named(events, "campus.incident.PermissionCheck"))
+                .extracting(e -> e.getString("permission"), e -> e.getLong("incidentId"), e -> e.getString("username"),
+                        e -> e.getString("role"), e -> e.getBoolean("granted"))
+                .contains(tuple("update", id, "admin", "ADMIN", true));
+        assertThat(named(events, "campus.incident.RepositoryCall"))
+                .extracting(e -> e.getString("repository"), e -> e.getString("method"), e -> e.getBoolean("failed"))
+                .contains(tuple("IncidentReportRepository", "save", false));
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).toList();
+    }
+}
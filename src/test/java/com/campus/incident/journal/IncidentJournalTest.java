@@ -0,0 +1,121 @@
+package com.campus.incident.journal;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class IncidentJournalTest {
+
+    @TempDir
+    Path directory;
+
+    private JournalProperties properties;
+    private IncidentJournal journal;
+    private User worker;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        properties = new JournalProperties();
+        properties.setDirectory(directory.toString());
+        properties.setSegmentSizeBytes(IncidentJournal.MIN_SEGMENT_SIZE);
+        journal = open();
+
+        worker = new User();
+        worker.setId(7L);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        journal.close();
+    }
+
+    @Test
+    void whenEventsSpanSegments_thenReaderReplaysFromAnyOffsetInOrder() throws Exception {
+        String notes = "x".repeat(1000);
+        for (long id = 1; id <= 200; id++) {
+            journal.append(JournalEvent.statusChanged(id, IncidentStatus.ASSIGNED, IncidentStatus.IN_PROGRESS, worker, notes));
+        }
+        assertThat(countSegmentFiles()).isGreaterThan(1);
+
+        List<JournalEvent> all = journal.openReader(1).poll(1000);
+        assertThat(all).hasSize(200);
+        assertThat(all).extracting(JournalEvent::getSequence).isSorted().startsWith(1L).endsWith(200L);
+        assertThat(all.get(0).getActorId()).isEqualTo(7L);
+        assertThat(all.get(0).getToStatus()).isEqualTo(IncidentStatus.IN_PROGRESS);
+
+        JournalReader reader = journal.openReader(150);
+        assertThat(reader.poll(10)).extracting(JournalEvent::getIncidentId).startsWith(150L).hasSize(10);
+        assertThat(reader.getNextSequence()).isEqualTo(160L);
+    }
+
+    @Test
+    void whenTailIsTorn_thenRecoveryDropsItAndContinuesTheSequence() throws Exception {
+        journal.append(JournalEvent.logAdded(1L, "Time logged", worker));
+        journal.append(JournalEvent.logAdded(1L, "Cost logged", worker));
+        journal.close();
+
+        // Corrupt the second record's body, as if the process died mid-write
+        Path segment = directory.resolve(JournalSegment.fileName(1));
+        int secondRecord = JournalSegment.RECORD_HEADER + JournalEvent.FIXED_SIZE + "Time logged".length();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.seek(secondRecord + JournalSegment.RECORD_HEADER + 20);
+            file.write(0x5A);
+        }
+
+        journal = open();
+        assertThat(journal.getLastSequence()).isEqualTo(1L);
+        assertThat(journal.append(JournalEvent.logAdded(2L, "Materials used", worker))).isEqualTo(2L);
+        assertThat(journal.openReader(1).poll(10)).extracting(JournalEvent::getDetail)
+                .containsExactly("Time logged", "Materials used");
+    }
+
+    @Test
+    void whenReaderIsCaughtUp_thenPollWaitsForTheNextAppend() throws Exception {
+        JournalReader reader = journal.openReader(1);
+        assertThat(reader.poll(10)).isEmpty();
+
+        Thread writer = new Thread(() -> {
+            sleep(50);
+            journal.append(JournalEvent.deleted(3L, IncidentStatus.REPORTED, worker));
+        });
+        writer.start();
+
+        List<JournalEvent> events = reader.poll(10, 5, TimeUnit.SECONDS);
+        writer.join();
+        assertThat(events).extracting(JournalEvent::getType).containsExactly(JournalEventType.DELETED);
+    }
+
+    private IncidentJournal open() throws Exception {
+        IncidentJournal opened = new IncidentJournal();
+        ReflectionTestUtils.setField(opened, "properties", properties);
+        opened.open();
+        return opened;
+    }
+
+    private long countSegmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
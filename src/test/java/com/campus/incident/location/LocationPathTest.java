@@ -0,0 +1,36 @@
+package com.campus.incident.location;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LocationPathTest {
+
+    @Test
+    void whenFreeTextHasFloorAndArea_thenAllLevelsAreParsed() {
+        LocationPath path = LocationPath.parse("Science Building - Main Hallway, 1st Floor", "Main Campus");
+
+        assertThat(path.toString()).isEqualTo("Main Campus > Science Building > Floor 1 > Main Hallway");
+    }
+
+    @Test
+    void whenFreeTextHasRoomOnly_thenFloorIsUnspecified() {
+        LocationPath path = LocationPath.parse("Main Building - Room 201", "Main Campus");
+
+        assertThat(path.toString()).isEqualTo("Main Campus > Main Building > Unspecified Floor > Room 201");
+    }
+
+    @Test
+    void whenFloorAndAreaShareAPart_thenBothAreKept() {
+        LocationPath path = LocationPath.parse("Library - 2nd Floor Study Area, Chair #12", "Main Campus");
+
+        assertThat(path.toString()).isEqualTo("Main Campus > Library > Floor 2 > Study Area");
+    }
+
+    @Test
+    void whenPathIsAttached_thenItIsUsedAsIs() {
+        LocationPath path = LocationPath.parse("North Campus > Gym > Ground Floor", "Main Campus");
+
+        assertThat(path.getSegments()).containsExactly("North Campus", "Gym", "Ground Floor");
+    }
+}
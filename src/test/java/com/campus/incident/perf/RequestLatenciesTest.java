@@ -0,0 +1,109 @@
+package com.campus.incident.perf;
+
+import com.campus.incident.controller.IncidentController;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Drives LatencyFilter -> RouteInterceptor -> SqlStatementListener the way a
+// request does, without starting the web stack
+public class RequestLatenciesTest {
+
+    private PerfProperties properties;
+    private RequestLatencies latencies;
+    private LatencyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PerfProperties();
+        latencies = new RequestLatencies();
+        ReflectionTestUtils.setField(latencies, "properties", properties);
+        filter = new LatencyFilter();
+        ReflectionTestUtils.setField(filter, "latencies", latencies);
+        ReflectionTestUtils.setField(filter, "properties", properties);
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken("maintenance", null, "ROLE_MAINTENANCE"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void whenRequestIsHandled_thenItIsReportedUnderItsRouteTemplateAfterRotation() throws Exception {
+        // Act
+        handle("/api/incidents/7", 0, 0);
+        Map<String, Object> beforeRotation = routes();
+        latencies.rotate();
+
+        // Assert: keyed by template rather than by path, and only counted once the interval rotates
+        Map<?, ?> unrotated = (Map<?, ?>) beforeRotation.get("GET /api/incidents/{id}");
+        assertThat(((Map<?, ?>) unrotated.get("lastInterval")).get("count")).isEqualTo(0L);
+        Map<?, ?> route = (Map<?, ?>) routes().get("GET /api/incidents/{id}");
+        assertThat(((Map<?, ?>) route.get("lastInterval")).get("count")).isEqualTo(1L);
+        assertThat(((Map<?, ?>) route.get("total")).get("count")).isEqualTo(1L);
+        assertThat(latencies.getSlowRequests()).isEmpty();
+    }
+
+    @Test
+    void whenRequestExceedsTheThreshold_thenItIsLoggedWithRoleAndStatementCount() throws Exception {
+        // Arrange
+        properties.setSlowRequestThresholdMs(10);
+
+        // Act
+        handle("/api/incidents/7", 2, 20);
+
+        // Assert
+        List<Map<String, Object>> slow = latencies.getSlowRequests();
+        assertThat(slow).hasSize(1);
+        assertThat(slow.get(0))
+                .containsEntry("method", "GET")
+                .containsEntry("route", "/api/incidents/{id}")
+                .containsEntry("status", 200)
+                .containsEntry("role", "MAINTENANCE")
+                .containsEntry("sqlStatements", 2);
+        assertThat((Long) slow.get(0).get("durationMs")).isGreaterThanOrEqualTo(10L);
+    }
+
+    // Runs one GET through the filter; the "handler" executes the given number of statements then waits
+    private void handle(String uri, int statements, long sleepMs) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", uri);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/incidents/{id}");
+        HandlerMethod handler = new HandlerMethod(new IncidentController(),
+                IncidentController.class.getMethod("getIncident", Long.class));
+        SqlStatementListener listener = new SqlStatementListener();
+
+        FilterChain chain = (req, res) -> {
+            new RouteInterceptor().preHandle(request, (MockHttpServletResponse) res, handler);
+            for (int i = 0; i < statements; i++) {
+                listener.jdbcExecuteStatementStart();
+                listener.jdbcExecuteStatementEnd();
+            }
+            try {
+                Thread.sleep(sleepMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> routes() {
+        return (Map<String, Object>) latencies.getLatencies().get("routes");
+    }
+}
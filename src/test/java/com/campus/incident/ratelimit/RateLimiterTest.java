@@ -0,0 +1,115 @@
+package com.campus.incident.ratelimit;
+
+import com.campus.incident.entity.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RateLimiterTest {
+
+    private static final int WARMUP_CHECKS = 2_000_000;
+    private static final int MEASURED_CHECKS = 5_000_000;
+
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        Map<UserRole, RateLimitProperties.Budget> submit = new EnumMap<>(UserRole.class);
+        submit.put(UserRole.REPORTER, new RateLimitProperties.Budget(3, 1));
+        properties.getBudgets().put(EndpointGroup.SUBMIT, submit);
+
+        rateLimiter = new RateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "properties", properties);
+    }
+
+    @Test
+    void whenBurstIsExhausted_thenRequestIsRejectedWithRetryAfter() {
+        for (int i = 2; i >= 0; i--) {
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(EndpointGroup.SUBMIT, "reporter", UserRole.REPORTER);
+            assertThat(decision.isAllowed()).isTrue();
+            assertThat(decision.getRemaining()).isEqualTo(i);
+        }
+
+        RateLimiter.Decision rejected = rateLimiter.tryAcquire(EndpointGroup.SUBMIT, "reporter", UserRole.REPORTER);
+        assertThat(rejected.isAllowed()).isFalse();
+        assertThat(rejected.getLimit()).isEqualTo(3);
+        assertThat(rejected.getRetryAfterSeconds()).isBetween(1L, 60L);
+
+        // Budgets are per principal and per endpoint group
+        assertThat(rateLimiter.tryAcquire(EndpointGroup.SUBMIT, "other", UserRole.REPORTER).isAllowed()).isTrue();
+        assertThat(rateLimiter.tryAcquire(EndpointGroup.SEARCH, "reporter", UserRole.REPORTER).isLimited()).isFalse();
+    }
+
+    @Test
+    void whenMapIsFull_thenNewPrincipalsShareAnOverflowBucket() {
+        properties.setMaxBuckets(2);
+        rateLimiter.tryAcquire(EndpointGroup.SUBMIT, "a", UserRole.REPORTER);
+        rateLimiter.tryAcquire(EndpointGroup.SUBMIT, "b", UserRole.REPORTER);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(EndpointGroup.SUBMIT, "c" + i, UserRole.REPORTER).isAllowed()).isTrue();
+        }
+        assertThat(rateLimiter.tryAcquire(EndpointGroup.SUBMIT, "d", UserRole.REPORTER).isAllowed()).isFalse();
+        assertThat(rateLimiter.size()).isEqualTo(3);
+    }
+
+    // GCRA timing, driven with explicit clock values: 3 burst, one token per second
+    @Test
+    void whenTimePasses_thenTokensRefillAtTheSustainedRateUpToCapacity() {
+        TokenBucket bucket = new TokenBucket(3, 60);
+        long second = 1_000_000_000L;
+        long start = 42 * second;
+
+        assertThat(bucket.tryAcquire(start)).isEqualTo(2);
+        assertThat(bucket.tryAcquire(start)).isEqualTo(1);
+        assertThat(bucket.tryAcquire(start)).isEqualTo(0);
+        assertThat(bucket.tryAcquire(start)).isEqualTo(-second);
+        assertThat(bucket.tryAcquire(start + second / 2)).isEqualTo(-second / 2);
+
+        // One interval later exactly one token is back
+        assertThat(bucket.tryAcquire(start + second)).isEqualTo(0);
+        assertThat(bucket.tryAcquire(start + second)).isNegative();
+
+        // A long pause refills the bucket to its burst size, never beyond it
+        assertThat(bucket.idleSince(start + 60 * second, 30 * second)).isTrue();
+        assertThat(bucket.tryAcquire(start + 60 * second)).isEqualTo(2);
+    }
+
+    // Average cost of an allowed check across 1,000 principals; printed, and asserted under a microsecond.
+    // Wall-clock bound, so opt-in only:
+    //   mvn test -Dtest=RateLimiterTest -Dbenchmark=true
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void checkOverheadIsBelowOneMicrosecond() {
+        properties.getBudgets().get(EndpointGroup.SUBMIT)
+                .put(UserRole.ADMIN, new RateLimitProperties.Budget(Integer.MAX_VALUE / 2, 60_000));
+        String[] principals = new String[1_000];
+        for (int i = 0; i < principals.length; i++) {
+            principals[i] = "user" + i;
+        }
+
+        long allowed = 0;
+        for (int i = 0; i < WARMUP_CHECKS; i++) {
+            allowed += rateLimiter.tryAcquire(EndpointGroup.SUBMIT, principals[i % principals.length], UserRole.ADMIN)
+                    .isAllowed() ? 1 : 0;
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_CHECKS; i++) {
+            allowed += rateLimiter.tryAcquire(EndpointGroup.SUBMIT, principals[i % principals.length], UserRole.ADMIN)
+                    .isAllowed() ? 1 : 0;
+        }
+        double nanosPerCheck = (double) (System.nanoTime() - start) / MEASURED_CHECKS;
+
+        System.out.printf("rate limit check: %.1f ns%n", nanosPerCheck);
+        assertThat(allowed).isEqualTo(WARMUP_CHECKS + MEASURED_CHECKS);
+        assertThat(nanosPerCheck).isLessThan(1_000.0);
+    }
+}
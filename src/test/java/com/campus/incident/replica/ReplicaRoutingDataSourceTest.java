@@ -0,0 +1,123 @@
+package com.campus.incident.replica;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private JdbcDataSource primary;
+    private JdbcDataSource replica;
+    private ReplicaLagGuard guard;
+    private ReplicaHeartbeat heartbeat;
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("replica-test-primary");
+        replica = h2("replica-test-replica");
+        guard = new ReplicaLagGuard(60_000);
+        heartbeat = new ReplicaHeartbeat(primary, replica, guard);
+        heartbeat.createTable();
+        routing = new ReplicaRoutingDataSource(primary, replica, guard);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("DROP ALL OBJECTS");
+        new JdbcTemplate(replica).execute("DROP ALL OBJECTS");
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void whenReplicaHasNotReportedIn_thenReadsStayOnThePrimary() throws Exception {
+        heartbeat.beat();
+
+        assertThat(readAs("alice")).isEqualTo("primary");
+    }
+
+    @Test
+    void whenReplicaIsCurrent_thenOnlyReadOnlyTransactionsUseIt() throws Exception {
+        replicate();
+
+        assertThat(readAs("alice")).isEqualTo("replica");
+        assertThat(writeAs("alice")).isEqualTo("primary");
+    }
+
+    @Test
+    void whenUserHasWritten_thenTheirReadsStayOnThePrimaryUntilReplicated() throws Exception {
+        replicate();
+        writeAs("alice");
+
+        assertThat(readAs("alice")).isEqualTo("primary");
+        assertThat(readAs("bob")).isEqualTo("replica");
+
+        Thread.sleep(2);
+        replicate();
+
+        assertThat(readAs("alice")).isEqualTo("replica");
+        assertThat(guard.pinnedPrincipals()).isZero();
+    }
+
+    @Test
+    void whenReplicaLagsBehindTheBound_thenReadsFallBackToThePrimary() throws Exception {
+        guard = new ReplicaLagGuard(0);
+        guard.recordReplicated(System.currentTimeMillis() - 1_000);
+        routing = new ReplicaRoutingDataSource(primary, replica, guard);
+
+        assertThat(readAs("alice")).isEqualTo("primary");
+    }
+
+    // Replication stand-in: ships the primary's heartbeat row to the replica
+    private void replicate() {
+        heartbeat.beat();
+        JdbcTemplate target = new JdbcTemplate(replica);
+        target.execute("CREATE TABLE IF NOT EXISTS replication_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        target.update("DELETE FROM replication_heartbeat");
+        List<Long> beats = new JdbcTemplate(primary).queryForList(
+                "SELECT beat_at FROM replication_heartbeat WHERE id = 1", Long.class);
+        target.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", beats.get(0));
+        heartbeat.beat();
+    }
+
+    private String readAs(String username) throws Exception {
+        return inTransaction(username, true);
+    }
+
+    private String writeAs(String username) throws Exception {
+        return inTransaction(username, false);
+    }
+
+    private String inTransaction(String username, boolean readOnly) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+        try (Connection connection = routing.getConnection()) {
+            String url = connection.getMetaData().getURL();
+            TransactionSynchronizationUtils.triggerAfterCommit();
+            return url.contains("replica-test-replica") ? "replica" : "primary";
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        return dataSource;
+    }
+}
@@ -1,18 +1,35 @@
 package com.campus.incident.repository;
 
+import com.campus.incident.dispatch.ClaimTicket;
+import com.campus.incident.dto.IncidentField;
+import com.campus.incident.dto.IncidentGroupSummary;
+import com.campus.incident.dto.IncidentSummary;
+import com.campus.incident.dto.TimelineCursor;
+import com.campus.incident.dto.TimelineEntry;
+import com.campus.incident.entity.ArchivedIncidentReport;
 import com.campus.incident.entity.IncidentReport;
 import com.campus.incident.entity.IncidentStatus;
 import com.campus.incident.entity.User;
 import com.campus.incident.entity.UserRole;
 import com.campus.incident.entity.IncidentCategory;
+import com.campus.incident.workflow.WorkflowSnapshot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -22,6 +39,12 @@ public class IncidentReportRepositoryTest {
     @Autowired
     private IncidentReportRepository incidentRepository;
 
+    @Autowired
+    private IncidentArchiveRepository archiveRepository;
+
+    @Autowired
+    private IncidentViewRepository viewRepository;
+
     @Autowired
     private TestEntityManager entityManager;
 
@@ -88,4 +111,338 @@ public class IncidentReportRepositoryTest {
         // Assert
         assertThat(activeCount).isEqualTo(2); // REPORTED, IN_PROGRESS
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenFindAllSummaries_thenNamesAreProjectedInOneQuery() {
+        // Arrange
+        incidentRepository.save(createIncident("Broken AC Unit", IncidentStatus.REPORTED));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        Page<IncidentSummary> page = incidentRepository.findAllSummaries(PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent().get(0).getTitle()).isEqualTo("Broken AC Unit");
+        assertThat(page.getContent().get(0).getCategoryName()).isEqualTo("Facility Maintenance");
+        assertThat(page.getContent().get(0).getAssigneeName()).isNull();
+    }
+
+    @Test
+    void whenFindProjected_thenOnlyRequestedFieldsAreReturned() {
+        // Arrange
+        incidentRepository.save(createIncident("Leaking Pipe", IncidentStatus.REPORTED));
+        incidentRepository.save(createIncident("Flickering Light", IncidentStatus.REPORTED));
+        entityManager.flush();
+
+        // Act
+        Page<Map<String, Object>> page = incidentRepository.findProjected(
+                EnumSet.of(IncidentField.ID, IncidentField.TITLE, IncidentField.CATEGORY_NAME),
+                IncidentSpecifications.matchesSearch("Pipe"),
+                PageRequest.of(0, 10));
+
+        // Assert
+        assertThat(page.getTotalElements()).isEqualTo(1);
+        assertThat(page.getContent().get(0)).containsOnlyKeys("id", "title", "categoryName");
+        assertThat(page.getContent().get(0).get("categoryName")).isEqualTo("Facility Maintenance");
+    }
+
+    @Test
+    void whenIncidentIsClaimedTwice_thenOnlyFirstClaimSucceeds() {
+        // Arrange
+        User worker = new User();
+        worker.setUsername("testworker");
+        worker.setPassword("encodedpassword");
+        worker.setRole(UserRole.MAINTENANCE);
+        worker.setFullName("Test Worker");
+        worker.setActive(true);
+        entityManager.persist(worker);
+        IncidentReport low = incidentRepository.save(createIncident("Dripping Tap", IncidentStatus.REPORTED));
+        IncidentReport high = createIncident("Gas Smell", IncidentStatus.UNDER_REVIEW);
+        high.setPriorityLevel(5);
+        incidentRepository.save(high);
+        entityManager.flush();
+
+        // Act
+        List<ClaimTicket> tickets = incidentRepository.findClaimTickets(PageRequest.of(0, 10));
+        int first = incidentRepository.claimIfUnassigned(high.getId(), worker, LocalDateTime.now());
+        int second = incidentRepository.claimIfUnassigned(high.getId(), worker, LocalDateTime.now());
+
+        // Assert
+        assertThat(tickets).extracting(ClaimTicket::getIncidentId).containsExactly(high.getId(), low.getId());
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+    }
+
+    @Test
+    void whenParentStatusIsPropagated_thenOpenChildrenFollowInBulk() {
+        // Arrange
+        IncidentReport parent = incidentRepository.save(createIncident("Power outage", IncidentStatus.RESOLVED));
+        IncidentReport open = createIncident("No power in library", IncidentStatus.RESOLVED);
+        open.setParent(parent);
+        incidentRepository.save(open);
+        IncidentReport cancelled = createIncident("Lights out in gym", IncidentStatus.CANCELLED);
+        cancelled.setParent(parent);
+        incidentRepository.save(cancelled);
+        entityManager.flush();
+
+        // Act
+        LocalDateTime now = LocalDateTime.now();
+        Set<IncidentStatus> allowedFrom = allowedInto(IncidentStatus.CLOSED);
+        int inserted = incidentRepository.insertChildStatusUpdates(parent.getId(), IncidentStatus.CLOSED, allowedFrom,
+                reporter, "Power restored", "Propagated from parent incident #" + parent.getId(), now);
+        int moved = incidentRepository.moveChildrenToResolvedStatus(parent.getId(), IncidentStatus.CLOSED, allowedFrom,
+                now, now);
+        entityManager.clear();
+
+        // Assert
+        assertThat(inserted).isEqualTo(1);
+        assertThat(moved).isEqualTo(1);
+        assertThat(incidentRepository.findById(open.getId()).get().getStatus()).isEqualTo(IncidentStatus.CLOSED);
+        assertThat(incidentRepository.findById(open.getId()).get().getStatusUpdates()).hasSize(1);
+        IncidentGroupSummary group = incidentRepository.findGroupSummary(parent.getId());
+        assertThat(group.getChildCount()).isEqualTo(2);
+        assertThat(group.getOpenChildCount()).isZero();
+        assertThat(incidentRepository.existsByParentId(parent.getId())).isTrue();
+        assertThat(incidentRepository.existsByParentId(open.getId())).isFalse();
+    }
+
+    @Test
+    void whenParentMovesToAnEarlierOrLaterStatus_thenOnlyChildrenWithALegalTransitionFollow() {
+        // Arrange
+        IncidentReport parent = incidentRepository.save(createIncident("Roof leak", IncidentStatus.UNDER_REVIEW));
+        IncidentReport resolved = createIncident("Wet ceiling tiles", IncidentStatus.RESOLVED);
+        IncidentReport working = createIncident("Bucket under leak", IncidentStatus.IN_PROGRESS);
+        IncidentReport reviewing = createIncident("Damp carpet", IncidentStatus.UNDER_REVIEW);
+        IncidentReport onHold = createIncident("Stained wall", IncidentStatus.ON_HOLD);
+        for (IncidentReport child : List.of(resolved, working, reviewing, onHold)) {
+            child.setParent(parent);
+            incidentRepository.save(child);
+        }
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Act: the parent goes (back) to ASSIGNED
+        Set<IncidentStatus> toAssigned = allowedInto(IncidentStatus.ASSIGNED);
+        List<Object[]> moving = incidentRepository.countOpenChildrenByCategoryAndPriority(parent.getId(), toAssigned);
+        int inserted = incidentRepository.insertChildStatusUpdates(parent.getId(), IncidentStatus.ASSIGNED, toAssigned,
+                reporter, null, "Propagated from parent incident #" + parent.getId(), now);
+        int moved = incidentRepository.moveChildrenToStatus(parent.getId(), IncidentStatus.ASSIGNED, toAssigned, now);
+        // ...and later straight to RESOLVED, which ON_HOLD children may not follow
+        Set<IncidentStatus> toResolved = allowedInto(IncidentStatus.RESOLVED);
+        List<Object[]> resolving = incidentRepository.findOpenChildStatuses(parent.getId(), toResolved);
+        entityManager.clear();
+
+        // Assert
+        assertThat(moving).hasSize(1);
+        assertThat(((Number) moving.get(0)[2]).longValue()).isEqualTo(1);
+        assertThat(inserted).isEqualTo(1);
+        assertThat(moved).isEqualTo(1);
+        assertThat(incidentRepository.findById(reviewing.getId()).get().getStatus()).isEqualTo(IncidentStatus.ASSIGNED);
+        assertThat(incidentRepository.findById(resolved.getId()).get().getStatus()).isEqualTo(IncidentStatus.RESOLVED);
+        assertThat(incidentRepository.findById(resolved.getId()).get().getStatusUpdates()).isEmpty();
+        assertThat(incidentRepository.findById(working.getId()).get().getStatus()).isEqualTo(IncidentStatus.IN_PROGRESS);
+        assertThat(incidentRepository.findById(onHold.getId()).get().getStatus()).isEqualTo(IncidentStatus.ON_HOLD);
+        assertThat(resolving).extracting(row -> row[0]).containsExactly(working.getId());
+    }
+
+    @Test
+    void whenStatusChanges_thenTimeInPreviousStatusIsStoredAndSummed() {
+        // Arrange
+        IncidentReport parent = incidentRepository.save(createIncident("Flooded basement", IncidentStatus.IN_PROGRESS));
+        IncidentReport child = createIncident("Water in storage room", IncidentStatus.IN_PROGRESS);
+        child.setParent(parent);
+        incidentRepository.save(child);
+        entityManager.flush();
+        LocalDateTime now = LocalDateTime.now();
+        setTime("IncidentReport", "statusChangedAt", parent.getId(), now.minusMinutes(90));
+        setTime("IncidentReport", "statusChangedAt", child.getId(), now.minusMinutes(30));
+        entityManager.clear();
+
+        // Act
+        IncidentReport loaded = incidentRepository.findById(parent.getId()).get();
+        loaded.applyStatus(IncidentStatus.RESOLVED, reporter, "Pumped out");
+        entityManager.flush();
+        Set<IncidentStatus> allowedFrom = allowedInto(IncidentStatus.RESOLVED);
+        List<Object[]> leaving = incidentRepository.sumOpenChildTimeInStatus(parent.getId(), allowedFrom, now);
+        incidentRepository.insertChildStatusUpdates(parent.getId(), IncidentStatus.RESOLVED, allowedFrom, reporter,
+                null, "Propagated from parent incident #" + parent.getId(), now);
+        entityManager.clear();
+
+        // Assert
+        assertThat(leaving).hasSize(1);
+        assertThat(leaving.get(0)[0]).isEqualTo(IncidentStatus.IN_PROGRESS);
+        assertThat(((Number) leaving.get(0)[2]).longValue()).isEqualTo(1800);
+        assertThat(incidentRepository.findById(child.getId()).get().getStatusUpdates().get(0)
+                .getTimeInPreviousStatusSeconds()).isEqualTo(1800);
+
+        Map<IncidentStatus, Long> sums = new EnumMap<>(IncidentStatus.class);
+        for (Object[] row : incidentRepository.sumTimeInStatus()) {
+            sums.put((IncidentStatus) row[0], ((Number) row[2]).longValue());
+        }
+        // 90 minutes for the parent plus 30 for the child
+        assertThat(sums.get(IncidentStatus.IN_PROGRESS)).isBetween(7200L, 7260L);
+    }
+
+    @Test
+    void whenOldClosedIncidentIsArchived_thenOnlyIncludeArchivedReadsSeeIt() {
+        // Arrange
+        IncidentReport old = createIncident("Old broken window", IncidentStatus.CLOSED);
+        old.addResolutionLog("Closed", "Window replaced", reporter);
+        LocalDateTime pausedAt = LocalDateTime.now().minusYears(2).withNano(0);
+        old.setSlaPausedAt(pausedAt);
+        old.setStatusChangedAt(pausedAt.plusDays(3));
+        old.setEstimatedResolutionDate(pausedAt.plusDays(1));
+        old.setActualResolutionDate(pausedAt.plusDays(2));
+        incidentRepository.save(old);
+        IncidentReport recent = createIncident("Recent broken window", IncidentStatus.CLOSED);
+        recent.setEstimatedResolutionDate(LocalDateTime.now().plusDays(1));
+        recent.setActualResolutionDate(LocalDateTime.now());
+        incidentRepository.save(recent);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE IncidentReport ir SET ir.updatedAt = :old WHERE ir.id = :id")
+                .setParameter("old", LocalDateTime.now().minusYears(2))
+                .setParameter("id", old.getId())
+                .executeUpdate();
+
+        // Act
+        List<Long> ids = archiveRepository.findArchivableIds(LocalDateTime.now().minusYears(1), Pageable.ofSize(10));
+        int copied = archiveRepository.copyIncidents(ids, LocalDateTime.now());
+        int logs = archiveRepository.copyResolutionLogs(ids);
+        archiveRepository.deleteResolutionLogs(ids);
+        archiveRepository.deleteStatusUpdates(ids);
+        archiveRepository.deleteIncidents(ids);
+        entityManager.clear();
+
+        // Assert
+        assertThat(ids).containsExactly(old.getId());
+        assertThat(copied).isEqualTo(1);
+        assertThat(logs).isEqualTo(1);
+        assertThat(incidentRepository.searchSummaries("broken window", PageRequest.of(0, 10)).getTotalElements())
+                .isEqualTo(1);
+        Page<IncidentSummary> all = incidentRepository.findSummariesIncludingArchived(null, "broken window",
+                PageRequest.of(0, 10, Sort.by("title")));
+        assertThat(all.getTotalElements()).isEqualTo(2);
+        assertThat(all.getContent()).extracting(IncidentSummary::getTitle)
+                .containsExactly("Old broken window", "Recent broken window");
+        assertThat(all.getContent().get(0).getCategoryName()).isEqualTo("Facility Maintenance");
+        ArchivedIncidentReport archived = archiveRepository.findById(old.getId()).orElseThrow();
+        assertThat(archived.getSlaPausedAt()).isEqualTo(pausedAt);
+        assertThat(archived.getStatusChangedAt()).isEqualTo(pausedAt.plusDays(3));
+        // SLA totals: the archived incident breached, the hot one met its deadline
+        assertThat(incidentRepository.countSlaOutcomesByCategory())
+                .singleElement()
+                .satisfies(row -> {
+                    assertThat(((Number) row[0]).longValue()).isEqualTo(category.getId());
+                    assertThat(((Number) row[1]).longValue()).isEqualTo(1L);
+                    assertThat(((Number) row[2]).longValue()).isEqualTo(1L);
+                });
+    }
+
+    @Test
+    void whenIncidentIsProjected_thenViewCarriesNamesCountsAndOverdueFlag() {
+        // Arrange
+        User worker = new User();
+        worker.setUsername("worker");
+        worker.setPassword("encodedpassword");
+        worker.setRole(UserRole.MAINTENANCE);
+        worker.setFullName("Maintenance Worker");
+        worker.setActive(true);
+        entityManager.persist(worker);
+
+        IncidentReport late = createIncident("Leaking roof", IncidentStatus.ASSIGNED);
+        late.setAssignedTo(worker);
+        late.setEstimatedResolutionDate(LocalDateTime.now().minusDays(1));
+        late.addResolutionLog("Incident assigned", "Assigned to worker", reporter);
+        late.addResolutionLog("Materials used", "Tarp", worker);
+        late.applyStatus(IncidentStatus.ASSIGNED, reporter, null);
+        incidentRepository.save(late);
+        IncidentReport onTime = incidentRepository.save(createIncident("Squeaky door", IncidentStatus.REPORTED));
+        entityManager.flush();
+
+        // Act
+        int projected = viewRepository.projectAll(LocalDateTime.now());
+        entityManager.clear();
+
+        // Assert
+        assertThat(projected).isEqualTo(2);
+        List<IncidentSummary> overdue = viewRepository.findOverdueSummaries();
+        assertThat(overdue).extracting(IncidentSummary::getId).containsExactly(late.getId());
+        IncidentSummary row = overdue.get(0);
+        assertThat(row.getCategoryName()).isEqualTo("Facility Maintenance");
+        assertThat(row.getAssigneeName()).isEqualTo("Maintenance Worker");
+        assertThat(row.getResolutionLogCount()).isEqualTo(2);
+        assertThat(row.getStatusUpdateCount()).isEqualTo(1);
+
+        // Re-projecting a deleted incident by id leaves no row behind
+        incidentRepository.deleteById(onTime.getId());
+        entityManager.flush();
+        viewRepository.deleteByIds(List.of(onTime.getId()));
+        assertThat(viewRepository.projectIncidents(List.of(onTime.getId()), LocalDateTime.now())).isZero();
+        assertThat(viewRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void whenTimelineIsPaged_thenLogsAndStatusUpdatesInterleaveByTimeWithoutGaps() {
+        // Arrange: logs and status changes alternate, with one exact timestamp tie and one long note
+        String longNotes = "Water reached the electrical panel. ".repeat(60);
+        IncidentReport incident = createIncident("Flooded basement", IncidentStatus.REPORTED);
+        incidentRepository.save(incident);
+        LocalDateTime start = LocalDateTime.now().minusHours(1).withNano(0);
+        for (int i = 0; i < 5; i++) {
+            incident.addResolutionLog("Log " + i, "Note " + i, reporter);
+            incident.applyStatus(i % 2 == 0 ? IncidentStatus.UNDER_REVIEW : IncidentStatus.REPORTED, reporter, "Status " + i);
+        }
+        incidentRepository.save(incident);
+        entityManager.flush();
+        for (int i = 0; i < 5; i++) {
+            setTime("ResolutionLog", "performedAt", incident.getResolutionLogs().get(i).getId(), start.plusMinutes(2 * i));
+            setTime("StatusUpdate", "updatedAt", incident.getStatusUpdates().get(i).getId(),
+                    start.plusMinutes(i == 4 ? 8 : 2 * i + 1));
+        }
+        // Bulk writes skip bean validation, so stored notes can be longer than the entity allows
+        entityManager.getEntityManager()
+                .createQuery("UPDATE ResolutionLog e SET e.notes = :notes WHERE e.id = :id")
+                .setParameter("notes", longNotes)
+                .setParameter("id", incident.getResolutionLogs().get(0).getId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // Act: walk the timeline three entries at a time
+        List<TimelineEntry> walked = new java.util.ArrayList<>();
+        TimelineCursor cursor = null;
+        for (int pageCount = 0; pageCount < 10; pageCount++) {
+            List<TimelineEntry> page = incidentRepository.findTimeline(incident.getId(), cursor, 3);
+            walked.addAll(page);
+            if (page.size() < 3) {
+                break;
+            }
+            cursor = TimelineCursor.decode(TimelineCursor.after(page.get(2)).encode());
+        }
+
+        // Assert
+        assertThat(walked).hasSize(10);
+        assertThat(walked).extracting(TimelineEntry::getTimestamp).isSorted();
+        assertThat(walked.subList(0, 3)).extracting(TimelineEntry::getKind)
+                .containsExactly(TimelineEntry.Kind.LOG, TimelineEntry.Kind.STATUS, TimelineEntry.Kind.LOG);
+        assertThat(walked.get(1).getNewStatus()).isEqualTo(IncidentStatus.UNDER_REVIEW);
+        assertThat(walked.get(0).getActorName()).isEqualTo("Test Reporter");
+        assertThat(walked.get(0).getNotes()).isEqualTo(longNotes);
+        assertThat(walked).extracting(TimelineEntry::getNotes).doesNotHaveDuplicates();
+    }
+
+    // Statuses the default workflow lets an administrator move into the given status
+    private static Set<IncidentStatus> allowedInto(IncidentStatus status) {
+        return WorkflowSnapshot.builtIn().getDefaultWorkflow().sourcesOf(UserRole.ADMIN, status);
+    }
+
+    private void setTime(String entity, String property, Long id, LocalDateTime time) {
+        entityManager.getEntityManager()
+                .createQuery("UPDATE " + entity + " e SET e." + property + " = :time WHERE e.id = :id")
+                .setParameter("time", time)
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,61 @@
+package com.campus.incident.resolution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TDigestTest {
+
+    @Test
+    void whenMonthlySketchesAreMerged_thenQuantilesMatchTheExactDistribution() {
+        Random random = new Random(42);
+        int samples = 120_000;
+        double[] exact = new double[samples];
+        TDigest[] months = new TDigest[12];
+        for (int i = 0; i < months.length; i++) {
+            months[i] = new TDigest();
+        }
+        for (int i = 0; i < samples; i++) {
+            // Exponential resolution times with a 10 hour mean
+            double minutes = -Math.log(1 - random.nextDouble()) * 600;
+            exact[i] = minutes;
+            months[i % months.length].add(minutes);
+        }
+        Arrays.sort(exact);
+
+        TDigest merged = new TDigest();
+        for (TDigest month : months) {
+            merged.merge(month);
+        }
+
+        assertThat(merged.size()).isEqualTo(samples);
+        assertThat(merged.mean()).isCloseTo(Arrays.stream(exact).average().orElseThrow(), within(0.01));
+        assertThat(merged.quantile(0)).isEqualTo(exact[0]);
+        assertThat(merged.quantile(1)).isEqualTo(exact[samples - 1]);
+        for (double q : new double[] {0.5, 0.9, 0.99}) {
+            double expected = exact[(int) (q * samples)];
+            assertThat(merged.quantile(q)).isCloseTo(expected, within(expected * 0.01));
+        }
+    }
+
+    @Test
+    void whenSerialized_thenDigestIsCompactAndRoundTrips() {
+        TDigest digest = new TDigest();
+        for (int i = 1; i <= 50_000; i++) {
+            digest.add(i);
+        }
+
+        byte[] bytes = digest.toBytes();
+        TDigest restored = TDigest.fromBytes(bytes);
+
+        assertThat(bytes.length).isLessThan(2048);
+        assertThat(restored.size()).isEqualTo(50_000);
+        assertThat(restored.min()).isEqualTo(1);
+        assertThat(restored.max()).isEqualTo(50_000);
+        assertThat(restored.quantile(0.9)).isCloseTo(45_000, within(100.0));
+    }
+}
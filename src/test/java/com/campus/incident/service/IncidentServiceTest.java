@@ -1,24 +1,45 @@
 package com.campus.incident.service;
 
+import com.campus.incident.assignment.AssignmentProperties;
+import com.campus.incident.assignment.WorkloadBalancer;
+import com.campus.incident.dispatch.ClaimQueue;
+import com.campus.incident.dispatch.ClaimTicket;
+import com.campus.incident.duplicate.DuplicateIndex;
+import com.campus.incident.duplicate.DuplicateProperties;
 import com.campus.incident.entity.IncidentReport;
 import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.StatusUpdate;
 import com.campus.incident.entity.User;
 import com.campus.incident.entity.UserRole;
+import com.campus.incident.journal.IncidentJournal;
+import com.campus.incident.location.LocationIndex;
+import com.campus.incident.readmodel.IncidentViewProjector;
 import com.campus.incident.repository.IncidentReportRepository;
+import com.campus.incident.repository.IncidentViewRepository;
 import com.campus.incident.repository.UserRepository;
+import com.campus.incident.resolution.ResolutionTimeStore;
 import com.campus.incident.service.impl.IncidentServiceImpl;
+import com.campus.incident.sla.SlaEngine;
+import com.campus.incident.timeinstatus.TimeInStatusStats;
+import com.campus.incident.trend.TrendStore;
+import com.campus.incident.workflow.WorkflowEngine;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +54,48 @@ public class IncidentServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private WorkflowEngine workflowEngine = new WorkflowEngine();
+
+    @Mock
+    private WorkloadBalancer workloadBalancer;
+
+    @Mock
+    private AssignmentProperties assignmentProperties;
+
+    @Mock
+    private ClaimQueue claimQueue;
+
+    @Mock
+    private DuplicateIndex duplicateIndex;
+
+    @Mock
+    private DuplicateProperties duplicateProperties;
+
+    @Mock
+    private LocationIndex locationIndex;
+
+    @Mock
+    private TrendStore trendStore;
+
+    @Mock
+    private IncidentJournal journal;
+
+    @Mock
+    private IncidentViewRepository viewRepository;
+
+    @Mock
+    private IncidentViewProjector readModel;
+
+    @Mock
+    private SlaEngine slaEngine;
+
+    @Mock
+    private ResolutionTimeStore resolutionTimes;
+
+    @Mock
+    private TimeInStatusStats timeInStatus;
+
     private User adminUser;
     private IncidentReport incident;
 
@@ -80,4 +143,59 @@ public class IncidentServiceTest {
 
         verify(incidentRepository, never()).save(any()); // Verify save was never called
     }
-}
\ No newline at end of file
+
+    @Test
+    void whenNewIncidentIsAutoAssigned_thenItMovesThroughReviewOnceAsTheReporter() {
+        // Arrange
+        User worker = new User();
+        worker.setId(2L);
+        worker.setUsername("worker");
+        worker.setRole(UserRole.MAINTENANCE);
+        WorkloadBalancer.Worker leastLoaded = mock(WorkloadBalancer.Worker.class);
+        when(leastLoaded.getUserId()).thenReturn(2L);
+        when(leastLoaded.getUsername()).thenReturn("worker");
+        when(assignmentProperties.isAutoAssign()).thenReturn(true);
+        when(workloadBalancer.assignLeastLoaded(any(), anyInt())).thenReturn(leastLoaded);
+        when(userRepository.getReferenceById(2L)).thenReturn(worker);
+        when(incidentRepository.save(any(IncidentReport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        IncidentReport created = incidentService.createIncident(incident, adminUser);
+
+        // Assert: REPORTED -> UNDER_REVIEW -> ASSIGNED, each recorded once and by the reporter
+        assertThat(created.getStatus()).isEqualTo(IncidentStatus.ASSIGNED);
+        assertThat(created.getAssignedTo()).isSameAs(worker);
+        assertThat(created.getStatusUpdates())
+                .extracting(StatusUpdate::getPreviousStatus, StatusUpdate::getNewStatus, StatusUpdate::getUpdatedBy)
+                .containsExactly(
+                        tuple(IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW, adminUser),
+                        tuple(IncidentStatus.UNDER_REVIEW, IncidentStatus.ASSIGNED, adminUser));
+    }
+
+    @Test
+    void whenReportedIncidentIsClaimed_thenItIsAssignedThroughReviewAndWorkCanStart() {
+        // Arrange
+        User worker = new User();
+        worker.setId(2L);
+        worker.setUsername("worker");
+        worker.setRole(UserRole.MAINTENANCE);
+        when(claimQueue.poll()).thenReturn(new ClaimTicket(100L, 1, LocalDateTime.now()));
+        when(incidentRepository.claimIfUnassigned(eq(100L), eq(worker), any(LocalDateTime.class))).thenReturn(1);
+        when(incidentRepository.findById(100L)).thenReturn(Optional.of(incident));
+        when(incidentRepository.save(any(IncidentReport.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        IncidentReport claimed = incidentService.claimNextIncident(worker);
+        IncidentReport started = incidentService.startWork(100L, worker);
+
+        // Assert: the claim goes REPORTED -> UNDER_REVIEW -> ASSIGNED, so the worker can start right away
+        assertThat(claimed.getAssignedTo()).isSameAs(worker);
+        assertThat(started.getStatus()).isEqualTo(IncidentStatus.IN_PROGRESS);
+        assertThat(started.getStatusUpdates())
+                .extracting(StatusUpdate::getPreviousStatus, StatusUpdate::getNewStatus, StatusUpdate::getUpdatedBy)
+                .containsExactly(
+                        tuple(IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW, worker),
+                        tuple(IncidentStatus.UNDER_REVIEW, IncidentStatus.ASSIGNED, worker),
+                        tuple(IncidentStatus.ASSIGNED, IncidentStatus.IN_PROGRESS, worker));
+    }
+}
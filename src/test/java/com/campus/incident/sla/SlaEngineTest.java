@@ -0,0 +1,104 @@
+package com.campus.incident.sla;
+
+import com.campus.incident.entity.IncidentCategory;
+import com.campus.incident.entity.IncidentReport;
+import com.campus.incident.entity.IncidentStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlaEngineTest {
+
+    // A Friday
+    private static final LocalDateTime FRIDAY_4PM = LocalDateTime.of(2024, 3, 15, 16, 0);
+
+    private SlaEngine engine;
+    private IncidentCategory category;
+
+    @BeforeEach
+    void setUp() {
+        engine = new SlaEngine();
+        ReflectionTestUtils.setField(engine, "properties", new SlaProperties());
+        engine.init();
+
+        category = new IncidentCategory("Plumbing", "Leaks and blockages", 2);
+        category.setId(3L);
+        category.setEstimatedResolutionTimeHours(4);
+    }
+
+    @Test
+    void whenCreatedLateOnFriday_thenDeadlineSkipsTheWeekend() {
+        IncidentReport incident = incident(1, false);
+        engine.startClock(incident, FRIDAY_4PM);
+
+        // 2 working hours on Friday, 2 more from Monday 08:00
+        assertThat(incident.getEstimatedResolutionDate()).isEqualTo(LocalDateTime.of(2024, 3, 18, 10, 0));
+
+        IncidentReport urgent = incident(1, true);
+        engine.startClock(urgent, FRIDAY_4PM);
+
+        // Urgent incidents run on the always-open calendar at half the estimate
+        assertThat(urgent.getEstimatedResolutionDate()).isEqualTo(FRIDAY_4PM.plusHours(2));
+    }
+
+    @Test
+    void whenPutOnHold_thenRemainingWorkingTimeIsKeptUntilResumed() {
+        IncidentReport incident = incident(1, false);
+        LocalDateTime mondayMorning = LocalDateTime.of(2024, 3, 18, 9, 0);
+        engine.startClock(incident, mondayMorning);
+        assertThat(incident.getEstimatedResolutionDate()).isEqualTo(mondayMorning.plusHours(4));
+
+        incident.setStatus(IncidentStatus.ON_HOLD);
+        engine.applyStatusChange(incident, IncidentStatus.IN_PROGRESS, IncidentStatus.ON_HOLD, mondayMorning.plusHours(3));
+        assertThat(incident.getSlaPausedAt()).isEqualTo(mondayMorning.plusHours(3));
+        assertThat(incident.isOverdue()).isFalse();
+
+        // One working hour was left; resumed Tuesday 10:00
+        incident.setStatus(IncidentStatus.IN_PROGRESS);
+        engine.applyStatusChange(incident, IncidentStatus.ON_HOLD, IncidentStatus.IN_PROGRESS,
+                LocalDateTime.of(2024, 3, 19, 10, 0));
+        assertThat(incident.getEstimatedResolutionDate()).isEqualTo(LocalDateTime.of(2024, 3, 19, 11, 0));
+        assertThat(incident.getSlaPausedAt()).isNull();
+    }
+
+    @Test
+    void whenTimePasses_thenClocksMoveThroughBucketsAndBreachesAreCountedOnce() {
+        SlaTracker tracker = new SlaTracker(new long[] {3600, 4 * 3600});
+        LocalDateTime now = FRIDAY_4PM;
+
+        tracker.upsert(1L, 3L, now.plusHours(3), IncidentStatus.IN_PROGRESS, now);
+        tracker.upsert(2L, 3L, now.plusHours(10), IncidentStatus.ASSIGNED, now);
+        tracker.upsert(3L, 3L, now.plusHours(10), IncidentStatus.ON_HOLD, now);
+        SlaTracker.Counters counters = tracker.counters().get(3L);
+        assertThat(counters.buckets).containsExactly(0, 0, 1, 1);
+        assertThat(counters.paused).isEqualTo(1);
+
+        assertThat(tracker.advance(now.plusMinutes(150))).isEqualTo(1);
+        assertThat(counters.buckets).containsExactly(0, 1, 0, 1);
+
+        tracker.advance(now.plusHours(4));
+        assertThat(counters.buckets).containsExactly(1, 0, 0, 1);
+        assertThat(counters.breachedTotal).isEqualTo(1);
+
+        // Resolving late does not count the breach again; resolving in time counts as met
+        tracker.upsert(1L, 3L, now.plusHours(3), IncidentStatus.RESOLVED, now.plusHours(5));
+        tracker.upsert(1L, 3L, now.plusHours(3), IncidentStatus.CLOSED, now.plusHours(6));
+        tracker.upsert(2L, 3L, now.plusHours(10), IncidentStatus.RESOLVED, now.plusHours(6));
+        assertThat(counters.breachedTotal).isEqualTo(1);
+        assertThat(counters.metTotal).isEqualTo(1);
+        assertThat(counters.buckets).containsExactly(0, 0, 0, 0);
+        assertThat(tracker.size()).isEqualTo(1);
+    }
+
+    private IncidentReport incident(int priority, boolean urgent) {
+        IncidentReport incident = new IncidentReport("Leak", "Water on the floor", category);
+        incident.setPriorityLevel(priority);
+        incident.setUrgent(urgent);
+        incident.setStatus(IncidentStatus.IN_PROGRESS);
+        return incident;
+    }
+}
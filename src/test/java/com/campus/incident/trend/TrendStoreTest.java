@@ -0,0 +1,73 @@
+package com.campus.incident.trend;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.TrendGranularity;
+import com.campus.incident.entity.TrendRollup;
+import com.campus.incident.repository.TrendRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TrendStoreTest {
+
+    private static final LocalDateTime TEN_FIFTEEN = LocalDateTime.of(2024, 3, 4, 10, 15);
+
+    @InjectMocks
+    private TrendStore trendStore;
+
+    @Mock
+    private TrendRollupRepository rollupRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void whenEventsAreRecorded_thenRecentBucketsAreServedFromMemory() {
+        trendStore.record(TEN_FIFTEEN, TrendStore.key(3L, 2, IncidentStatus.REPORTED), 1);
+        trendStore.record(TEN_FIFTEEN.plusMinutes(20), TrendStore.key(3L, 2, IncidentStatus.REPORTED), 1);
+        trendStore.record(TEN_FIFTEEN.plusHours(1), TrendStore.key(4L, 5, IncidentStatus.ASSIGNED), 1);
+
+        List<Map<String, Object>> hourly = trendStore.query(TrendGranularity.HOUR,
+                TEN_FIFTEEN.minusHours(2), TEN_FIFTEEN.plusHours(3), null, null, null);
+        List<Map<String, Object>> daily = trendStore.query(TrendGranularity.DAY,
+                TEN_FIFTEEN.minusDays(1), TEN_FIFTEEN.plusDays(1), 3L, null, null);
+
+        assertThat(hourly).extracting(point -> point.get("total")).containsExactly(2L, 1L);
+        assertThat(daily).hasSize(1);
+        assertThat(daily.get(0).get("bucketStart")).isEqualTo(LocalDateTime.of(2024, 3, 4, 0, 0));
+        assertThat(daily.get(0).get("total")).isEqualTo(2L);
+    }
+
+    @Test
+    void whenFlushedTwice_thenOnlyNewCountsAreWritten() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        trendStore.record(TEN_FIFTEEN, TrendStore.key(3L, 2, IncidentStatus.REPORTED), 2);
+
+        trendStore.flush();
+        trendStore.flush();
+
+        verify(rollupRepository).addToCount(eq(TrendGranularity.HOUR), eq(LocalDateTime.of(2024, 3, 4, 10, 0)),
+                eq(3L), eq(2), eq(IncidentStatus.REPORTED), eq(2L));
+        verify(rollupRepository, times(2)).addToCount(any(), any(), any(), any(), any(), anyLong());
+        verify(rollupRepository, times(2)).save(any(TrendRollup.class));
+    }
+}
@@ -0,0 +1,72 @@
+package com.campus.incident.workflow;
+
+import com.campus.incident.entity.IncidentStatus;
+import com.campus.incident.entity.UserRole;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class WorkflowConfigParserTest {
+
+    private static final String DEFINITION = String.join("\n",
+            "workflows:",
+            "  default:",
+            "    transitions:",
+            "      REPORTED: [UNDER_REVIEW, CANCELLED]",
+            "      UNDER_REVIEW: [ASSIGNED, CANCELLED]",
+            "    roles:",
+            "      REPORTER: [CANCELLED]",
+            "  safety:",
+            "    transitions:",
+            "      REPORTED: [ASSIGNED]",
+            "categories:",
+            "  Safety Hazard: safety");
+
+    @Test
+    void whenRoleIsRestricted_thenOnlyItsTargetsAreAvailable() {
+        WorkflowSnapshot snapshot = WorkflowConfigParser.parse(stream(DEFINITION), "test");
+        CompiledWorkflow workflow = snapshot.getDefaultWorkflow();
+
+        assertThat(workflow.canTransition(UserRole.ADMIN, IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW)).isTrue();
+        assertThat(workflow.canTransition(UserRole.REPORTER, IncidentStatus.REPORTED, IncidentStatus.UNDER_REVIEW)).isFalse();
+        assertThat(workflow.availableTransitions(UserRole.REPORTER, IncidentStatus.REPORTED))
+                .containsExactly(IncidentStatus.CANCELLED);
+    }
+
+    @Test
+    void whenCategoryHasOwnWorkflow_thenItIsSelected() {
+        WorkflowSnapshot snapshot = WorkflowConfigParser.parse(stream(DEFINITION), "test");
+
+        assertThat(snapshot.forCategory("Safety Hazard")
+                .canTransition(UserRole.MAINTENANCE, IncidentStatus.REPORTED, IncidentStatus.ASSIGNED)).isTrue();
+        assertThat(snapshot.forCategory("IT Issues")
+                .canTransition(UserRole.MAINTENANCE, IncidentStatus.REPORTED, IncidentStatus.ASSIGNED)).isFalse();
+    }
+
+    @Test
+    void whenStatusIsUnknown_thenDefinitionIsRejected() {
+        String invalid = "workflows:\n  default:\n    transitions:\n      REPORTED: [DONE]\n";
+
+        assertThrows(IllegalStateException.class, () -> WorkflowConfigParser.parse(stream(invalid), "test"));
+    }
+
+    @Test
+    void builtInWorkflowMatchesStatusLifecycle() {
+        CompiledWorkflow workflow = WorkflowSnapshot.builtIn().getDefaultWorkflow();
+
+        for (IncidentStatus from : IncidentStatus.values()) {
+            for (IncidentStatus to : IncidentStatus.values()) {
+                assertThat(workflow.canTransition(UserRole.ADMIN, from, to)).isEqualTo(from.canTransitionTo(to));
+            }
+        }
+    }
+
+    private static InputStream stream(String yaml) {
+        return new ByteArrayInputStream(yaml.getBytes(StandardCharsets.UTF_8));
+    }
+}